@@ -6,7 +6,9 @@ import com.minecolonies.api.colony.permissions.IPermissions;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.colony.workorders.IWorkManager;
+import com.minecolonies.api.entity.ai.citizen.guards.IThreatIndex;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.entity.pathfinding.IPassabilitySnapshot;
 import com.minecolonies.api.research.IResearchManager;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -263,6 +265,20 @@ public interface IColony
 
     IProgressManager getProgressManager();
 
+    /**
+     * Get the passability snapshot shared by the pathfinding jobs of the colony.
+     *
+     * @return the snapshot, null on the client side.
+     */
+    IPassabilitySnapshot getPassabilitySnapshot();
+
+    /**
+     * Get the threat index shared by the guards of the colony.
+     *
+     * @return the index, null on the client side.
+     */
+    IThreatIndex getThreatIndex();
+
     /**
      * Add a visiting player.
      *
@@ -303,6 +319,11 @@ public interface IColony
      */
     long getMercenaryUseTime();
 
+    /**
+     * Get the save data of the colony, written again if the colony changed since the last call.
+     *
+     * @return the tag, must not be modified.
+     */
     CompoundNBT getColonyTag();
 
     boolean isNeedToMourn();
@@ -253,12 +253,20 @@ public interface IColonyManager
     void onClientTick(@NotNull TickEvent.ClientTickEvent event);
 
     /**
-     * On world tick, tick every Colony in that world. NOTE: Review this for performance.
+     * On world tick, tick the colonies in that world within the colony tick budget, colonies over the budget are deferred to the next tick.
      *
      * @param event {@link TickEvent.WorldTickEvent}.
      */
     void onWorldTick(@NotNull TickEvent.WorldTickEvent event);
 
+    /**
+     * Get the average time a tick of a colony takes, as measured by the colony tick scheduler.
+     *
+     * @param colony the colony.
+     * @return the average time in nanoseconds, 0 if not ticked yet.
+     */
+    long getAverageColonyTickNanos(@NotNull IColony colony);
+
     /**
      * When a world is loaded, Colonies in that world need to grab the reference to the World. Additionally, when loading the first world, load the manager data.
      *
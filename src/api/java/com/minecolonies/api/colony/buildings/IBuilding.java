@@ -12,6 +12,7 @@ import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
 import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolverProvider;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.crafting.ItemKey;
 import com.minecolonies.api.crafting.ItemStorage;
 import net.minecraft.block.Block;
 import net.minecraft.entity.player.PlayerEntity;
@@ -290,6 +291,17 @@ public interface IBuilding extends IBuildingContainer, IRequestResolverProvider,
      */
     <R extends IRequestable> IToken<?> createRequest(@NotNull ICitizenData citizenData, @NotNull R requested, boolean async);
 
+    /**
+     * Create many requests for a citizen at once and assign them in one pass.
+     *
+     * @param citizenData the data of the citizen.
+     * @param requested   the requests to create.
+     * @param async       if async or not.
+     * @param <R>         the type of the requests.
+     * @return the Tokens of the requests.
+     */
+    <R extends IRequestable> List<IToken<?>> createRequests(@NotNull ICitizenData citizenData, @NotNull List<R> requested, boolean async);
+
     /**
      * Create a request for the building.
      *
@@ -380,9 +392,9 @@ public interface IBuilding extends IBuildingContainer, IRequestResolverProvider,
 
     /**
      * Calculate the number of reserved stacks the resolver can't touch.
-     * @return a list of itemstorages.
+     * @return the reserved amounts by item key.
      */
-    Map<ItemStorage, Integer> reservedStacks();
+    Map<ItemKey, Integer> reservedStacks();
 
     /**
      * Open the right crafting container.
@@ -1,5 +1,6 @@
 package com.minecolonies.api.colony.buildings;
 
+import com.minecolonies.api.inventory.ContainerItemIndex;
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -58,6 +59,20 @@ public interface IBuildingContainer extends ICitizenAssignable, ICapabilityProvi
      */
     List<BlockPos> getContainers();
 
+    /**
+     * Get the index of the items stored in the containers of the building, brought up to date with the containers which changed since the last call.
+     *
+     * @return the index.
+     */
+    ContainerItemIndex getItemIndex();
+
+    /**
+     * Called when the content of one of the containers of the building changed.
+     *
+     * @param pos the position of the container.
+     */
+    void onContainerContentChanged(@NotNull BlockPos pos);
+
     /**
      * Register a blockState and position. We suppress this warning since this parameter will be used in child classes which override this method.
      *
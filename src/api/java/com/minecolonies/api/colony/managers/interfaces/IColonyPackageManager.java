@@ -73,6 +73,13 @@ public interface IColonyPackageManager
      */
     void addCloseSubscriber(@NotNull final ServerPlayerEntity subscriber);
 
+    /**
+     * Send a full colony view to a subscriber which missed an update.
+     *
+     * @param subscriber the subscriber.
+     */
+    void requestColonyViewResync(@NotNull final ServerPlayerEntity subscriber);
+
     /**
      * Adds a new global subscriber to the colony.
      *
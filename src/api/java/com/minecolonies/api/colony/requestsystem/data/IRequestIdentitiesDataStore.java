@@ -3,9 +3,22 @@ package com.minecolonies.api.colony.requestsystem.data;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 
+import java.util.Collection;
+import java.util.stream.Collectors;
+
 /**
  * The KV-Store for the requests and their identities. Extends the {@link IIdentitiesDataStore} with {@link IToken} as key type and {@link IRequest} as value type.
  */
 public interface IRequestIdentitiesDataStore extends IIdentitiesDataStore<IToken<?>, IRequest<?>>
 {
+    /**
+     * Get all requests made by a given requester.
+     *
+     * @param requesterId The id of the requester.
+     * @return The requests of the requester.
+     */
+    default Collection<IRequest<?>> getRequestsMadeByRequester(final IToken<?> requesterId)
+    {
+        return getIdentities().values().stream().filter(request -> request.getRequester().getId().equals(requesterId)).collect(Collectors.toList());
+    }
 }
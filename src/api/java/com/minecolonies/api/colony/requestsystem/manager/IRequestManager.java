@@ -21,7 +21,9 @@ import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.function.Predicate;
 
 /**
@@ -84,6 +86,61 @@ public interface IRequestManager extends INBTSerializable<CompoundNBT>, ITickabl
         return token;
     }
 
+    /**
+     * Method used to create many requests of the same requester at once. The requests are not assigned yet, see {@link #assignRequests(Collection)}.
+     *
+     * @param requester The requester of the requestables.
+     * @param objects   The requestables.
+     * @param <T>       The type of the requestables.
+     * @return The tokens representing the requests, in the order of the requestables.
+     * @throws IllegalArgumentException is thrown when this manager cannot produce a request for the given types.
+     */
+    @NotNull
+    default <T extends IRequestable> List<IToken<?>> createRequests(@NotNull IRequester requester, @NotNull Collection<T> objects) throws IllegalArgumentException
+    {
+        final List<IToken<?>> tokens = new ArrayList<>(objects.size());
+        for (final T object : objects)
+        {
+            tokens.add(createRequest(requester, object));
+        }
+        return tokens;
+    }
+
+    /**
+     * Method used to assign many requests in one pass. Requests which are no longer waiting for an assignment when their turn comes are skipped.
+     *
+     * @param tokens The tokens of the requests to assign.
+     * @throws IllegalArgumentException when a token is not registered to a request.
+     */
+    default void assignRequests(@NotNull Collection<IToken<?>> tokens) throws IllegalArgumentException
+    {
+        for (final IToken<?> token : tokens)
+        {
+            final IRequest<?> request = getRequestForToken(token);
+            if (request != null && request.getState() == RequestState.CREATED)
+            {
+                assignRequest(token);
+            }
+        }
+    }
+
+    /**
+     * Method used to create many requests of the same requester and assign them in one pass. All requests are created before the first one is assigned.
+     *
+     * @param requester The requester of the requestables.
+     * @param objects   The requestables.
+     * @param <T>       The type of the requestables.
+     * @return The tokens representing the requests, in the order of the requestables.
+     * @throws IllegalArgumentException when either createRequests or assignRequests have thrown an IllegalArgumentException
+     */
+    @NotNull
+    default <T extends IRequestable> List<IToken<?>> createAndAssignRequests(@NotNull IRequester requester, @NotNull Collection<T> objects) throws IllegalArgumentException
+    {
+        final List<IToken<?>> tokens = createRequests(requester, objects);
+        assignRequests(tokens);
+        return tokens;
+    }
+
     /**
      * Method used to reassign a given request.
      *
@@ -237,4 +294,26 @@ public interface IRequestManager extends INBTSerializable<CompoundNBT>, ITickabl
      * @param buffer     the {@link PacketBuffer} to deserialize from.
      */
     void deserialize(final IFactoryController controller, final PacketBuffer buffer);
+
+    /**
+     * Serialize the requests which changed since the last call to the given {@link PacketBuffer} and forget about them.
+     *
+     * @param controller the controller.
+     * @param buffer     the {@link PacketBuffer} to serialize to.
+     * @return false if the changes can't be described per request and nothing was written, the whole manager has to be serialized then.
+     */
+    boolean serializeChanges(final IFactoryController controller, final PacketBuffer buffer);
+
+    /**
+     * Apply the changes written by {@link #serializeChanges(IFactoryController, PacketBuffer)} from the given {@link PacketBuffer}.
+     *
+     * @param controller the controller.
+     * @param buffer     the {@link PacketBuffer} to deserialize from.
+     */
+    void deserializeChanges(final IFactoryController controller, final PacketBuffer buffer);
+
+    /**
+     * Forget about the requests which changed, when the whole manager was serialized or nobody needs the changes.
+     */
+    void clearChanges();
 }
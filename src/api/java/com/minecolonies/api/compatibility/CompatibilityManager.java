@@ -146,6 +146,22 @@ public class CompatibilityManager implements ICompatibilityManager
      */
     private final Set<BlockPos> freePositions = new HashSet<>();
 
+    /**
+     * Classification flags of every item, built on discovery.
+     */
+    private final Map<Item, Integer> itemClassifications = new IdentityHashMap<>();
+
+    /**
+     * Classification flags.
+     */
+    private static final int CLASS_MINEABLE_ORE = 1;
+    private static final int CLASS_SMELTABLE    = 1 << 1;
+    private static final int CLASS_FUEL         = 1 << 2;
+    private static final int CLASS_FOOD         = 1 << 3;
+    private static final int CLASS_EDIBLE       = 1 << 4;
+    private static final int CLASS_PLANTABLE    = 1 << 5;
+    private static final int CLASS_SAPLING      = 1 << 6;
+
     /**
      * Instantiates the compatibilityManager.
      */
@@ -174,8 +190,10 @@ public class CompatibilityManager implements ICompatibilityManager
         enchantments.clear();
         freeBlocks.clear();
         freePositions.clear();
+        itemClassifications.clear();
 
         discoverAllItems();
+        discoverItemClassifications();
 
         discoverSaplings();
         discoverOres();
@@ -218,7 +236,7 @@ public class CompatibilityManager implements ICompatibilityManager
     @Override
     public boolean isPlantable(final ItemStack itemStack)
     {
-        return !itemStack.isEmpty() && itemStack.getItem() instanceof BlockItem && ModTags.floristFlowers.contains(itemStack.getItem());
+        return !itemStack.isEmpty() && hasClassification(itemStack, CLASS_PLANTABLE);
     }
 
     @Override
@@ -327,49 +345,43 @@ public class CompatibilityManager implements ICompatibilityManager
     @Override
     public boolean isOre(@NotNull final ItemStack stack)
     {
-        if (isEmpty(stack))
-        {
-            return false;
-        }
-
-        if (stack.getItem().isIn(Tags.Items.ORES))
-        {
-            return !MinecoloniesAPIProxy.getInstance().getFurnaceRecipes().getSmeltingResult(stack).isEmpty();
-        }
+        return !isEmpty(stack) && hasClassification(stack, CLASS_MINEABLE_ORE | CLASS_SMELTABLE);
+    }
 
-        for (final ResourceLocation tag : stack.getItem().getTags())
-        {
-            if (tag.getPath().contains(ORE_STRING))
-            {
-                return !MinecoloniesAPIProxy.getInstance().getFurnaceRecipes().getSmeltingResult(stack).isEmpty();
-            }
-        }
+    @Override
+    public boolean isMineableOre(@NotNull final ItemStack stack)
+    {
+        return !isEmpty(stack) && hasClassification(stack, CLASS_MINEABLE_ORE);
+    }
 
-        return false;
+    @Override
+    public boolean isSmeltable(@NotNull final ItemStack stack)
+    {
+        return !isEmpty(stack) && hasClassification(stack, CLASS_SMELTABLE);
     }
 
     @Override
-    public boolean isMineableOre(@NotNull final ItemStack stack)
+    public boolean isFuel(@NotNull final ItemStack stack)
     {
-        if (isEmpty(stack))
-        {
-            return false;
-        }
+        return !isEmpty(stack) && hasClassification(stack, CLASS_FUEL);
+    }
 
-        if (stack.getItem().isIn(Tags.Items.ORES))
-        {
-            return true;
-        }
+    @Override
+    public boolean isFood(@NotNull final ItemStack stack)
+    {
+        return !isEmpty(stack) && hasClassification(stack, CLASS_FOOD);
+    }
 
-        for (final ResourceLocation tag : stack.getItem().getTags())
-        {
-            if (tag.getPath().contains(ORE_STRING))
-            {
-                return true;
-            }
-        }
+    @Override
+    public boolean isEdible(@NotNull final ItemStack stack)
+    {
+        return !isEmpty(stack) && hasClassification(stack, CLASS_EDIBLE);
+    }
 
-        return false;
+    @Override
+    public boolean isSapling(@NotNull final ItemStack stack)
+    {
+        return !isEmpty(stack) && hasClassification(stack, CLASS_SAPLING);
     }
 
     @Override
@@ -465,7 +477,7 @@ public class CompatibilityManager implements ICompatibilityManager
                 {
                     oreBlocks.add(((BlockItem) item.getItem()).getBlock());
                 }
-                if (!MinecoloniesAPIProxy.getInstance().getFurnaceRecipes().getSmeltingResult(new ItemStack((item))).isEmpty())
+                if (isSmeltable(new ItemStack(item)))
                 {
                     smeltableOres.add(new ItemStorage(new ItemStack(item)));
                 }
@@ -539,7 +551,7 @@ public class CompatibilityManager implements ICompatibilityManager
         {
             for(ItemStack item : allItems)
             {
-                if(FurnaceTileEntity.isFuel(item))
+                if(isFuel(item))
                 {
                     fuel.add(new ItemStorage(item));
                 }
@@ -557,10 +569,10 @@ public class CompatibilityManager implements ICompatibilityManager
         {
             for(ItemStack item : allItems)
             {
-                if(ISFOOD.test(item) || ISCOOKABLE.test(item))
+                if(isFood(item))
                 {
                     food.add(new ItemStorage(item));
-                    if(CAN_EAT.test(item))
+                    if(isEdible(item))
                     {
                         edibles.add(new ItemStorage(item));
                     }
@@ -570,6 +582,93 @@ public class CompatibilityManager implements ICompatibilityManager
         Log.getLogger().info("Finished discovering food");
     }
 
+    /**
+     * Classify every item once, so that the classification checks are a single lookup. Only stacks without nbt are memoized, as fuel and smelting results can depend on it.
+     */
+    private void discoverItemClassifications()
+    {
+        for (final ItemStack stack : allItems)
+        {
+            if (!stack.hasTag())
+            {
+                itemClassifications.put(stack.getItem(), classify(stack));
+            }
+        }
+        Log.getLogger().info("Finished classifying items");
+    }
+
+    /**
+     * Check if a stack has all of the given classification flags. Stacks with nbt and items unknown to the last discovery are classified on the fly.
+     *
+     * @param stack the stack to check.
+     * @param flags the flags.
+     * @return true if it has all of them.
+     */
+    private boolean hasClassification(@NotNull final ItemStack stack, final int flags)
+    {
+        final Integer classification = stack.hasTag() ? null : itemClassifications.get(stack.getItem());
+        return ((classification == null ? classify(stack) : classification) & flags) == flags;
+    }
+
+    /**
+     * Compute the classification flags of a stack.
+     *
+     * @param stack the stack.
+     * @return the flags.
+     */
+    private static int classify(@NotNull final ItemStack stack)
+    {
+        final Item item = stack.getItem();
+        int flags = 0;
+
+        if (item.isIn(Tags.Items.ORES))
+        {
+            flags |= CLASS_MINEABLE_ORE;
+        }
+        else
+        {
+            for (final ResourceLocation tag : item.getTags())
+            {
+                if (tag.getPath().contains(ORE_STRING))
+                {
+                    flags |= CLASS_MINEABLE_ORE;
+                    break;
+                }
+            }
+        }
+
+        if (!MinecoloniesAPIProxy.getInstance().getFurnaceRecipes().getSmeltingResult(stack).isEmpty())
+        {
+            flags |= CLASS_SMELTABLE;
+        }
+
+        if (FurnaceTileEntity.isFuel(stack))
+        {
+            flags |= CLASS_FUEL;
+        }
+
+        if (ISFOOD != null && (ISFOOD.test(stack) || ISCOOKABLE.test(stack)))
+        {
+            flags |= CLASS_FOOD;
+            if (CAN_EAT.test(stack))
+            {
+                flags |= CLASS_EDIBLE;
+            }
+        }
+
+        if (item instanceof BlockItem && ModTags.floristFlowers.contains(item))
+        {
+            flags |= CLASS_PLANTABLE;
+        }
+
+        if (item.isIn(ItemTags.SAPLINGS))
+        {
+            flags |= CLASS_SAPLING;
+        }
+
+        return flags;
+    }
+
     /**
      * Run through all blocks and check if they match one of our lucky oreBlocks.
      */
@@ -77,6 +77,46 @@ public interface ICompatibilityManager
      */
     boolean isMineableOre(@NotNull ItemStack stack);
 
+    /**
+     * Check if a stack can be smelted in a furnace.
+     *
+     * @param stack the stack to test.
+     * @return true if so.
+     */
+    boolean isSmeltable(@NotNull ItemStack stack);
+
+    /**
+     * Check if a stack can be burned as fuel.
+     *
+     * @param stack the stack to test.
+     * @return true if so.
+     */
+    boolean isFuel(@NotNull ItemStack stack);
+
+    /**
+     * Check if a stack is food, or can be cooked into food.
+     *
+     * @param stack the stack to test.
+     * @return true if so.
+     */
+    boolean isFood(@NotNull ItemStack stack);
+
+    /**
+     * Check if a stack is food citizens can eat without cooking it first.
+     *
+     * @param stack the stack to test.
+     * @return true if so.
+     */
+    boolean isEdible(@NotNull ItemStack stack);
+
+    /**
+     * Check if a stack is a sapling.
+     *
+     * @param stack the stack to test.
+     * @return true if so.
+     */
+    boolean isSapling(@NotNull ItemStack stack);
+
     /**
      * Get a copy of the list of compost recipes.
      *
@@ -60,6 +60,7 @@ public class ServerConfiguration extends AbstractConfiguration
     public final ForgeConfigSpec.IntValue     colonyLoadStrictness;
     public final ForgeConfigSpec.IntValue     badVisitorsChance;
     public final ForgeConfigSpec.BooleanValue generateSupplyLoot;
+    public final ForgeConfigSpec.IntValue     colonyTickBudget;
 
     /*  --------------------------------------------------------------------------- *
      *  ------------------- ######## Research settings ######## ------------------- *
@@ -151,6 +152,7 @@ public class ServerConfiguration extends AbstractConfiguration
     public final ForgeConfigSpec.IntValue     pathfindingDebugVerbosity;
     public final ForgeConfigSpec.IntValue     pathfindingMaxThreadCount;
     public final ForgeConfigSpec.IntValue     pathfindingMaxNodes;
+    public final ForgeConfigSpec.IntValue     pathfindingMaxQueuedJobs;
     public final ForgeConfigSpec.IntValue     minimumRailsToPath;
 
     /*  --------------------------------------------------------------------------------- *
@@ -213,6 +215,7 @@ public class ServerConfiguration extends AbstractConfiguration
         colonyLoadStrictness = defineInteger(builder, "colonyloadstrictness", 3, 1, 15);
         badVisitorsChance = defineInteger(builder, "badvisitorchance", 2, 1, 100);
         generateSupplyLoot = defineBoolean(builder, "generatesupplyloot", true);
+        colonyTickBudget = defineInteger(builder, "colonytickbudget", 10, 1, 50);
 
         swapToCategory(builder, "research");
         researchCreativeCompletion = defineBoolean(builder, "researchcreativecompletion", true);
@@ -613,6 +616,7 @@ public class ServerConfiguration extends AbstractConfiguration
         minimumRailsToPath = defineInteger(builder, "minimumrailstopath", 5, 5, 100);
         pathfindingMaxThreadCount = defineInteger(builder, "pathfindingmaxthreadcount", 2, 1, 10);
         pathfindingMaxNodes = defineInteger(builder, "pathfindingmaxnodes", 5000, 1, 10000);
+        pathfindingMaxQueuedJobs = defineInteger(builder, "pathfindingmaxqueuedjobs", 1000, 10, 100000);
 
         swapToCategory(builder, "requestSystem");
 
@@ -62,11 +62,11 @@ public interface IRecipeStorage
      * Also check if the inventory has enough to fulfill the existing requirements.
      *
      * @param qty         the quantity to craft.
-     * @param existingRequirements map of existing requirements (pending requests).
+     * @param existingRequirements map of existing requirements (pending requests), by the keys of the cleaned inputs.
      * @param inventories the inventories to check.
      * @return true if possible, else false.
      */
-    boolean canFullFillRecipe(final int qty, final Map<ItemStorage, Integer> existingRequirements, @NotNull final IItemHandler... inventories);
+    boolean canFullFillRecipe(final int qty, final Map<ItemKey, Integer> existingRequirements, @NotNull final IItemHandler... inventories);
 
     default boolean fullFillRecipe(@NotNull final World world, @NotNull final IItemHandler... inventories)
     {
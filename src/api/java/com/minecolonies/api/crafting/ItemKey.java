@@ -0,0 +1,336 @@
+package com.minecolonies.api.crafting;
+
+import com.minecolonies.api.util.ItemStackUtils;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable, interned key of an item type, to be used as key of item maps instead of {@link ItemStorage}.
+ * <p>
+ * The key holds the item, the damage and the nbt hash, computed once, so hashing it is cheap and only keys of the same item, damage and nbt hash ever get their nbt compared.
+ * Keys are interned, equal keys obtained through {@link #of(ItemStack, boolean, boolean)} are the same instance while any of them is referenced. Keys without damage and nbt
+ * are kept per item for good and are found without building or hashing anything, the other keys are looked up without locking and only a new key takes a copy of its stack.
+ * <p>
+ * Unlike {@link ItemStorage} a key is only equal to keys built with the same flags, a lookup ignoring the damage or nbt needs a map which also holds the relaxed keys of its
+ * items, see {@link #getRelaxedKeys()}.
+ */
+public final class ItemKey
+{
+    /**
+     * The interned keys with damage or nbt. The map key is a twin of the interned key sharing its stack, the interned key itself is only weakly referenced so that unused
+     * keys can be collected.
+     */
+    private static final Map<ItemKey, KeyReference> INTERNED = new ConcurrentHashMap<>();
+
+    /**
+     * Queue of the collected interned keys, their entries are removed on the next new key.
+     */
+    private static final ReferenceQueue<ItemKey> COLLECTED = new ReferenceQueue<>();
+
+    /**
+     * The keys without damage and nbt by item, indexed by the flags, see {@link #flagIndex(boolean, boolean)}.
+     */
+    private static final Map<Item, ItemKey[]> PLAIN = new ConcurrentHashMap<>();
+
+    /**
+     * The empty key.
+     */
+    public static final ItemKey EMPTY = new ItemKey(ItemStack.EMPTY, false, false);
+
+    /**
+     * The item.
+     */
+    private final Item item;
+
+    /**
+     * The damage, 0 if ignored.
+     */
+    private final int damage;
+
+    /**
+     * The nbt, null if ignored or missing.
+     */
+    @Nullable
+    private final CompoundNBT tag;
+
+    /**
+     * If the damage is ignored.
+     */
+    private final boolean ignoreDamage;
+
+    /**
+     * If the nbt is ignored.
+     */
+    private final boolean ignoreNBT;
+
+    /**
+     * The precomputed hash.
+     */
+    private final int hash;
+
+    /**
+     * A stack of the item type, must not be modified.
+     */
+    private final ItemStack stack;
+
+    /**
+     * The relaxed keys of this key, computed on first use.
+     */
+    private ItemKey[] relaxedKeys;
+
+    /**
+     * Create a key, not interned and not copying the stack.
+     *
+     * @param stack        the stack.
+     * @param ignoreDamage if the damage is ignored.
+     * @param ignoreNBT    if the nbt is ignored.
+     */
+    private ItemKey(@NotNull final ItemStack stack, final boolean ignoreDamage, final boolean ignoreNBT)
+    {
+        this.stack = stack;
+        this.item = stack.getItem();
+        this.ignoreDamage = ignoreDamage;
+        this.ignoreNBT = ignoreNBT;
+        this.damage = ignoreDamage || stack.isEmpty() ? 0 : stack.getDamage();
+        this.tag = ignoreNBT || stack.isEmpty() ? null : stack.getTag();
+        this.hash = Objects.hash(item, damage, tag, ignoreDamage, ignoreNBT);
+    }
+
+    /**
+     * Get the key of a stack, comparing item, damage and nbt.
+     *
+     * @param stack the stack.
+     * @return the interned key.
+     */
+    @NotNull
+    public static ItemKey of(@NotNull final ItemStack stack)
+    {
+        return of(stack, false, false);
+    }
+
+    /**
+     * Get the key of a storage, with the flags of the storage.
+     *
+     * @param storage the storage.
+     * @return the interned key.
+     */
+    @NotNull
+    public static ItemKey of(@NotNull final ItemStorage storage)
+    {
+        return of(storage.getItemStack(), storage.ignoreDamageValue(), storage.ignoreNBT());
+    }
+
+    /**
+     * Get the key of a stack. The stack is copied when a new key is interned, so it can be modified afterwards.
+     *
+     * @param stack        the stack.
+     * @param ignoreDamage if the damage should be ignored.
+     * @param ignoreNBT    if the nbt should be ignored.
+     * @return the interned key.
+     */
+    @NotNull
+    public static ItemKey of(@NotNull final ItemStack stack, final boolean ignoreDamage, final boolean ignoreNBT)
+    {
+        if (ItemStackUtils.isEmpty(stack))
+        {
+            return EMPTY;
+        }
+
+        if ((ignoreNBT || !stack.hasTag()) && (ignoreDamage || stack.getDamage() == 0))
+        {
+            return PLAIN.computeIfAbsent(stack.getItem(), ItemKey::createPlainKeys)[flagIndex(ignoreDamage, ignoreNBT)];
+        }
+
+        final KeyReference reference = INTERNED.get(new ItemKey(stack, ignoreDamage, ignoreNBT));
+        final ItemKey interned = reference == null ? null : reference.get();
+        if (interned != null)
+        {
+            return interned;
+        }
+
+        expungeCollected();
+        final ItemStack copy = stack.copy();
+        copy.setCount(1);
+        final ItemKey key = new ItemKey(copy, ignoreDamage, ignoreNBT);
+        final KeyReference result = INTERNED.compute(new ItemKey(copy, ignoreDamage, ignoreNBT), (twin, existing) ->
+                                                                                               existing != null && existing.get() != null
+                                                                                                 ? existing
+                                                                                                 : new KeyReference(key, twin));
+        final ItemKey winner = result.get();
+        return winner == null ? key : winner;
+    }
+
+    /**
+     * Create the keys without damage and nbt of an item, for all flags.
+     *
+     * @param item the item.
+     * @return the keys, indexed by {@link #flagIndex(boolean, boolean)}.
+     */
+    private static ItemKey[] createPlainKeys(@NotNull final Item item)
+    {
+        final ItemStack stack = new ItemStack(item);
+        return new ItemKey[] {
+          new ItemKey(stack, false, false),
+          new ItemKey(stack, true, false),
+          new ItemKey(stack, false, true),
+          new ItemKey(stack, true, true)};
+    }
+
+    /**
+     * Get the index of the flags in the plain keys of an item.
+     *
+     * @param ignoreDamage if the damage is ignored.
+     * @param ignoreNBT    if the nbt is ignored.
+     * @return the index.
+     */
+    private static int flagIndex(final boolean ignoreDamage, final boolean ignoreNBT)
+    {
+        return (ignoreDamage ? 1 : 0) | (ignoreNBT ? 2 : 0);
+    }
+
+    /**
+     * Remove the entries of collected keys.
+     */
+    private static void expungeCollected()
+    {
+        for (Reference<? extends ItemKey> collected = COLLECTED.poll(); collected != null; collected = COLLECTED.poll())
+        {
+            INTERNED.remove(((KeyReference) collected).twin, collected);
+        }
+    }
+
+    /**
+     * Get the keys of the same item type ignoring the damage, the nbt or both, including this key.
+     *
+     * @return the keys, must not be modified.
+     */
+    @NotNull
+    public ItemKey[] getRelaxedKeys()
+    {
+        if (relaxedKeys == null)
+        {
+            relaxedKeys = new ItemKey[] {
+              this,
+              of(stack, true, ignoreNBT),
+              of(stack, ignoreDamage, true),
+              of(stack, true, true)};
+        }
+        return relaxedKeys;
+    }
+
+    /**
+     * Get the item.
+     *
+     * @return the item.
+     */
+    @NotNull
+    public Item getItem()
+    {
+        return item;
+    }
+
+    /**
+     * Get a stack of the item type, with a size of 1.
+     *
+     * @return the stack, must not be modified.
+     */
+    @NotNull
+    public ItemStack getItemStack()
+    {
+        return stack;
+    }
+
+    /**
+     * If the damage is ignored.
+     *
+     * @return true if so.
+     */
+    public boolean ignoreDamageValue()
+    {
+        return ignoreDamage;
+    }
+
+    /**
+     * If the nbt is ignored.
+     *
+     * @return true if so.
+     */
+    public boolean ignoreNBT()
+    {
+        return ignoreNBT;
+    }
+
+    /**
+     * Create a storage of the item type.
+     *
+     * @param amount the amount of the storage.
+     * @return a new storage with the flags of the key.
+     */
+    @NotNull
+    public ItemStorage toStorage(final int amount)
+    {
+        final ItemStorage storage = new ItemStorage(stack.copy(), ignoreDamage, ignoreNBT);
+        storage.setAmount(amount);
+        return storage;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof ItemKey))
+        {
+            return false;
+        }
+
+        final ItemKey that = (ItemKey) o;
+        return hash == that.hash
+                 && item == that.item
+                 && damage == that.damage
+                 && ignoreDamage == that.ignoreDamage
+                 && ignoreNBT == that.ignoreNBT
+                 && Objects.equals(tag, that.tag);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ItemKey{" + stack + (ignoreDamage ? ", ignoreDamage" : "") + (ignoreNBT ? ", ignoreNBT" : "") + "}";
+    }
+
+    /**
+     * Weak reference to an interned key, remembering the map key it is stored under.
+     */
+    private static final class KeyReference extends WeakReference<ItemKey>
+    {
+        /**
+         * The map key of the entry.
+         */
+        private final ItemKey twin;
+
+        private KeyReference(@NotNull final ItemKey key, @NotNull final ItemKey twin)
+        {
+            super(key, COLLECTED);
+            this.twin = twin;
+        }
+    }
+}
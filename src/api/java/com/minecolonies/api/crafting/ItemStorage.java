@@ -41,6 +41,11 @@ public class ItemStorage
      */
     private int amount;
 
+    /**
+     * The key of the storage, computed on first use.
+     */
+    private ItemKey key;
+
     /**
      * Creates an instance of the storage.
      *
@@ -232,6 +237,21 @@ public class ItemStorage
         return stack.getItem();
     }
 
+    /**
+     * Get the interned key of the item type of this storage, with its flags. The key is cached, the damage and nbt of the stack must not change afterwards.
+     *
+     * @return the key.
+     */
+    @NotNull
+    public ItemKey getKey()
+    {
+        if (key == null)
+        {
+            key = ItemKey.of(this);
+        }
+        return key;
+    }
+
     /**
      * Getter for the damage value.
      *
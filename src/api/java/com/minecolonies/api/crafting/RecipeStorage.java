@@ -21,6 +21,7 @@ import net.minecraft.loot.LootParameters;
 import net.minecraft.loot.LootTable;
 import net.minecraft.util.Hand;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.Tuple;
 import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.registries.IForgeRegistry;
 import org.jetbrains.annotations.NotNull;
@@ -273,18 +274,28 @@ public class RecipeStorage implements IRecipeStorage
     }
 
     @Override
-    public boolean canFullFillRecipe(final int qty, final Map<ItemStorage, Integer> existingRequirements, @NotNull final IItemHandler... inventories)
+    public boolean canFullFillRecipe(final int qty, final Map<ItemKey, Integer> existingRequirements, @NotNull final IItemHandler... inventories)
+    {
+        return hasEnoughInputs(qty, existingRequirements, InventoryUtils.getItemCountsInItemHandlers(Arrays.asList(inventories), getCleanedInput()));
+    }
+
+    /**
+     * Check if the available inputs are enough to craft this recipe.
+     *
+     * @param qty                  the quantity to craft.
+     * @param existingRequirements inputs which are already required elsewhere.
+     * @param availableCounts      the available count of every cleaned input, in order.
+     * @return true if enough.
+     */
+    private boolean hasEnoughInputs(final int qty, final Map<ItemKey, Integer> existingRequirements, final int[] availableCounts)
     {
         final int neededMultiplier = ItemStackUtils.isEmpty(this.primaryOutput) ? qty : CraftingUtils.calculateMaxCraftingCount(qty, this);
         final List<ItemStorage> items = getCleanedInput();
 
-        for (final ItemStorage storage : items)
+        for (int i = 0; i < items.size(); i++)
         {
+            final ItemStorage storage = items.get(i);
             final ItemStack stack = storage.getItemStack();
-            final int availableCount = InventoryUtils.getItemCountInItemHandlers(
-              ImmutableList.copyOf(inventories),
-              itemStack -> !ItemStackUtils.isEmpty(itemStack)
-                             && ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack, false, true));
 
             final int neededCount;
             if(!secondaryOutputs.isEmpty() || !tools.isEmpty())
@@ -311,7 +322,7 @@ public class RecipeStorage implements IRecipeStorage
                 }
             }
 
-            if (availableCount < neededCount + existingRequirements.getOrDefault(storage, 0))
+            if (availableCounts[i] < neededCount + existingRequirements.getOrDefault(storage.getKey(), 0))
             {
                 return false;
             }
@@ -470,15 +481,32 @@ public class RecipeStorage implements IRecipeStorage
     @Override
     public boolean fullfillRecipe(final LootContext context, final List<IItemHandler> handlers)
     {
-        if (!checkForFreeSpace(handlers) || !canFullFillRecipe(1, Collections.emptyMap(), handlers.toArray(new IItemHandler[0])))
+        if (!checkForFreeSpace(handlers))
+        {
+            return false;
+        }
+
+        final List<ItemStorage> items = getCleanedInput();
+        final List<List<Tuple<IItemHandler, Integer>>> slots = InventoryUtils.findSlotsInItemHandlers(handlers, items);
+        final int[] availableCounts = new int[items.size()];
+        for (int i = 0; i < availableCounts.length; i++)
+        {
+            for (final Tuple<IItemHandler, Integer> slot : slots.get(i))
+            {
+                availableCounts[i] += ItemStackUtils.getSize(slot.getA().getStackInSlot(slot.getB()));
+            }
+        }
+
+        if (!hasEnoughInputs(1, Collections.emptyMap(), availableCounts))
         {
             return false;
         }
 
         final AbstractEntityCitizen citizen = (AbstractEntityCitizen) context.get(LootParameters.THIS_ENTITY);
 
-        for (final ItemStorage storage : getCleanedInput())
+        for (int i = 0; i < items.size(); i++)
         {
+            final ItemStorage storage = items.get(i);
             final ItemStack stack = storage.getItemStack();
             int amountNeeded = storage.getAmount();
 
@@ -487,12 +515,13 @@ public class RecipeStorage implements IRecipeStorage
                 break;
             }
 
-            for (final IItemHandler handler : handlers)
+            for (final Tuple<IItemHandler, Integer> slot : slots.get(i))
             {
-                int slotOfStack =
-                  InventoryUtils.findFirstSlotInItemHandlerNotEmptyWith(handler, itemStack -> !ItemStackUtils.isEmpty(itemStack) && ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack, false, true));
+                final IItemHandler handler = slot.getA();
+                final int slotOfStack = slot.getB();
 
-                while (slotOfStack != -1 && amountNeeded > 0)
+                // an earlier input may already have taken the stack in this slot
+                while (amountNeeded > 0 && ItemStackUtils.compareItemStacksIgnoreStackSize(handler.getStackInSlot(slotOfStack), stack, false, true))
                 {
                     if(citizen != null && ItemStackUtils.compareItemStackListIgnoreStackSize(tools, stack, false, true) && ItemStackUtils.getDurability(handler.getStackInSlot(slotOfStack)) > 0 )
                     {
@@ -523,15 +552,10 @@ public class RecipeStorage implements IRecipeStorage
                         }
 
                         amountNeeded -= count;
-                        if (amountNeeded > 0)
-                        {
-                            slotOfStack = InventoryUtils.findFirstSlotInItemHandlerNotEmptyWith(handler,
-                            itemStack -> !ItemStackUtils.isEmpty(itemStack) && ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack, false, true));
-                        }
                     }
                 }
 
-                // stop looping handlers if we have what we need
+                // stop looping slots if we have what we need
                 if (amountNeeded <= 0)
                 {
                     break;
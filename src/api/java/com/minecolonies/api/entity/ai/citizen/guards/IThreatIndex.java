@@ -0,0 +1,41 @@
+package com.minecolonies.api.entity.ai.citizen.guards;
+
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.vector.Vector3d;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Colony scoped index of the living entities around the guards, shared by all guards of a colony.
+ * <p>
+ * The entities are bucketed by chunk section and every bucket is swept at most once every few ticks, no matter how many guards search it. Line of sight results are
+ * cached for a few ticks as well.
+ */
+public interface IThreatIndex
+{
+    /**
+     * Get the alive living entities within an area, closest first.
+     *
+     * @param area   the area to search.
+     * @param origin the position to sort the entities by distance to.
+     * @return the entities, sorted by distance to the origin.
+     */
+    @NotNull
+    List<LivingEntity> getCandidates(@NotNull AxisAlignedBB area, @NotNull Vector3d origin);
+
+    /**
+     * Check if an entity can see another one, the result is cached for a few ticks.
+     *
+     * @param observer the entity looking.
+     * @param target   the entity looked at.
+     * @return true if the target can be seen.
+     */
+    boolean canSee(@NotNull LivingEntity observer, @NotNull LivingEntity target);
+
+    /**
+     * Drop all buckets and cached line of sight results.
+     */
+    void clear();
+}
@@ -12,6 +12,14 @@ public interface ITickRateStateMachine<S extends IState> extends IStateMachine<I
     @Override
     void tick();
 
+    /**
+     * Tick the statemachine after it missed ticks. The tick counters skip ahead over the missed ticks and every transition which was due in them is checked once, so the
+     * late tick costs about as much as a normal one.
+     *
+     * @param ticks the amount of ticks passed since the last tick, including this one.
+     */
+    void tickCatchingUp(final int ticks);
+
     /**
      * Check the condition for a transition
      *
@@ -34,4 +42,11 @@ public interface ITickRateStateMachine<S extends IState> extends IStateMachine<I
      * @param tickRate the tick rate to set.
      */
     void setTickRate(final int tickRate);
+
+    /**
+     * Shift the phase of the tick counter, so that statemachines created at the same time don't check their slow transitions on the same tick.
+     *
+     * @param offset the offset in ticks.
+     */
+    void setTickCounterOffset(final int offset);
 }
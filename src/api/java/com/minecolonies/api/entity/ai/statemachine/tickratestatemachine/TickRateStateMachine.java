@@ -32,6 +32,11 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
      */
     private int tickRateCounter = 0;
 
+    /**
+     * Amount of tick counter steps the current tick covers, more than one when catching up on missed ticks.
+     */
+    private int dueSteps = 1;
+
     /**
      * Reference to our used global transition lists
      */
@@ -79,6 +84,32 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
             tickCounter = 1;
         }
 
+        checkTransitions();
+    }
+
+    @Override
+    public void tickCatchingUp(final int ticks)
+    {
+        tickRateCounter += ticks;
+        if (tickRateCounter < tickRate)
+        {
+            return;
+        }
+
+        // Skip the counters ahead, every transition which was due in the skipped steps is checked once
+        dueSteps = Math.min(tickRateCounter / tickRate, MAX_TICKRATE);
+        tickRateCounter %= tickRate;
+        tickCounter = Math.floorMod(tickCounter - 1 + dueSteps, MAX_TICKRATE) + 1;
+
+        checkTransitions();
+        dueSteps = 1;
+    }
+
+    /**
+     * Check the transitions in order until one is run.
+     */
+    private void checkTransitions()
+    {
         for (final ITickingTransition<S> transition : aiBlockingTransitions)
         {
             if (checkTransition(transition))
@@ -122,13 +153,37 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
     public boolean checkTransition(@NotNull final ITickingTransition<S> transition)
     {
         // Check if the target should be run this Tick
-        if ((tickCounter % transition.getTickRate()) != transition.getTickOffset())
+        if (!isDue(transition))
         {
             return false;
         }
         return super.checkTransition(transition);
     }
 
+    /**
+     * Check if a transition is due on any of the tick counter steps of the current tick.
+     *
+     * @param transition the transition.
+     * @return true if so.
+     */
+    private boolean isDue(@NotNull final ITickingTransition<S> transition)
+    {
+        if (dueSteps == 1)
+        {
+            return (tickCounter % transition.getTickRate()) == transition.getTickOffset();
+        }
+
+        for (int step = 0; step < dueSteps; step++)
+        {
+            final int counter = Math.floorMod(tickCounter - 1 - step, MAX_TICKRATE) + 1;
+            if ((counter % transition.getTickRate()) == transition.getTickOffset())
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public int getTickRate()
     {
@@ -141,4 +196,10 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
         this.tickRate = tickRate;
         tickRateCounter = new Random().nextInt(tickRate);
     }
+
+    @Override
+    public void setTickCounterOffset(final int offset)
+    {
+        tickCounter = Math.floorMod(offset, MAX_TICKRATE);
+    }
 }
@@ -0,0 +1,45 @@
+package com.minecolonies.api.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Colony scoped, chunk section granular snapshot of precomputed passability information, shared read-only by the pathfinding jobs of a colony.
+ */
+public interface IPassabilitySnapshot
+{
+    /**
+     * Version of the snapshot, changes every time any part of it is invalidated.
+     *
+     * @return the current version.
+     */
+    long getVersion();
+
+    /**
+     * Check if the section containing the given position was not invalidated after the given version.
+     *
+     * @param pos     a position within the section.
+     * @param version the version to compare with.
+     * @return true if the section did not change since then.
+     */
+    boolean isUnchangedSince(BlockPos pos, long version);
+
+    /**
+     * Invalidate the section containing the given position, called when a block changes.
+     *
+     * @param pos the changed position.
+     */
+    void invalidate(BlockPos pos);
+
+    /**
+     * Invalidate all sections of the given chunk, for example when it unloads.
+     *
+     * @param chunkX the chunk x coordinate.
+     * @param chunkZ the chunk z coordinate.
+     */
+    void invalidateChunk(int chunkX, int chunkZ);
+
+    /**
+     * Drop all cached sections.
+     */
+    void clear();
+}
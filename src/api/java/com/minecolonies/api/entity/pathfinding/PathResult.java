@@ -4,6 +4,7 @@ import com.minecolonies.api.util.Log;
 import net.minecraft.pathfinding.Path;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -43,6 +44,11 @@ public class PathResult<T extends Callable<Path>>
      */
     private boolean pathingDoneAndProcessed = false;
 
+    /**
+     * Whether the path got served from the path cache instead of a job.
+     */
+    private boolean fromCache = false;
+
     /**
      * Get Status of the Path.
      *
@@ -169,6 +175,30 @@ public class PathResult<T extends Callable<Path>>
         }
     }
 
+    /**
+     * Completes this result with an already computed path which reaches the destination, no job is run.
+     *
+     * @param cachedPath the path.
+     */
+    public void setCachedPath(final Path cachedPath)
+    {
+        path = cachedPath;
+        pathReachesDestination = true;
+        pathingDoneAndProcessed = true;
+        fromCache = true;
+        setStatus(PathFindingStatus.CALCULATION_COMPLETE);
+    }
+
+    /**
+     * Whether the path got served from the path cache.
+     *
+     * @return true if so.
+     */
+    public boolean isFromCache()
+    {
+        return fromCache;
+    }
+
     /**
      * Processes the completed calculation results
      */
@@ -185,6 +215,13 @@ public class PathResult<T extends Callable<Path>>
             pathCalculation = null;
             setStatus(PathFindingStatus.CALCULATION_COMPLETE);
         }
+        catch (final CancellationException e)
+        {
+            // Dropped or replaced by the pathfinding queue.
+            path = null;
+            pathCalculation = null;
+            setStatus(PathFindingStatus.CANCELLED);
+        }
         catch (InterruptedException | ExecutionException e)
         {
             Log.getLogger().catching(e);
@@ -0,0 +1,234 @@
+package com.minecolonies.api.inventory;
+
+import com.minecolonies.api.crafting.ItemKey;
+import com.minecolonies.api.crafting.ItemStorage;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Index of the items stored in the containers of a building.
+ * <p>
+ * Maps every stored item type to the containers holding it and their amounts, so that lookups only have to go through the distinct item types instead of every slot of every
+ * container. The content of a container is replaced as a whole whenever it changes. Items are keyed by their interned {@link ItemKey}, the totals are also kept by the relaxed
+ * keys so that lookups ignoring damage or nbt are a single map access as well.
+ */
+public class ContainerItemIndex
+{
+    /**
+     * Content of every indexed container.
+     */
+    private final Map<BlockPos, Map<ItemKey, Integer>> contentByPos = new HashMap<>();
+
+    /**
+     * Containers and amounts per exact item type.
+     */
+    private final Map<ItemKey, StoredItem> storedByItem = new HashMap<>();
+
+    /**
+     * Total amount per exact and relaxed item key.
+     */
+    private final Map<ItemKey, Integer> totals = new HashMap<>();
+
+    /**
+     * Replace the indexed content of a container.
+     *
+     * @param pos     the position of the container.
+     * @param content the new content, copied.
+     */
+    public void update(@NotNull final BlockPos pos, @NotNull final Map<ItemKey, Integer> content)
+    {
+        remove(pos);
+        if (content.isEmpty())
+        {
+            return;
+        }
+
+        final Map<ItemKey, Integer> copy = new HashMap<>(content);
+        contentByPos.put(pos, copy);
+        for (final Map.Entry<ItemKey, Integer> entry : copy.entrySet())
+        {
+            storedByItem.computeIfAbsent(entry.getKey(), StoredItem::new).add(pos, entry.getValue());
+            for (final ItemKey relaxedKey : entry.getKey().getRelaxedKeys())
+            {
+                totals.merge(relaxedKey, entry.getValue(), Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Remove a container from the index.
+     *
+     * @param pos the position of the container.
+     */
+    public void remove(@NotNull final BlockPos pos)
+    {
+        final Map<ItemKey, Integer> content = contentByPos.remove(pos);
+        if (content == null)
+        {
+            return;
+        }
+
+        for (final Map.Entry<ItemKey, Integer> entry : content.entrySet())
+        {
+            final StoredItem stored = storedByItem.get(entry.getKey());
+            if (stored != null && stored.remove(pos))
+            {
+                storedByItem.remove(entry.getKey());
+            }
+
+            for (final ItemKey relaxedKey : entry.getKey().getRelaxedKeys())
+            {
+                totals.computeIfPresent(relaxedKey, (key, total) -> total - entry.getValue() <= 0 ? null : total - entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Remove all containers from the index.
+     */
+    public void clear()
+    {
+        contentByPos.clear();
+        storedByItem.clear();
+        totals.clear();
+    }
+
+    /**
+     * Get the stored amount of an item type.
+     *
+     * @param storage the item type, its damage and nbt flags decide how strict it is compared.
+     * @return the amount.
+     */
+    public int getCount(@NotNull final ItemStorage storage)
+    {
+        return getCount(storage.getKey());
+    }
+
+    /**
+     * Get the stored amount of an item type.
+     *
+     * @param key the key of the item type, its damage and nbt flags decide how strict it is compared.
+     * @return the amount.
+     */
+    public int getCount(@NotNull final ItemKey key)
+    {
+        return totals.getOrDefault(key, 0);
+    }
+
+    /**
+     * Get the stored amount of all item types matching a predicate.
+     *
+     * @param predicate the predicate, tested once per item type with a stack of the stored amount, capped at the max stack size.
+     * @param limit     the amount after which counting stops.
+     * @return the amount, at most slightly above the limit.
+     */
+    public int getCount(@NotNull final Predicate<ItemStack> predicate, final int limit)
+    {
+        int count = 0;
+        for (final StoredItem stored : storedByItem.values())
+        {
+            if (predicate.test(stored.stack))
+            {
+                count += stored.total;
+                if (count >= limit)
+                {
+                    return count;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the containers holding any item type matching a predicate.
+     *
+     * @param predicate the predicate, tested once per item type with a stack of the stored amount, capped at the max stack size.
+     * @return the positions of the containers.
+     */
+    @NotNull
+    public Set<BlockPos> getPositions(@NotNull final Predicate<ItemStack> predicate)
+    {
+        final Set<BlockPos> result = new LinkedHashSet<>();
+        for (final StoredItem stored : storedByItem.values())
+        {
+            if (predicate.test(stored.stack))
+            {
+                result.addAll(stored.amounts.keySet());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the containers holding an exact item type.
+     *
+     * @param key the exact key of the item type.
+     * @return the amounts by container position, must not be modified.
+     */
+    @NotNull
+    protected Map<BlockPos, Integer> getAmounts(@NotNull final ItemKey key)
+    {
+        final StoredItem stored = storedByItem.get(key);
+        return stored == null ? Collections.emptyMap() : stored.amounts;
+    }
+
+    /**
+     * The containers holding one exact item type.
+     */
+    private static final class StoredItem
+    {
+        /**
+         * Amounts by container position.
+         */
+        private final Map<BlockPos, Integer> amounts = new HashMap<>();
+
+        /**
+         * A stack of the item type with the total amount, capped at the max stack size, for the predicates to test.
+         */
+        private final ItemStack stack;
+
+        /**
+         * The total amount.
+         */
+        private int total;
+
+        private StoredItem(@NotNull final ItemKey key)
+        {
+            this.stack = key.getItemStack().copy();
+        }
+
+        /**
+         * Add the amount of a container.
+         *
+         * @param pos    the position of the container.
+         * @param amount the amount.
+         */
+        private void add(@NotNull final BlockPos pos, final int amount)
+        {
+            amounts.merge(pos, amount, Integer::sum);
+            total += amount;
+            stack.setCount(Math.min(total, stack.getMaxStackSize()));
+        }
+
+        /**
+         * Remove the amount of a container.
+         *
+         * @param pos the position of the container.
+         * @return true if nothing is left.
+         */
+        private boolean remove(@NotNull final BlockPos pos)
+        {
+            final Integer amount = amounts.remove(pos);
+            if (amount != null)
+            {
+                total -= amount;
+                stack.setCount(Math.min(total, stack.getMaxStackSize()));
+            }
+            return amounts.isEmpty();
+        }
+    }
+}
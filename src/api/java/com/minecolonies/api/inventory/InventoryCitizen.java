@@ -48,6 +48,11 @@ public class InventoryCitizen implements IItemHandlerModifiable, INameable
      */
     private NonNullList<ItemStack> mainInventory = NonNullList.withSize(DEFAULT_INV_SIZE, ItemStackUtils.EMPTY);
 
+    /**
+     * The index of the tool slots.
+     */
+    private final ToolSlotIndex toolIndex = new ToolSlotIndex(this);
+
     /**
      * The index of the currently held items (0-8).
      */
@@ -197,6 +202,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, INameable
 
             mainInventory = inv;
             freeSlots += futureSize - size;
+            toolIndex.markAllChanged();
         }
     }
 
@@ -268,6 +274,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, INameable
             if (ItemStackUtils.isEmpty(stack))
             {
                 freeSlots++;
+                toolIndex.markChanged(slot);
             }
         }
 
@@ -290,6 +297,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, INameable
             if (ItemStackUtils.isEmpty(stack))
             {
                 freeSlots++;
+                toolIndex.markChanged(slot);
             }
         }
 
@@ -319,6 +327,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, INameable
                 markDirty();
                 freeSlots--;
                 mainInventory.set(slot, copy);
+                toolIndex.markChanged(slot);
                 return ItemStack.EMPTY;
             }
             else
@@ -365,6 +374,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, INameable
                 markDirty();
                 freeSlots++;
                 mainInventory.set(slot, ItemStack.EMPTY);
+                toolIndex.markChanged(slot);
             }
             return inSlot;
         }
@@ -380,6 +390,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, INameable
                 if (ItemStackUtils.isEmpty(inSlot))
                 {
                     freeSlots++;
+                    toolIndex.markChanged(slot);
                 }
             }
             return copy;
@@ -488,6 +499,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, INameable
                 }
             }
         }
+        toolIndex.markAllChanged();
     }
 
     @Override
@@ -506,5 +518,27 @@ public class InventoryCitizen implements IItemHandlerModifiable, INameable
         }
 
         mainInventory.set(slot, stack);
+        toolIndex.markChanged(slot);
+    }
+
+    /**
+     * Mark a slot as changed after its stack was modified in place in a way that changes it as tool, like enchanting it.
+     *
+     * @param slot the slot.
+     */
+    public void markSlotChanged(final int slot)
+    {
+        toolIndex.markChanged(slot);
+    }
+
+    /**
+     * Get the index of the tool slots of this inventory.
+     *
+     * @return the index.
+     */
+    @NotNull
+    public ToolSlotIndex getToolIndex()
+    {
+        return toolIndex;
     }
 }
@@ -0,0 +1,263 @@
+package com.minecolonies.api.inventory;
+
+import com.minecolonies.api.compatibility.Compatibility;
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.api.util.constant.IToolType;
+import com.minecolonies.api.util.constant.ToolType;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.items.IItemHandler;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Index of the tool slots of an inventory by tool type, with the levels of every tool computed once.
+ * <p>
+ * The inventory marks slots as changed whenever a stack is set or removed, those slots are indexed again on the next lookup. Indexed tool stacks are also checked to still be
+ * in their slot, so a lookup never returns a slot which does not hold the tool anymore.
+ */
+public class ToolSlotIndex
+{
+    /**
+     * The indexed inventory.
+     */
+    private final IItemHandler inventory;
+
+    /**
+     * Tool slots per tool type, ordered by slot.
+     */
+    private final Map<IToolType, List<ToolSlot>> slotsByType = new HashMap<>();
+
+    /**
+     * The stack every tool slot was indexed for.
+     */
+    private final Map<Integer, ItemStack> indexedTools = new HashMap<>();
+
+    /**
+     * Slots to index again.
+     */
+    private final BitSet changedSlots = new BitSet();
+
+    /**
+     * Create the index of an inventory, all slots are indexed on the first lookup.
+     *
+     * @param inventory the inventory.
+     */
+    public ToolSlotIndex(@NotNull final IItemHandler inventory)
+    {
+        this.inventory = inventory;
+        markAllChanged();
+    }
+
+    /**
+     * Mark a slot as changed.
+     *
+     * @param slot the slot.
+     */
+    public void markChanged(final int slot)
+    {
+        if (slot >= 0)
+        {
+            changedSlots.set(slot);
+        }
+    }
+
+    /**
+     * Mark all slots as changed, for example after the inventory was read or resized.
+     */
+    public void markAllChanged()
+    {
+        changedSlots.set(0, inventory.getSlots());
+    }
+
+    /**
+     * Check if a tool type is indexed.
+     *
+     * @param toolType the tool type.
+     * @return true if lookups of it can use the index.
+     */
+    public static boolean isIndexed(@NotNull final IToolType toolType)
+    {
+        return toolType instanceof ToolType && toolType != ToolType.NONE;
+    }
+
+    /**
+     * Get the first slot holding a tool of a type within a level range, like {@link ItemStackUtils#hasToolLevel(ItemStack, IToolType, int, int)}.
+     *
+     * @param toolType     the indexed tool type.
+     * @param minimalLevel the minimal level.
+     * @param maximumLevel the maximum level, including enchantments.
+     * @return the slot or -1 if none.
+     */
+    public int getFirstSlotWithTool(@NotNull final IToolType toolType, final int minimalLevel, final int maximumLevel)
+    {
+        for (final ToolSlot toolSlot : getToolSlots(toolType))
+        {
+            if (toolSlot.isTool && toolSlot.toolLevel >= minimalLevel && toolSlot.toolLevel + toolSlot.enchantmentLevel <= maximumLevel)
+            {
+                return toolSlot.slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get the slot holding the lowest level tool of a type which is able to mine a block, the first of them if there are several.
+     *
+     * @param toolType      the indexed tool type.
+     * @param requiredLevel the harvest level required by the block.
+     * @param maximumLevel  the maximum level, including enchantments.
+     * @return the slot or -1 if none.
+     */
+    public int getBestMiningSlot(@NotNull final IToolType toolType, final int requiredLevel, final int maximumLevel)
+    {
+        int bestSlot = -1;
+        int bestLevel = Integer.MAX_VALUE;
+        for (final ToolSlot toolSlot : getToolSlots(toolType))
+        {
+            if (toolSlot.miningLevel > -1
+                  && toolSlot.miningLevel >= requiredLevel
+                  && toolSlot.miningLevel < bestLevel
+                  && toolSlot.miningLevel + toolSlot.enchantmentLevel <= maximumLevel)
+            {
+                bestSlot = toolSlot.slot;
+                bestLevel = toolSlot.miningLevel;
+            }
+        }
+        return bestSlot;
+    }
+
+    /**
+     * Get the tool slots of a type, indexing changed slots first.
+     *
+     * @param toolType the tool type.
+     * @return the tool slots, ordered by slot.
+     */
+    private List<ToolSlot> getToolSlots(@NotNull final IToolType toolType)
+    {
+        for (final Map.Entry<Integer, ItemStack> entry : indexedTools.entrySet())
+        {
+            final ItemStack current = entry.getKey() < inventory.getSlots() ? inventory.getStackInSlot(entry.getKey()) : ItemStack.EMPTY;
+            if (current != entry.getValue() || ItemStackUtils.isEmpty(current))
+            {
+                changedSlots.set(entry.getKey());
+            }
+        }
+
+        for (int slot = changedSlots.nextSetBit(0); slot >= 0; slot = changedSlots.nextSetBit(slot + 1))
+        {
+            index(slot);
+        }
+        changedSlots.clear();
+
+        return slotsByType.getOrDefault(toolType, Collections.emptyList());
+    }
+
+    /**
+     * Index a slot again.
+     *
+     * @param slot the slot.
+     */
+    private void index(final int slot)
+    {
+        if (indexedTools.remove(slot) != null)
+        {
+            for (final List<ToolSlot> toolSlots : slotsByType.values())
+            {
+                toolSlots.removeIf(toolSlot -> toolSlot.slot == slot);
+            }
+        }
+
+        if (slot >= inventory.getSlots())
+        {
+            return;
+        }
+
+        final ItemStack stack = inventory.getStackInSlot(slot);
+        if (ItemStackUtils.isEmpty(stack))
+        {
+            return;
+        }
+
+        int enchantmentLevel = -1;
+        for (final ToolType toolType : ToolType.values())
+        {
+            if (toolType == ToolType.NONE)
+            {
+                continue;
+            }
+
+            final boolean isTool = ItemStackUtils.isTool(stack, toolType);
+            final int miningLevel = ItemStackUtils.getMiningLevel(stack, toolType);
+            if (!isTool && miningLevel <= -1)
+            {
+                continue;
+            }
+
+            if (enchantmentLevel == -1)
+            {
+                enchantmentLevel = ItemStackUtils.getMaxEnchantmentLevel(stack);
+            }
+
+            final int toolLevel = Compatibility.isTinkersWeapon(stack) ? Compatibility.getToolLevel(stack) : miningLevel;
+            final List<ToolSlot> toolSlots = slotsByType.computeIfAbsent(toolType, type -> new ArrayList<>());
+
+            int position = 0;
+            while (position < toolSlots.size() && toolSlots.get(position).slot < slot)
+            {
+                position++;
+            }
+            toolSlots.add(position, new ToolSlot(slot, isTool, miningLevel, toolLevel, enchantmentLevel));
+            indexedTools.put(slot, stack);
+        }
+    }
+
+    /**
+     * A slot holding a tool of a certain type.
+     */
+    private static final class ToolSlot
+    {
+        /**
+         * The slot.
+         */
+        private final int slot;
+
+        /**
+         * If the stack counts as tool of the type.
+         */
+        private final boolean isTool;
+
+        /**
+         * The mining level for the type.
+         */
+        private final int miningLevel;
+
+        /**
+         * The tool level for the type, differs from the mining level for tinkers weapons.
+         */
+        private final int toolLevel;
+
+        /**
+         * The highest enchantment level of the stack.
+         */
+        private final int enchantmentLevel;
+
+        /**
+         * Create a tool slot.
+         *
+         * @param slot             the slot.
+         * @param isTool           if the stack counts as tool of the type.
+         * @param miningLevel      the mining level.
+         * @param toolLevel        the tool level.
+         * @param enchantmentLevel the highest enchantment level.
+         */
+        private ToolSlot(final int slot, final boolean isTool, final int miningLevel, final int toolLevel, final int enchantmentLevel)
+        {
+            this.slot = slot;
+            this.isTool = isTool;
+            this.miningLevel = miningLevel;
+            this.toolLevel = toolLevel;
+            this.enchantmentLevel = enchantmentLevel;
+        }
+    }
+}
@@ -144,7 +144,7 @@ public class ContainerCraftingFurnace extends Container
             {
                 if (slot == 0)
                 {
-                    return !IMinecoloniesAPI.getInstance().getFurnaceRecipes().getSmeltingResult(stack).isEmpty();
+                    return IMinecoloniesAPI.getInstance().getColonyManager().getCompatibilityManager().isSmeltable(stack);
                 }
                 else
                 {
@@ -52,4 +52,21 @@ public interface IResearchManager
      * and if so, prompts the player for resources or begins research if no resources required.
      */
     void checkAutoStartResearch();
+
+    /**
+     * Mark the research data as changed, so it is sent to the colony views again.
+     */
+    void markDirty();
+
+    /**
+     * Check if the research data changed since it was last sent.
+     *
+     * @return true if so.
+     */
+    boolean isDirty();
+
+    /**
+     * Clear the dirty state after sending the research data.
+     */
+    void clearDirty();
 }
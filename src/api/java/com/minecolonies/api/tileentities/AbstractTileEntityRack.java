@@ -5,6 +5,7 @@ import com.minecolonies.api.blocks.ModBlocks;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.buildings.workerbuildings.IWareHouse;
 import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
 import com.minecolonies.api.util.ItemStackUtils;
 import net.minecraft.inventory.container.INamedContainerProvider;
@@ -141,6 +142,43 @@ public abstract class AbstractTileEntityRack extends TileEntity implements IName
         }
     }
 
+    /**
+     * Tell the building this rack belongs to that its content changed.
+     */
+    protected void notifyBuildingOfContentChange()
+    {
+        if ((inWarehouse || !buildingPos.equals(BlockPos.ZERO)) && world != null && !world.isRemote)
+        {
+            final IColony colony = IColonyManager.getInstance().getClosestColony(world, pos);
+            if (colony == null)
+            {
+                return;
+            }
+
+            if (!buildingPos.equals(BlockPos.ZERO))
+            {
+                final IBuilding building = colony.getBuildingManager().getBuilding(buildingPos);
+                if (building != null)
+                {
+                    building.onContainerContentChanged(pos);
+                    return;
+                }
+            }
+
+            if (inWarehouse)
+            {
+                for (final IWareHouse wareHouse : colony.getBuildingManager().getWareHouses())
+                {
+                    if (wareHouse.hasContainerPosition(pos))
+                    {
+                        wareHouse.onContainerContentChanged(pos);
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Set the value for inWarehouse
      *
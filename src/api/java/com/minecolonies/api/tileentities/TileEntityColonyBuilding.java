@@ -278,6 +278,26 @@ public class TileEntityColonyBuilding extends AbstractTileEntityColonyBuilding i
         }
     }
 
+    @Override
+    public void updateItemStorage()
+    {
+        super.updateItemStorage();
+        if (building != null && world != null && !world.isRemote)
+        {
+            building.onContainerContentChanged(pos);
+        }
+    }
+
+    @Override
+    public void onChunkUnloaded()
+    {
+        super.onChunkUnloaded();
+        if (building != null && world != null && !world.isRemote)
+        {
+            building.onContainerContentChanged(pos);
+        }
+    }
+
     /**
      * Returns the building associated with the tile entity.
      *
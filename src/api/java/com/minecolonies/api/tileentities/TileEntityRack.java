@@ -3,6 +3,7 @@ package com.minecolonies.api.tileentities;
 import com.minecolonies.api.MinecoloniesAPIProxy;
 import com.minecolonies.api.blocks.AbstractBlockMinecoloniesRack;
 import com.minecolonies.api.blocks.types.RackType;
+import com.minecolonies.api.crafting.ItemKey;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.inventory.api.CombinedItemHandler;
 import com.minecolonies.api.inventory.container.ContainerRack;
@@ -35,6 +36,7 @@ import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Predicate;
@@ -51,7 +53,12 @@ public class TileEntityRack extends AbstractTileEntityRack
     /**
      * The content of the chest.
      */
-    private final Map<ItemStorage, Integer> content = new HashMap<>();
+    private final Map<ItemKey, Integer> content = new HashMap<>();
+
+    /**
+     * The amounts of the content by its exact and relaxed keys, for lookups ignoring damage or nbt.
+     */
+    private final Map<ItemKey, Integer> counts = new HashMap<>();
 
     /**
      * Size multiplier of the inventory. 0 = default value. 1 = 1*9 additional slots, and so on.
@@ -93,24 +100,21 @@ public class TileEntityRack extends AbstractTileEntityRack
     @Override
     public boolean hasItemStack(final ItemStack stack, final int count, final boolean ignoreDamageValue)
     {
-        final ItemStorage checkItem = new ItemStorage(stack, ignoreDamageValue);
-
-        return content.getOrDefault(checkItem, 0) >= count;
+        return counts.getOrDefault(ItemKey.of(stack, ignoreDamageValue, false), 0) >= count;
     }
 
     @Override
     public int getCount(final ItemStack stack, final boolean ignoreDamageValue, final boolean ignoreNBT)
     {
-        final ItemStorage checkItem = new ItemStorage(stack, ignoreDamageValue, ignoreNBT);
-        return content.getOrDefault(checkItem, 0);
+        return counts.getOrDefault(ItemKey.of(stack, ignoreDamageValue, ignoreNBT), 0);
     }
 
     @Override
     public boolean hasItemStack(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
     {
-        for (final Map.Entry<ItemStorage, Integer> entry : content.entrySet())
+        for (final ItemKey key : content.keySet())
         {
-            if (itemStackSelectionPredicate.test(entry.getKey().getItemStack()))
+            if (itemStackSelectionPredicate.test(key.getItemStack()))
             {
                 return true;
             }
@@ -121,18 +125,17 @@ public class TileEntityRack extends AbstractTileEntityRack
     @Override
     public boolean hasSimilarStack(@NotNull final ItemStack stack)
     {
-        final ItemStorage checkItem = new ItemStorage(stack, true);
-        if (content.containsKey(checkItem))
+        if (counts.containsKey(ItemKey.of(stack, true, false)))
         {
             return true;
         }
 
-        for (final ItemStorage storage : content.keySet())
+        for (final ItemKey key : content.keySet())
         {
             for (final ResourceLocation tag : stack.getItem().getTags())
             {
                 if (MinecoloniesAPIProxy.getInstance().getConfig().getServer().enabledModTags.get().contains(tag.toString())
-                      && storage.getItemStack().getItem().getTags().contains(tag))
+                      && key.getItem().getTags().contains(tag))
                 {
                     return true;
                 }
@@ -145,11 +148,28 @@ public class TileEntityRack extends AbstractTileEntityRack
     /**
      * Gets the content of the Rack
      *
-     * @return the map of content.
+     * @return a new map of content.
+     * @deprecated builds a new map on every call, use {@link #getAllContentByKey()}.
      */
+    @Deprecated
     public Map<ItemStorage, Integer> getAllContent()
     {
-        return content;
+        final Map<ItemStorage, Integer> storages = new HashMap<>();
+        for (final Map.Entry<ItemKey, Integer> entry : content.entrySet())
+        {
+            storages.put(entry.getKey().toStorage(entry.getValue()), entry.getValue());
+        }
+        return storages;
+    }
+
+    /**
+     * Gets the content of the Rack
+     *
+     * @return the map of content, by the exact keys of the items.
+     */
+    public Map<ItemKey, Integer> getAllContentByKey()
+    {
+        return Collections.unmodifiableMap(content);
     }
 
     @Override
@@ -171,7 +191,7 @@ public class TileEntityRack extends AbstractTileEntityRack
     @Override
     public int getItemCount(final Predicate<ItemStack> predicate)
     {
-        for (final Map.Entry<ItemStorage, Integer> entry : content.entrySet())
+        for (final Map.Entry<ItemKey, Integer> entry : content.entrySet())
         {
             if (predicate.test(entry.getKey().getItemStack()))
             {
@@ -193,6 +213,7 @@ public class TileEntityRack extends AbstractTileEntityRack
             {
                 updateBlockState();
             }
+            notifyBuildingOfContentChange();
             markDirty();
         }
     }
@@ -203,6 +224,7 @@ public class TileEntityRack extends AbstractTileEntityRack
     private void updateContent()
     {
         content.clear();
+        counts.clear();
         freeSlots = 0;
         for (int slot = 0; slot < inventory.getSlots(); slot++)
         {
@@ -214,13 +236,13 @@ public class TileEntityRack extends AbstractTileEntityRack
                 continue;
             }
 
-            final ItemStorage storage = new ItemStorage(stack.copy());
-            int amount = ItemStackUtils.getSize(stack);
-            if (content.containsKey(storage))
+            final ItemKey key = ItemKey.of(stack);
+            final int amount = ItemStackUtils.getSize(stack);
+            content.merge(key, amount, Integer::sum);
+            for (final ItemKey relaxedKey : key.getRelaxedKeys())
             {
-                amount += content.remove(storage);
+                counts.merge(relaxedKey, amount, Integer::sum);
             }
-            content.put(storage, amount);
         }
     }
 
@@ -586,6 +608,14 @@ public class TileEntityRack extends AbstractTileEntityRack
     {
         super.remove();
         invalidateCap();
+        notifyBuildingOfContentChange();
+    }
+
+    @Override
+    public void onChunkUnloaded()
+    {
+        super.onChunkUnloaded();
+        notifyBuildingOfContentChange();
     }
 
     @Override
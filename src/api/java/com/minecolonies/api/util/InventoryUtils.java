@@ -5,17 +5,16 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.crafting.ItemStorage;
-import com.minecolonies.api.tileentities.TileEntityRack;
+import com.minecolonies.api.inventory.InventoryCitizen;
+import com.minecolonies.api.inventory.ToolSlotIndex;
 import com.minecolonies.api.util.constant.IToolType;
 import net.minecraft.block.Block;
 import net.minecraft.entity.item.ItemEntity;
 import net.minecraft.item.Food;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
-import net.minecraft.tileentity.ChestTileEntity;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
-import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.Tuple;
 import net.minecraft.world.World;
 import net.minecraftforge.common.capabilities.ICapabilityProvider;
 import net.minecraftforge.items.IItemHandler;
@@ -281,6 +280,81 @@ public class InventoryUtils
         return count;
     }
 
+    /**
+     * Count several items in the {@link IItemHandler}s at once, walking every slot only once.
+     * <p>
+     * A stack matches an item if they are of the same item and have the same NBT, the damage is ignored. A stack which is visible through several handlers is only counted once.
+     *
+     * @param itemHandlers the handlers to scan.
+     * @param items        the items to count.
+     * @return the count of every item, in the order of the given list.
+     */
+    @NotNull
+    public static int[] getItemCountsInItemHandlers(@NotNull final Collection<IItemHandler> itemHandlers, @NotNull final List<? extends ItemStorage> items)
+    {
+        final int[] counts = new int[items.size()];
+        final List<List<Tuple<IItemHandler, Integer>>> slots = findSlotsInItemHandlers(itemHandlers, items);
+        for (int i = 0; i < counts.length; i++)
+        {
+            for (final Tuple<IItemHandler, Integer> slot : slots.get(i))
+            {
+                counts[i] += ItemStackUtils.getSize(slot.getA().getStackInSlot(slot.getB()));
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Find the slots holding several items in the {@link IItemHandler}s at once, walking every slot only once.
+     * <p>
+     * A stack matches an item if they are of the same item and have the same NBT, the damage is ignored. A stack which is visible through several handlers is only returned once.
+     *
+     * @param itemHandlers the handlers to scan.
+     * @param items        the items to look for.
+     * @return the slots holding every item, in the order of the given list, each in the order of the handlers and slots.
+     */
+    @NotNull
+    public static List<List<Tuple<IItemHandler, Integer>>> findSlotsInItemHandlers(
+      @NotNull final Collection<IItemHandler> itemHandlers,
+      @NotNull final List<? extends ItemStorage> items)
+    {
+        final List<List<Tuple<IItemHandler, Integer>>> slots = new ArrayList<>(items.size());
+        final Map<Item, List<Integer>> indicesByItem = new HashMap<>();
+        for (int i = 0; i < items.size(); i++)
+        {
+            slots.add(new ArrayList<>());
+            indicesByItem.computeIfAbsent(items.get(i).getItem(), item -> new ArrayList<>()).add(i);
+        }
+
+        final Set<ItemStack> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (final IItemHandler handler : itemHandlers)
+        {
+            for (int slot = 0; slot < handler.getSlots(); slot++)
+            {
+                final ItemStack stack = handler.getStackInSlot(slot);
+                if (ItemStackUtils.isEmpty(stack))
+                {
+                    continue;
+                }
+
+                final List<Integer> indices = indicesByItem.get(stack.getItem());
+                if (indices == null || !seen.add(stack))
+                {
+                    continue;
+                }
+
+                for (final int index : indices)
+                {
+                    if (ItemStackUtils.compareItemStacksIgnoreStackSize(stack, items.get(index).getItemStack(), false, true))
+                    {
+                        slots.get(index).add(new Tuple<>(handler, slot));
+                    }
+                }
+            }
+        }
+        return slots;
+    }
+
     /**
      * Checks if a player has a block in the {@link IItemHandler}. Checked by {@link #getItemCountInItemHandler(IItemHandler, Block)} &gt; 0;
      *
@@ -723,31 +797,8 @@ public class InventoryUtils
      */
     public static int hasBuildingEnoughElseCount(@NotNull final IBuilding provider, @NotNull final ItemStorage stack, final int count)
     {
-        int totalCount = 0;
-        final World world = provider.getColony().getWorld();
-
-        for (final BlockPos pos : provider.getContainers())
-        {
-            if (WorldUtil.isBlockLoaded(world, pos))
-            {
-                final TileEntity entity = world.getTileEntity(pos);
-                if (entity instanceof TileEntityRack)
-                {
-                    totalCount += ((TileEntityRack) entity).getAllContent().getOrDefault(stack, 0);
-                }
-                else if (entity instanceof ChestTileEntity)
-                {
-                    totalCount += getItemCountInProvider(entity, itemStack -> ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack.getItemStack(), !stack.ignoreDamageValue(), !stack.ignoreNBT() ));
-                }
-
-                if (totalCount > count)
-                {
-                    return Integer.MAX_VALUE;
-                }
-            }
-        }
-
-        return totalCount;
+        final int totalCount = provider.getItemIndex().getCount(stack);
+        return totalCount > count ? Integer.MAX_VALUE : totalCount;
     }
 
     /**
@@ -759,26 +810,7 @@ public class InventoryUtils
      */
     public static int getCountFromBuilding(@NotNull final IBuilding provider, @NotNull final ItemStorage stack)
     {
-        int totalCount = 0;
-        final World world = provider.getColony().getWorld();
-
-        for (final BlockPos pos : provider.getContainers())
-        {
-            if (WorldUtil.isBlockLoaded(world, pos))
-            {
-                final TileEntity entity = world.getTileEntity(pos);
-                if (entity instanceof TileEntityRack)
-                {
-                    totalCount += ((TileEntityRack) entity).getAllContent().getOrDefault(stack, 0);
-                }
-                else if (entity instanceof ChestTileEntity)
-                {
-                    totalCount += getItemCountInProvider(entity, itemStack -> itemStack.isItemEqual(stack.getItemStack()));
-                }
-            }
-        }
-
-        return totalCount;
+        return provider.getItemIndex().getCount(stack);
     }
 
     /**
@@ -790,26 +822,7 @@ public class InventoryUtils
      */
     public static int getCountFromBuilding(@NotNull final IBuilding provider, @NotNull final Predicate<ItemStack> predicate)
     {
-        int totalCount = 0;
-        final World world = provider.getColony().getWorld();
-
-        for (final BlockPos pos : provider.getContainers())
-        {
-            if (WorldUtil.isBlockLoaded(world, pos))
-            {
-                final TileEntity entity = world.getTileEntity(pos);
-                if (entity instanceof TileEntityRack)
-                {
-                    totalCount += ((TileEntityRack) entity).getItemCount(predicate);
-                }
-                else if (entity instanceof ChestTileEntity)
-                {
-                    totalCount += getItemCountInProvider(entity, predicate);
-                }
-            }
-        }
-
-        return totalCount;
+        return provider.getItemIndex().getCount(predicate, Integer.MAX_VALUE);
     }
 
     /**
@@ -1428,6 +1441,11 @@ public class InventoryUtils
      */
     public static boolean isToolInItemHandler(@NotNull final IItemHandler itemHandler, @NotNull final IToolType toolType, final int minimalLevel, final int maximumLevel)
     {
+        if (itemHandler instanceof InventoryCitizen && ToolSlotIndex.isIndexed(toolType))
+        {
+            return ((InventoryCitizen) itemHandler).getToolIndex().getFirstSlotWithTool(toolType, minimalLevel, maximumLevel) != -1;
+        }
+
         return hasItemInItemHandler(itemHandler, (ItemStack stack) ->
                                                    ItemStackUtils.hasToolLevel(stack, toolType, minimalLevel, maximumLevel));
     }
@@ -1458,6 +1476,11 @@ public class InventoryUtils
       @NotNull final IItemHandler itemHandler, @NotNull final IToolType toolType, final int minimalLevel,
       final int maximumLevel)
     {
+        if (itemHandler instanceof InventoryCitizen && ToolSlotIndex.isIndexed(toolType))
+        {
+            return ((InventoryCitizen) itemHandler).getToolIndex().getFirstSlotWithTool(toolType, minimalLevel, maximumLevel);
+        }
+
         return findFirstSlotInItemHandlerWith(itemHandler,
           (ItemStack stack) -> ItemStackUtils.hasToolLevel(stack, toolType, minimalLevel, maximumLevel));
     }
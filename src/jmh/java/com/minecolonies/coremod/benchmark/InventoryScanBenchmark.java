@@ -0,0 +1,72 @@
+package com.minecolonies.coremod.benchmark;
+
+import com.minecolonies.api.util.InventoryUtils;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.util.registry.Bootstrap;
+import net.minecraftforge.items.ItemStackHandler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the predicate scans of {@link InventoryUtils} over large item handlers, like the racks of a warehouse.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InventoryScanBenchmark
+{
+    /**
+     * Items the handler is filled with.
+     */
+    private static final Item[] CONTENT = {Items.COBBLESTONE, Items.DIRT, Items.OAK_LOG, Items.OAK_PLANKS, Items.IRON_INGOT, Items.WHEAT, Items.STICK, Items.SAND};
+
+    /**
+     * Amount of slots of the handler.
+     */
+    @Param({"27", "1024", "8192"})
+    public int slots;
+
+    private ItemStackHandler handler;
+
+    @Setup
+    public void setup()
+    {
+        Bootstrap.register();
+
+        final Random random = new Random(42);
+        handler = new ItemStackHandler(slots);
+        for (int slot = 0; slot < slots - 1; slot++)
+        {
+            if (random.nextInt(4) != 0)
+            {
+                handler.setStackInSlot(slot, new ItemStack(CONTENT[random.nextInt(CONTENT.length)], 1 + random.nextInt(64)));
+            }
+        }
+        handler.setStackInSlot(slots - 1, new ItemStack(Items.DIAMOND));
+    }
+
+    @Benchmark
+    public int countMatching()
+    {
+        return InventoryUtils.getItemCountInItemHandler(handler, stack -> stack.getItem() == Items.COBBLESTONE);
+    }
+
+    @Benchmark
+    public int findInLastSlot()
+    {
+        return InventoryUtils.findFirstSlotInItemHandlerWith(handler, stack -> stack.getItem() == Items.DIAMOND);
+    }
+
+    @Benchmark
+    public boolean hasMissingItem()
+    {
+        return InventoryUtils.hasItemInItemHandler(handler, Items.EMERALD);
+    }
+}
@@ -0,0 +1,144 @@
+package com.minecolonies.coremod.benchmark;
+
+import com.minecolonies.api.IMinecoloniesAPI;
+import com.minecolonies.api.MinecoloniesAPIProxy;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.configuration.ClientConfiguration;
+import com.minecolonies.api.configuration.Configuration;
+import com.minecolonies.api.configuration.ServerConfiguration;
+import com.minecolonies.coremod.entity.pathfinding.pathjobs.PathJobMoveToLocation;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.pathfinding.Path;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.registry.Bootstrap;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.AbstractChunkProvider;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.ChunkStatus;
+import net.minecraftforge.common.ForgeConfigSpec;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmarks {@link PathJobMoveToLocation} across a flat synthetic world with random two block high obstacles, outside of any colony.
+ * <p>
+ * The world only provides the chunks, the job builds its chunk cache and runs the search on the pooled node heap and table like it does on the pathfinding threads.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathfindingBenchmark
+{
+    /**
+     * Ground level of the synthetic world.
+     */
+    private static final int GROUND = 64;
+
+    /**
+     * Distance along both axes between start and end.
+     */
+    @Param({"32", "96"})
+    public int size;
+
+    /**
+     * Share of blocked positions.
+     */
+    @Param({"0.1", "0.3"})
+    public double obstacles;
+
+    private World    world;
+    private BlockPos start;
+    private BlockPos end;
+
+    @Setup
+    public void setup()
+    {
+        Bootstrap.register();
+
+        final Configuration config = mock(Configuration.class);
+        final ServerConfiguration serverConfig = new ForgeConfigSpec.Builder().configure(builder -> new ServerConfiguration(builder) {}).getLeft();
+        final ClientConfiguration clientConfig = new ForgeConfigSpec.Builder().configure(builder -> new ClientConfiguration(builder) {}).getLeft();
+        when(config.getServer()).thenReturn(serverConfig);
+        when(config.getClient()).thenReturn(clientConfig);
+
+        final IMinecoloniesAPI api = mock(IMinecoloniesAPI.class);
+        when(api.getConfig()).thenReturn(config);
+        when(api.getColonyManager()).thenReturn(mock(IColonyManager.class));
+        MinecoloniesAPIProxy.getInstance().setApiInstance(api);
+
+        start = new BlockPos(0, GROUND + 1, 0);
+        end = new BlockPos(size - 1, GROUND + 1, size - 1);
+        world = createWorld();
+    }
+
+    @Benchmark
+    public Path moveToLocation()
+    {
+        return new PathJobMoveToLocation(world, start, end, size * 2, null).call();
+    }
+
+    /**
+     * Create a mocked world holding every chunk the job caches.
+     *
+     * @return the world.
+     */
+    private World createWorld()
+    {
+        final World mockWorld = mock(World.class);
+        final AbstractChunkProvider provider = mock(AbstractChunkProvider.class);
+        when(mockWorld.getChunkProvider()).thenReturn(provider);
+        when(provider.isChunkLoaded(any(ChunkPos.class))).thenReturn(true);
+
+        // The job caches the chunks within range / 2 of start and end and range beyond that again
+        final int margin = (size * 2) / 2 + size * 2;
+        final int minChunk = (start.getX() - margin) >> 4;
+        final int maxChunk = (end.getX() + margin) >> 4;
+
+        final Random random = new Random(42);
+        final BlockState stone = Blocks.STONE.getDefaultState();
+        final Map<Long, Chunk> chunks = new HashMap<>();
+        for (int chunkX = minChunk; chunkX <= maxChunk; chunkX++)
+        {
+            for (int chunkZ = minChunk; chunkZ <= maxChunk; chunkZ++)
+            {
+                final Chunk chunk = new Chunk(mockWorld, new ChunkPos(chunkX, chunkZ), null);
+                final ChunkSection section = new ChunkSection(GROUND >> 4 << 4);
+                chunk.getSections()[GROUND >> 4] = section;
+
+                for (int x = 0; x < 16; x++)
+                {
+                    for (int z = 0; z < 16; z++)
+                    {
+                        section.setBlockState(x, GROUND & 15, z, stone);
+
+                        final BlockPos pos = new BlockPos(chunkX << 4 | x, GROUND + 1, chunkZ << 4 | z);
+                        if (random.nextDouble() < obstacles && !pos.equals(start) && !pos.equals(end))
+                        {
+                            section.setBlockState(x, (GROUND + 1) & 15, z, stone);
+                            section.setBlockState(x, (GROUND + 2) & 15, z, stone);
+                        }
+                    }
+                }
+                chunks.put(ChunkPos.asLong(chunkX, chunkZ), chunk);
+            }
+        }
+
+        when(mockWorld.getChunk(anyInt(), anyInt(), any(ChunkStatus.class), anyBoolean()))
+          .thenAnswer(invocation -> chunks.get(ChunkPos.asLong((Integer) invocation.getArguments()[0], (Integer) invocation.getArguments()[1])));
+        return mockWorld;
+    }
+}
@@ -0,0 +1,150 @@
+package com.minecolonies.coremod.benchmark;
+
+import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
+import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.request.RequestState;
+import com.minecolonies.api.colony.requestsystem.requestable.Stack;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.util.constant.TypeConstants;
+import com.minecolonies.coremod.colony.requestsystem.init.RequestSystemInitializer;
+import com.minecolonies.coremod.colony.requestsystem.init.StandardFactoryControllerInitializer;
+import com.minecolonies.coremod.colony.requestsystem.locations.StaticLocation;
+import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
+import com.minecolonies.coremod.colony.requestsystem.resolvers.core.AbstractRequestResolver;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.registry.Bootstrap;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmarks the resolver assignment of the request handler with many registered resolvers, only the one with the lowest priority accepts the request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestResolutionBenchmark
+{
+    /**
+     * Amount of registered resolvers.
+     */
+    @Param({"10", "100", "500"})
+    public int resolvers;
+
+    private StandardRequestManager manager;
+    private BenchmarkResolver      requester;
+
+    @Setup
+    public void setup()
+    {
+        Bootstrap.register();
+        StandardFactoryControllerInitializer.onPreInit();
+        RequestSystemInitializer.onPostInit();
+
+        final IColony colony = mock(IColony.class);
+        when(colony.getID()).thenReturn(1);
+        manager = new StandardRequestManager(colony);
+
+        for (int i = 0; i < resolvers; i++)
+        {
+            manager.getResolverHandler().registerResolver(new BenchmarkResolver(i, i == 0));
+        }
+        requester = new BenchmarkResolver(0, false);
+    }
+
+    @Benchmark
+    public IToken<?> assignAndCancel()
+    {
+        final IToken<?> token = manager.createRequest(requester, new Stack(new ItemStack(Items.COBBLESTONE)));
+        manager.assignRequest(token);
+        manager.updateRequestState(token, RequestState.CANCELLED);
+        return token;
+    }
+
+    /**
+     * Resolver for stacks, accepting everything or nothing.
+     */
+    private static class BenchmarkResolver extends AbstractRequestResolver<Stack>
+    {
+        private final int     priority;
+        private final boolean accepts;
+
+        private BenchmarkResolver(final int priority, final boolean accepts)
+        {
+            super(new StaticLocation(BlockPos.ZERO, World.OVERWORLD), StandardFactoryController.getInstance().getNewInstance(TypeConstants.ITOKEN));
+            this.priority = priority;
+            this.accepts = accepts;
+        }
+
+        @Override
+        public TypeToken<? extends Stack> getRequestType()
+        {
+            return TypeToken.of(Stack.class);
+        }
+
+        @Override
+        public boolean canResolveRequest(@NotNull final IRequestManager manager, final IRequest<? extends Stack> requestToCheck)
+        {
+            return accepts;
+        }
+
+        @Nullable
+        @Override
+        public List<IToken<?>> attemptResolveRequest(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends Stack> request)
+        {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public void resolveRequest(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends Stack> request)
+        {
+            // Stays in progress until cancelled.
+        }
+
+        @Override
+        public void onAssignedRequestBeingCancelled(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends Stack> request)
+        {
+            // Nothing to clean up.
+        }
+
+        @Override
+        public void onAssignedRequestCancelled(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends Stack> request)
+        {
+            // Nothing to clean up.
+        }
+
+        @Override
+        public void onRequestedRequestComplete(@NotNull final IRequestManager manager, @NotNull final IRequest<?> request)
+        {
+            // Only used as requester.
+        }
+
+        @Override
+        public void onRequestedRequestCancelled(@NotNull final IRequestManager manager, @NotNull final IRequest<?> request)
+        {
+            // Only used as requester.
+        }
+
+        @Override
+        public int getPriority()
+        {
+            return priority;
+        }
+    }
+}
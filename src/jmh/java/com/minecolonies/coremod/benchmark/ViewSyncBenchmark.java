@@ -0,0 +1,122 @@
+package com.minecolonies.coremod.benchmark;
+
+import com.minecolonies.api.colony.managers.interfaces.ICitizenManager;
+import com.minecolonies.api.colony.managers.interfaces.IProgressManager;
+import com.minecolonies.api.colony.managers.interfaces.IRaiderManager;
+import com.minecolonies.api.research.IResearchManager;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyView;
+import com.minecolonies.coremod.colony.ColonyViewSync;
+import com.minecolonies.coremod.colony.permissions.Permissions;
+import io.netty.buffer.Unpooled;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.nbt.ListNBT;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.registry.Bootstrap;
+import net.minecraft.util.text.TextFormatting;
+import net.minecraft.world.World;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmarks the colony view sync of {@link ColonyView#serializeNetworkData} on a populated colony, as full sync and as delta with and without a changed section.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ViewSyncBenchmark
+{
+    /**
+     * Amount of waypoints, free positions and ticketed chunks of the colony.
+     */
+    @Param({"100", "1000", "10000"})
+    public int entries;
+
+    private Colony         colony;
+    private ColonyViewSync sync;
+
+    @Setup
+    public void setup()
+    {
+        Bootstrap.register();
+
+        final Random random = new Random(42);
+        final Map<BlockPos, BlockState> wayPoints = new HashMap<>();
+        final Set<BlockPos> freePositions = new HashSet<>();
+        final Set<Long> ticketedChunks = new HashSet<>();
+        final List<BlockPos> raidSpawns = new ArrayList<>();
+        for (int i = 0; i < entries; i++)
+        {
+            final BlockPos pos = new BlockPos(random.nextInt(1024) - 512, 64 + random.nextInt(32), random.nextInt(1024) - 512);
+            wayPoints.put(pos, Blocks.GRAVEL.getDefaultState());
+            freePositions.add(pos.up());
+            ticketedChunks.add(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+            if (i % 100 == 0)
+            {
+                raidSpawns.add(pos);
+            }
+        }
+        final Set<Block> freeBlocks = new HashSet<>(Arrays.asList(Blocks.OAK_DOOR, Blocks.CHEST, Blocks.LEVER, Blocks.STONE_BUTTON));
+
+        final ICitizenManager citizenManager = mock(ICitizenManager.class);
+        when(citizenManager.getMaxCitizens()).thenReturn(entries / 10);
+        when(citizenManager.getPotentialMaxCitizens()).thenReturn(entries / 10);
+
+        final IRaiderManager raiderManager = mock(IRaiderManager.class);
+        when(raiderManager.getLastSpawnPoints()).thenReturn(raidSpawns);
+
+        colony = mock(Colony.class);
+        when(colony.getID()).thenReturn(1);
+        when(colony.getName()).thenReturn("Benchmark Colony");
+        when(colony.getDimension()).thenReturn(World.OVERWORLD);
+        when(colony.getCenter()).thenReturn(BlockPos.ZERO);
+        when(colony.getStyle()).thenReturn("wooden");
+        when(colony.getTeamColonyColor()).thenReturn(TextFormatting.WHITE);
+        when(colony.getColonyFlag()).thenReturn(new ListNBT());
+        when(colony.getCitizenManager()).thenReturn(citizenManager);
+        when(colony.getRaiderManager()).thenReturn(raiderManager);
+        when(colony.getProgressManager()).thenReturn(mock(IProgressManager.class));
+        when(colony.getResearchManager()).thenReturn(mock(IResearchManager.class));
+        when(colony.getPermissions()).thenReturn(mock(Permissions.class));
+        when(colony.getWayPoints()).thenReturn(wayPoints);
+        when(colony.getFreePositions()).thenReturn(freePositions);
+        when(colony.getFreeBlocks()).thenReturn(freeBlocks);
+        when(colony.getTicketedChunks()).thenReturn(ticketedChunks);
+
+        sync = new ColonyViewSync();
+        ColonyView.serializeNetworkData(colony, new PacketBuffer(Unpooled.buffer()), sync, true);
+    }
+
+    @Benchmark
+    public PacketBuffer fullSync()
+    {
+        final PacketBuffer buf = new PacketBuffer(Unpooled.buffer());
+        ColonyView.serializeNetworkData(colony, buf, sync, true);
+        return buf;
+    }
+
+    @Benchmark
+    public boolean deltaSyncUnchanged()
+    {
+        return ColonyView.serializeNetworkData(colony, new PacketBuffer(Unpooled.buffer()), sync, false);
+    }
+
+    @Benchmark
+    public boolean deltaSyncWaypointChanged()
+    {
+        sync.markDirty(ColonyViewSync.SECTION_WAYPOINTS);
+        return ColonyView.serializeNetworkData(colony, new PacketBuffer(Unpooled.buffer()), sync, false);
+    }
+}
@@ -5,6 +5,7 @@ import com.ldtteam.blockout.controls.*;
 import com.ldtteam.blockout.views.ScrollingList;
 import com.ldtteam.blockout.views.Window;
 import com.minecolonies.api.colony.buildings.views.IBuildingView;
+import com.minecolonies.api.crafting.ItemKey;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.tileentities.TileEntityRack;
 import com.minecolonies.api.util.Tuple;
@@ -161,7 +162,7 @@ public class WindowHutAllInventory extends AbstractWindowSkeleton
     {
         final Set<BlockPos> containerList = new HashSet<>(building.getContainerList());
 
-        final Map<ItemStorage, Integer> storedItems = new HashMap<>();
+        final Map<ItemKey, Integer> storedItems = new HashMap<>();
         final World world = building.getColony().getWorld();
         containerList.add(building.getPosition());
 
@@ -170,27 +171,15 @@ public class WindowHutAllInventory extends AbstractWindowSkeleton
             final TileEntity rack = world.getTileEntity(blockPos);
             if (rack instanceof TileEntityRack)
             {
-                final Map<ItemStorage, Integer> rackStorage = ((TileEntityRack) rack).getAllContent();
-
-                for (final Map.Entry<ItemStorage, Integer> entry : rackStorage.entrySet())
+                for (final Map.Entry<ItemKey, Integer> entry : ((TileEntityRack) rack).getAllContentByKey().entrySet())
                 {
-                    if (storedItems.containsKey(entry.getKey()))
-                    {
-                        storedItems.put(entry.getKey(), storedItems.get(entry.getKey()) + entry.getValue());
-                    }
-                    else
-                    {
-                        storedItems.put(entry.getKey(), entry.getValue());
-                    }
+                    storedItems.merge(entry.getKey(), entry.getValue(), Integer::sum);
                 }
             }
         }
 
         final List<ItemStorage> filterItems = new ArrayList<>();
-        storedItems.forEach((storage, amount) -> {
-            storage.setAmount(amount);
-            filterItems.add(storage);
-        });
+        storedItems.forEach((key, amount) -> filterItems.add(key.toStorage(amount)));
         final Predicate<ItemStorage> filterPredicate = stack -> filter.isEmpty()
                                                                   || stack.getItemStack().getTranslationKey().toLowerCase(Locale.US).contains(filter.toLowerCase(Locale.US))
                                                                   || stack.getItemStack()
@@ -18,6 +18,8 @@ import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.ITickRat
 import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRateStateMachine;
 import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickingTransition;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.entity.ai.citizen.guards.IThreatIndex;
+import com.minecolonies.api.entity.pathfinding.IPassabilitySnapshot;
 import com.minecolonies.api.research.IResearchManager;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.Log;
@@ -32,6 +34,8 @@ import com.minecolonies.coremod.colony.permissions.Permissions;
 import com.minecolonies.coremod.colony.pvp.AttackingPlayer;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
 import com.minecolonies.coremod.colony.workorders.WorkManager;
+import com.minecolonies.coremod.entity.ai.citizen.guard.ThreatIndex;
+import com.minecolonies.coremod.entity.pathfinding.PassabilitySnapshot;
 import com.minecolonies.coremod.network.messages.client.colony.ColonyViewRemoveWorkOrderMessage;
 import com.minecolonies.coremod.permissions.ColonyPermissionEventHandler;
 import net.minecraft.block.Block;
@@ -81,6 +85,11 @@ import static com.minecolonies.coremod.MineColonies.getConfig;
 @SuppressWarnings({Suppression.BIG_CLASS, Suppression.SPLIT_CLASS})
 public class Colony implements IColony
 {
+    /**
+     * Ticks between the slow updates of colonies with consecutive ids, coprime to the max tickrate so that every id gets its own phase.
+     */
+    private static final int COLONY_TICK_SPREAD = 37;
+
     /**
      * The default style for the building.
      */
@@ -106,8 +115,6 @@ public class Colony implements IColony
      */
     public Set<Long> ticketedChunks = new HashSet<>();
 
-    private boolean ticketedChunksDirty = true;
-
     /**
      * List of chunks that have to be be force loaded.
      */
@@ -163,6 +170,21 @@ public class Colony implements IColony
      */
     private final IProgressManager progressManager = new ProgressManager(this);
 
+    /**
+     * The passability snapshot shared by the pathfinding jobs of the colony.
+     */
+    private final IPassabilitySnapshot passabilitySnapshot = new PassabilitySnapshot();
+
+    /**
+     * The threat index shared by the guards of the colony.
+     */
+    private final IThreatIndex threatIndex = new ThreatIndex(this);
+
+    /**
+     * State of the incremental colony view sync.
+     */
+    private final ColonyViewSync viewSync = new ColonyViewSync();
+
     /**
      * The Positions which players can freely interact.
      */
@@ -353,6 +375,7 @@ public class Colony implements IColony
         colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::updateWayPoints, () -> ACTIVE, CHECK_WAYPOINT_EVERY));
         colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::worldTickSlow, () -> ACTIVE, MAX_TICKRATE));
         colonyStateMachine.addTransition(new TickingTransition<>(UNLOADED, this::worldTickUnloaded, () -> UNLOADED, MAX_TICKRATE));
+        colonyStateMachine.setTickCounterOffset(id * COLONY_TICK_SPREAD);
     }
 
     /**
@@ -481,7 +504,7 @@ public class Colony implements IColony
                         }
                     }
                     ticketedChunks.clear();
-                    ticketedChunksDirty = true;
+                    viewSync.markDirty(ColonyViewSync.SECTION_TICKETS);
                 }
             }
         }
@@ -499,7 +522,7 @@ public class Colony implements IColony
             if (!ticketedChunks.contains(chunkPos) && buildingManager.isWithinBuildingZone(chunk))
             {
                 ticketedChunks.add(chunkPos);
-                ticketedChunksDirty = true;
+                viewSync.markDirty(ColonyViewSync.SECTION_TICKETS);
                 ((ServerChunkProvider) world.getChunkProvider()).registerTicket(KEEP_LOADED_TYPE, chunk.getPos(), 2, chunk.getPos());
             }
         }
@@ -910,7 +933,7 @@ public class Colony implements IColony
         compound.putString(TAG_STYLE, style);
         compound.putBoolean(TAG_AUTO_DELETE, canColonyBeAutoDeleted);
         compound.putInt(TAG_TEAM_COLOR, colonyTeamColor.ordinal());
-        compound.put(TAG_FLAG_PATTERNS, colonyFlag);
+        compound.put(TAG_FLAG_PATTERNS, colonyFlag.copy());
         compound.putLong(TAG_LAST_ONLINE, lastOnlineTime);
         this.colonyTag = compound;
 
@@ -1030,6 +1053,7 @@ public class Colony implements IColony
     public void addFreePosition(@NotNull final BlockPos pos)
     {
         freePositions.add(pos);
+        viewSync.markDirty(ColonyViewSync.SECTION_FREE_INTERACTIONS);
         markDirty();
     }
 
@@ -1041,6 +1065,7 @@ public class Colony implements IColony
     public void addFreeBlock(@NotNull final Block block)
     {
         freeBlocks.add(block);
+        viewSync.markDirty(ColonyViewSync.SECTION_FREE_INTERACTIONS);
         markDirty();
     }
 
@@ -1052,6 +1077,7 @@ public class Colony implements IColony
     public void removeFreePosition(@NotNull final BlockPos pos)
     {
         freePositions.remove(pos);
+        viewSync.markDirty(ColonyViewSync.SECTION_FREE_INTERACTIONS);
         markDirty();
     }
 
@@ -1063,6 +1089,7 @@ public class Colony implements IColony
     public void removeFreeBlock(@NotNull final Block block)
     {
         freeBlocks.remove(block);
+        viewSync.markDirty(ColonyViewSync.SECTION_FREE_INTERACTIONS);
         markDirty();
     }
 
@@ -1074,6 +1101,17 @@ public class Colony implements IColony
      */
     @Override
     public void onWorldTick(@NotNull final TickEvent.WorldTickEvent event)
+    {
+        onWorldTick(event, 1);
+    }
+
+    /**
+     * Tick the colony after it missed world ticks, the tick counters of the colony skip ahead over the missed ticks.
+     *
+     * @param event the world tick event.
+     * @param ticks the amount of world ticks passed since the last tick of the colony, including this one.
+     */
+    public void onWorldTick(@NotNull final TickEvent.WorldTickEvent event, final int ticks)
     {
         if (event.world != getWorld())
         {
@@ -1084,7 +1122,14 @@ public class Colony implements IColony
             return;
         }
 
-        colonyStateMachine.tick();
+        if (ticks > 1)
+        {
+            colonyStateMachine.tickCatchingUp(ticks);
+        }
+        else
+        {
+            colonyStateMachine.tick();
+        }
     }
 
     /**
@@ -1122,6 +1167,7 @@ public class Colony implements IColony
                             || (world.isAirBlock(entry.getKey().down()) && !entry.getValue().getMaterial().isSolid()))
                         {
                             wayPoints.remove(entry.getKey());
+                            viewSync.markDirty(ColonyViewSync.SECTION_WAYPOINTS);
                             markDirty();
                         }
                     }
@@ -1159,6 +1205,7 @@ public class Colony implements IColony
     public void setName(final String n)
     {
         name = n;
+        ColonyViewSync.markDirtyInAllColonies(ColonyViewSync.SECTION_DIPLOMACY);
         markDirty();
     }
 
@@ -1394,6 +1441,7 @@ public class Colony implements IColony
     public void addWayPoint(final BlockPos point, final BlockState block)
     {
         wayPoints.put(point, block);
+        viewSync.markDirty(ColonyViewSync.SECTION_WAYPOINTS);
         this.markDirty();
     }
 
@@ -1541,6 +1589,28 @@ public class Colony implements IColony
         return progressManager;
     }
 
+    @Override
+    public IPassabilitySnapshot getPassabilitySnapshot()
+    {
+        return passabilitySnapshot;
+    }
+
+    @Override
+    public IThreatIndex getThreatIndex()
+    {
+        return threatIndex;
+    }
+
+    /**
+     * Get the state of the incremental colony view sync, the sections of it have to be marked dirty when they change.
+     *
+     * @return the view sync state.
+     */
+    public ColonyViewSync getViewSync()
+    {
+        return viewSync;
+    }
+
     /**
      * Get all visiting players.
      *
@@ -1575,7 +1645,8 @@ public class Colony implements IColony
     }
 
     /**
-     * Get the NBT tag of the colony.
+     * Get the NBT tag of the colony. It is only written again if the colony was active or marked dirty since the last write, active colonies are written in full. The tag
+     * is built from fresh compounds and never modified afterwards, so the world save and the background backup writer can share it.
      *
      * @return the tag of it.
      */
@@ -1848,14 +1919,4 @@ public class Colony implements IColony
     {
         return ticketedChunks;
     }
-
-    /**
-     * Check if we need to update the view's chunk ticket info
-     *
-     * @return
-     */
-    public boolean isTicketedChunksDirty()
-    {
-        return ticketedChunksDirty;
-    }
 }
\ No newline at end of file
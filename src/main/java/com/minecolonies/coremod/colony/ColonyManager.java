@@ -64,6 +64,11 @@ public final class ColonyManager implements IColonyManager
      */
     private final ICompatibilityManager compatibilityManager = new CompatibilityManager();
 
+    /**
+     * The tick scheduler of the colonies of every world.
+     */
+    private final Map<RegistryKey<World>, ColonyTickScheduler> tickSchedulers = new HashMap<>();
+
     /**
      * Pseudo unique id for the server
      */
@@ -198,6 +203,7 @@ public final class ColonyManager implements IColonyManager
             }
 
             cap.deleteColony(id);
+            getTickScheduler(world.getDimensionKey()).remove(id);
             BackUpHelper.markColonyDeleted(colony.getID(), colony.getDimension());
             colony.getImportantMessageEntityPlayers()
               .forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewRemoveMessage(colony.getID(), colony.getDimension()), (ServerPlayerEntity) player));
@@ -646,10 +652,27 @@ public final class ColonyManager implements IColonyManager
     {
         if (event.phase == TickEvent.Phase.END)
         {
-            getColonies(event.world).forEach(c -> c.onWorldTick(event));
+            getTickScheduler(event.world.getDimensionKey()).tick(getColonies(event.world), event);
         }
     }
 
+    @Override
+    public long getAverageColonyTickNanos(@NotNull final IColony colony)
+    {
+        return getTickScheduler(colony.getDimension()).getAverageTickNanos(colony.getID());
+    }
+
+    /**
+     * Get the tick scheduler of the colonies of a world.
+     *
+     * @param dimension the dimension of the world.
+     * @return the scheduler.
+     */
+    private ColonyTickScheduler getTickScheduler(@NotNull final RegistryKey<World> dimension)
+    {
+        return tickSchedulers.computeIfAbsent(dimension, key -> new ColonyTickScheduler());
+    }
+
     @Override
     public void onWorldLoad(@NotNull final World world)
     {
@@ -700,7 +723,7 @@ public final class ColonyManager implements IColonyManager
             {
                 c.onWorldUnload(world);
             }
-            BackUpHelper.backupColonyData();
+            BackUpHelper.backupColonyDataAsync();
         }
     }
 
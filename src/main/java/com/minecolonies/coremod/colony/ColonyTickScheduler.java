@@ -0,0 +1,122 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.coremod.MineColonies;
+import net.minecraftforge.event.TickEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ticks the colonies of one world within a time budget per world tick.
+ * <p>
+ * Colonies are ticked until the budget is used up, the remaining ones are deferred and ticked first on the next tick. A colony is never deferred more than a few ticks in a
+ * row, so an overloaded world slows every colony down evenly instead of starving some. A deferred colony catches up on the ticks it missed once it is ticked again: its
+ * tick counters skip ahead and every transition due in the missed ticks is checked once, so its timers keep their pace without costing more than one tick. The cost of
+ * every colony tick is measured and averaged.
+ */
+public class ColonyTickScheduler
+{
+    /**
+     * Max amount of ticks in a row a colony can be deferred for.
+     */
+    private static final int MAX_DEFERRED_TICKS = 5;
+
+    /**
+     * Amount of samples the average tick cost is smoothed over.
+     */
+    private static final int AVERAGE_SAMPLES = 20;
+
+    /**
+     * Colonies deferred on the last tick, with the amount of ticks in a row they were deferred for.
+     */
+    private Map<Integer, Integer> deferred = new LinkedHashMap<>();
+
+    /**
+     * Colonies deferred on the current tick.
+     */
+    private Map<Integer, Integer> nextDeferred = new LinkedHashMap<>();
+
+    /**
+     * Average tick cost in nanoseconds per colony id.
+     */
+    private final Map<Integer, Long> averageTickNanos = new HashMap<>();
+
+    /**
+     * Tick the colonies of the world, the ones deferred on the last tick first.
+     *
+     * @param colonies the colonies of the world.
+     * @param event    the world tick event.
+     */
+    public void tick(@NotNull final List<IColony> colonies, @NotNull final TickEvent.WorldTickEvent event)
+    {
+        final long budget = TimeUnit.MILLISECONDS.toNanos(MineColonies.getConfig().getServer().colonyTickBudget.get());
+        long used = 0;
+
+        for (int pass = 0; pass < 2; pass++)
+        {
+            final boolean deferredPass = pass == 0;
+            for (final IColony colony : colonies)
+            {
+                final Integer deferredTicks = deferred.get(colony.getID());
+                if ((deferredTicks != null) != deferredPass)
+                {
+                    continue;
+                }
+
+                if (used >= budget && (deferredTicks == null || deferredTicks < MAX_DEFERRED_TICKS))
+                {
+                    nextDeferred.put(colony.getID(), deferredTicks == null ? 1 : deferredTicks + 1);
+                    continue;
+                }
+
+                // The counters of a deferred colony skip ahead over the missed ticks, so catching up costs about one tick
+                final int ticks = deferredTicks == null ? 1 : deferredTicks + 1;
+                final long start = System.nanoTime();
+                if (ticks > 1 && colony instanceof Colony)
+                {
+                    ((Colony) colony).onWorldTick(event, ticks);
+                }
+                else
+                {
+                    colony.onWorldTick(event);
+                }
+                final long cost = System.nanoTime() - start;
+
+                used += cost;
+                averageTickNanos.merge(colony.getID(), cost, (average, sample) -> average + (sample - average) / AVERAGE_SAMPLES);
+            }
+        }
+
+        final Map<Integer, Integer> swap = deferred;
+        deferred = nextDeferred;
+        nextDeferred = swap;
+        nextDeferred.clear();
+    }
+
+    /**
+     * Get the average tick cost of a colony.
+     *
+     * @param colonyId the id of the colony.
+     * @return the average cost in nanoseconds, 0 if the colony was not ticked yet.
+     */
+    public long getAverageTickNanos(final int colonyId)
+    {
+        return averageTickNanos.getOrDefault(colonyId, 0L);
+    }
+
+    /**
+     * Forget a colony which was deleted.
+     *
+     * @param colonyId the id of the colony.
+     */
+    public void remove(final int colonyId)
+    {
+        deferred.remove(colonyId);
+        averageTickNanos.remove(colonyId);
+    }
+}
@@ -15,7 +15,9 @@ import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.colony.workorders.IWorkManager;
 import com.minecolonies.api.colony.workorders.WorkOrderView;
+import com.minecolonies.api.entity.ai.citizen.guards.IThreatIndex;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.entity.pathfinding.IPassabilitySnapshot;
 import com.minecolonies.api.items.ItemBlockHut;
 import com.minecolonies.api.network.IMessage;
 import com.minecolonies.api.research.IResearchManager;
@@ -31,7 +33,9 @@ import com.minecolonies.coremod.colony.requestsystem.management.manager.Standard
 import com.minecolonies.coremod.colony.workorders.AbstractWorkOrder;
 import com.minecolonies.coremod.network.messages.PermissionsMessage;
 import com.minecolonies.coremod.network.messages.server.colony.ColonyFlagChangeMessage;
+import com.minecolonies.coremod.network.messages.server.colony.ColonyViewResyncMessage;
 import com.minecolonies.coremod.network.messages.server.colony.TownHallRenameMessage;
+import io.netty.buffer.Unpooled;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.client.Minecraft;
@@ -214,6 +218,11 @@ public final class ColonyView implements IColonyView
     private boolean   spiesEnabled;
     private Set<Long> ticketedChunks = new HashSet<>();
 
+    /**
+     * Sequence number of the last received view update.
+     */
+    private int syncSequence = -1;
+
     /**
      * Base constructor for a colony.
      *
@@ -238,15 +247,120 @@ public final class ColonyView implements IColonyView
     }
 
     /**
-     * Populate an NBT compound for a network packet representing a ColonyView.
+     * Populate a {@link PacketBuffer} for a network packet representing a ColonyView, only containing the sections which changed since the last update unless a full
+     * sync is requested.
      *
-     * @param colony            Colony to write data about.
-     * @param buf               {@link PacketBuffer} to write data in.
-     * @param hasNewSubscribers true if there is a new subscription.
+     * @param colony   Colony to write data about.
+     * @param buf      {@link PacketBuffer} to write data in.
+     * @param sync     the view sync state of the colony.
+     * @param fullSync true to write all sections, for new subscriptions and resyncs, the existing subscribers must have been sent a delta right before.
+     * @return false if nothing changed and no update has to be sent.
      */
-    public static void serializeNetworkData(@NotNull Colony colony, @NotNull PacketBuffer buf, boolean hasNewSubscribers)
+    public static boolean serializeNetworkData(@NotNull final Colony colony, @NotNull final PacketBuffer buf, @NotNull final ColonyViewSync sync, final boolean fullSync)
     {
-        //  General Attributes
+        // Full syncs move the baseline as well, the other subscribers have to get a delta first so they don't miss the change.
+        final int dirtySections = sync.takeDirtySections();
+        final int sectionsToWrite = fullSync ? -1 : dirtySections;
+
+        final PacketBuffer[] sections = new PacketBuffer[ColonyViewSync.SECTION_COUNT];
+        final PacketBuffer general = serializeGeneral(colony);
+        if (sync.updateGeneral(general) || fullSync)
+        {
+            sections[ColonyViewSync.SECTION_GENERAL] = general;
+        }
+        if (ColonyViewSync.contains(sectionsToWrite, ColonyViewSync.SECTION_FREE_INTERACTIONS))
+        {
+            sections[ColonyViewSync.SECTION_FREE_INTERACTIONS] = serializeFreeInteractions(colony);
+        }
+        if (ColonyViewSync.contains(sectionsToWrite, ColonyViewSync.SECTION_WAYPOINTS))
+        {
+            sections[ColonyViewSync.SECTION_WAYPOINTS] = serializeWayPoints(colony);
+        }
+        if (ColonyViewSync.contains(sectionsToWrite, ColonyViewSync.SECTION_RAID_SPAWNS))
+        {
+            sections[ColonyViewSync.SECTION_RAID_SPAWNS] = serializeRaidSpawns(colony);
+        }
+        if (ColonyViewSync.contains(sectionsToWrite, ColonyViewSync.SECTION_DIPLOMACY))
+        {
+            sections[ColonyViewSync.SECTION_DIPLOMACY] = serializeDiplomacy(colony);
+        }
+        if (ColonyViewSync.contains(sectionsToWrite, ColonyViewSync.SECTION_TICKETS))
+        {
+            sections[ColonyViewSync.SECTION_TICKETS] = serializeTickets(colony);
+        }
+
+        int mask = 0;
+        for (int section = 0; section < ColonyViewSync.SECTION_COUNT; section++)
+        {
+            if (sections[section] != null)
+            {
+                mask |= 1 << section;
+            }
+        }
+
+        final IRequestManager requestManager = colony.getRequestManager();
+        if (requestManager != null && (fullSync || requestManager.isDirty()))
+        {
+            final PacketBuffer requests = new PacketBuffer(Unpooled.buffer());
+            // Deltas only carry the changed requests, full syncs leave those to the deltas of the other subscribers.
+            requests.writeBoolean(false);
+            if (fullSync || !requestManager.serializeChanges(StandardFactoryController.getInstance(), requests))
+            {
+                requests.clear();
+                requests.writeBoolean(true);
+                requestManager.serialize(StandardFactoryController.getInstance(), requests);
+                if (!fullSync)
+                {
+                    requestManager.clearChanges();
+                }
+                if (requests.readableBytes() >= ColonyView.REQUEST_MANAGER_MAX_SIZE)
+                {
+                    Log.getLogger().warn("Colony " + colony.getID() + " has a very big memory imprint, this could be a memory leak, please contact the mod author!");
+                }
+            }
+            sections[ColonyViewSync.SECTION_REQUESTS] = requests;
+            mask |= 1 << ColonyViewSync.SECTION_REQUESTS;
+        }
+
+        if (fullSync || colony.getResearchManager().isDirty())
+        {
+            final PacketBuffer research = new PacketBuffer(Unpooled.buffer());
+            final CompoundNBT treeTag = new CompoundNBT();
+            colony.getResearchManager().writeToNBT(treeTag);
+            research.writeCompoundTag(treeTag);
+            sections[ColonyViewSync.SECTION_RESEARCH] = research;
+            mask |= 1 << ColonyViewSync.SECTION_RESEARCH;
+        }
+
+        if (!fullSync && mask == 0)
+        {
+            return false;
+        }
+
+        final int baseSequence = sync.getSequence();
+        buf.writeBoolean(fullSync);
+        buf.writeInt(fullSync ? baseSequence : sync.nextSequence());
+        buf.writeInt(baseSequence);
+        buf.writeInt(mask);
+        for (int section = 0; section < ColonyViewSync.SECTION_COUNT; section++)
+        {
+            if (ColonyViewSync.contains(mask, section))
+            {
+                buf.writeBytes(sections[section]);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Write the general attributes and settings of the colony.
+     *
+     * @param colony the colony.
+     * @return the section.
+     */
+    private static PacketBuffer serializeGeneral(@NotNull final Colony colony)
+    {
+        final PacketBuffer buf = new PacketBuffer(Unpooled.buffer());
         buf.writeString(colony.getName());
         buf.writeString(colony.getDimension().getLocation().toString());
         buf.writeBlockPos(colony.getCenter());
@@ -254,10 +368,36 @@ public final class ColonyView implements IColonyView
         //  Citizenry
         buf.writeInt(colony.getCitizenManager().getMaxCitizens());
         buf.writeInt(colony.getCitizenManager().getPotentialMaxCitizens());
+        buf.writeDouble(colony.getOverallHappiness());
+        buf.writeBoolean(colony.hasWarehouse());
+        buf.writeInt(colony.getLastContactInHours());
+        buf.writeBoolean(colony.isManualHousing());
+        buf.writeBoolean(colony.canMoveIn());
+        buf.writeInt(colony.getTeamColonyColor().ordinal());
 
+        final CompoundNBT flagNBT = new CompoundNBT();
+        flagNBT.put(TAG_BANNER_PATTERNS, colony.getColonyFlag());
+        buf.writeCompoundTag(flagNBT);
+
+        buf.writeBoolean(colony.getProgressManager().isPrintingProgress());
+        buf.writeLong(colony.getMercenaryUseTime());
+        buf.writeString(colony.getStyle());
+        buf.writeBoolean(colony.getRaiderManager().isRaided());
+        buf.writeBoolean(colony.getRaiderManager().areSpiesEnabled());
+        return buf;
+    }
+
+    /**
+     * Write the free to interact blocks and positions.
+     *
+     * @param colony the colony.
+     * @return the section.
+     */
+    private static PacketBuffer serializeFreeInteractions(@NotNull final Colony colony)
+    {
+        final PacketBuffer buf = new PacketBuffer(Unpooled.buffer());
         final Set<Block> freeBlocks = colony.getFreeBlocks();
         final Set<BlockPos> freePos = colony.getFreePositions();
-        final Map<BlockPos, BlockState> waypoints = colony.getWayPoints();
 
         buf.writeInt(freeBlocks.size());
         for (final Block block : freeBlocks)
@@ -270,56 +410,71 @@ public final class ColonyView implements IColonyView
         {
             buf.writeBlockPos(block);
         }
-        buf.writeDouble(colony.getOverallHappiness());
-        buf.writeBoolean(colony.hasWarehouse());
+        return buf;
+    }
 
+    /**
+     * Write the waypoints.
+     *
+     * @param colony the colony.
+     * @return the section.
+     */
+    private static PacketBuffer serializeWayPoints(@NotNull final Colony colony)
+    {
+        final PacketBuffer buf = new PacketBuffer(Unpooled.buffer());
+        final Map<BlockPos, BlockState> waypoints = colony.getWayPoints();
         buf.writeInt(waypoints.size());
         for (final Map.Entry<BlockPos, BlockState> block : waypoints.entrySet())
         {
             buf.writeBlockPos(block.getKey());
             buf.writeInt(Block.getStateId(block.getValue()));
         }
+        return buf;
+    }
 
-        buf.writeInt(colony.getLastContactInHours());
-        buf.writeBoolean(colony.isManualHousing());
-        buf.writeBoolean(colony.canMoveIn());
-        //  Citizens are sent as a separate packet
-
-        if (colony.getRequestManager() != null && (colony.getRequestManager().isDirty() || hasNewSubscribers))
-        {
-            final int preSize = buf.writerIndex();
-            buf.writeBoolean(true);
-            colony.getRequestManager().serialize(StandardFactoryController.getInstance(), buf);
-            final int postSize = buf.writerIndex();
-            if ((postSize - preSize) >= ColonyView.REQUEST_MANAGER_MAX_SIZE)
-            {
-                Log.getLogger().warn("Colony " + colony.getID() + " has a very big memory imprint, this could be a memory leak, please contact the mod author!");
-            }
-        }
-        else
-        {
-            buf.writeBoolean(false);
-        }
-
+    /**
+     * Write the last raider spawn points.
+     *
+     * @param colony the colony.
+     * @return the section.
+     */
+    private static PacketBuffer serializeRaidSpawns(@NotNull final Colony colony)
+    {
+        final PacketBuffer buf = new PacketBuffer(Unpooled.buffer());
         buf.writeInt(colony.getRaiderManager().getLastSpawnPoints().size());
         for (final BlockPos block : colony.getRaiderManager().getLastSpawnPoints())
         {
             buf.writeBlockPos(block);
         }
+        return buf;
+    }
 
-        buf.writeInt(colony.getTeamColonyColor().ordinal());
-
-        CompoundNBT flagNBT = new CompoundNBT();
-        flagNBT.put(TAG_BANNER_PATTERNS, colony.getColonyFlag());
-        buf.writeCompoundTag(flagNBT);
-
-        buf.writeBoolean(colony.getProgressManager().isPrintingProgress());
-
-        buf.writeLong(colony.getMercenaryUseTime());
+    /**
+     * Write the ticketed chunks.
+     *
+     * @param colony the colony.
+     * @return the section.
+     */
+    private static PacketBuffer serializeTickets(@NotNull final Colony colony)
+    {
+        final PacketBuffer buf = new PacketBuffer(Unpooled.buffer());
+        buf.writeInt(colony.getTicketedChunks().size());
+        for (final long pos : colony.getTicketedChunks())
+        {
+            buf.writeLong(pos);
+        }
+        return buf;
+    }
 
-        buf.writeString(colony.getStyle());
-        buf.writeBoolean(colony.getRaiderManager().isRaided());
-        buf.writeBoolean(colony.getRaiderManager().areSpiesEnabled());
+    /**
+     * Write the allies and feuds of the colony.
+     *
+     * @param colony the colony.
+     * @return the section.
+     */
+    private static PacketBuffer serializeDiplomacy(@NotNull final Colony colony)
+    {
+        final PacketBuffer buf = new PacketBuffer(Unpooled.buffer());
         final List<IColony> allies = new ArrayList<>();
         for (final Player player : colony.getPermissions().getPlayersByRank(Rank.OFFICER))
         {
@@ -370,23 +525,7 @@ public final class ColonyView implements IColonyView
             buf.writeInt(col.getID());
             buf.writeString(col.getDimension().getLocation().toString());
         }
-
-        final CompoundNBT treeTag = new CompoundNBT();
-        colony.getResearchManager().writeToNBT(treeTag);
-        buf.writeCompoundTag(treeTag);
-
-        if (hasNewSubscribers || colony.isTicketedChunksDirty())
-        {
-            buf.writeInt(colony.getTicketedChunks().size());
-            for (final long pos : colony.getTicketedChunks())
-            {
-                buf.writeLong(pos);
-            }
-        }
-        else
-        {
-            buf.writeInt(-1);
-        }
+        return buf;
     }
 
     /**
@@ -775,14 +914,10 @@ public final class ColonyView implements IColonyView
     public IMessage handleColonyViewMessage(@NotNull final PacketBuffer buf, @NotNull final World world, final boolean isNewSubscription)
     {
         this.world = world;
-        //  General Attributes
-        name = buf.readString(32767);
-        dimensionId = RegistryKey.getOrCreateKey(Registry.WORLD_KEY, new ResourceLocation(buf.readString(32767)));
-        center = buf.readBlockPos();
-        manualHiring = buf.readBoolean();
-        //  Citizenry
-        citizenCount = buf.readInt();
-        citizenCountWithEmptyGuardTowers = buf.readInt();
+        final boolean fullSync = buf.readBoolean();
+        final int sequence = buf.readInt();
+        final int baseSequence = buf.readInt();
+        final int sections = buf.readInt();
 
         if (isNewSubscription)
         {
@@ -791,83 +926,120 @@ public final class ColonyView implements IColonyView
             buildings.clear();
         }
 
-        freePositions.clear();
-        freeBlocks.clear();
-        wayPoints.clear();
-        lastSpawnPoints.clear();
-
-        final int blockListSize = buf.readInt();
-        for (int i = 0; i < blockListSize; i++)
+        if (!fullSync && baseSequence != syncSequence)
         {
-            freeBlocks.add(ForgeRegistries.BLOCKS.getValue(new ResourceLocation((buf.readString(32767)))));
+            // Missed an update, the request changes of this one can't be applied on top, so wait for the full one.
+            Network.getNetwork().sendToServer(new ColonyViewResyncMessage(this));
+            return null;
         }
+        syncSequence = sequence;
 
-        final int posListSize = buf.readInt();
-        for (int i = 0; i < posListSize; i++)
+        if (ColonyViewSync.contains(sections, ColonyViewSync.SECTION_GENERAL))
         {
-            freePositions.add(buf.readBlockPos());
+            //  General Attributes
+            name = buf.readString(32767);
+            dimensionId = RegistryKey.getOrCreateKey(Registry.WORLD_KEY, new ResourceLocation(buf.readString(32767)));
+            center = buf.readBlockPos();
+            manualHiring = buf.readBoolean();
+            //  Citizenry
+            citizenCount = buf.readInt();
+            citizenCountWithEmptyGuardTowers = buf.readInt();
+            this.overallHappiness = buf.readDouble();
+            this.hasColonyWarehouse = buf.readBoolean();
+            this.lastContactInHours = buf.readInt();
+            this.manualHousing = buf.readBoolean();
+            this.moveIn = buf.readBoolean();
+            this.teamColonyColor = TextFormatting.values()[buf.readInt()];
+            this.colonyFlag = buf.readCompoundTag().getList(TAG_BANNER_PATTERNS, Constants.TAG_COMPOUND);
+            this.printProgress = buf.readBoolean();
+            this.mercenaryLastUseTime = buf.readLong();
+            this.style = buf.readString(32767);
+            this.isUnderRaid = buf.readBoolean();
+            this.spiesEnabled = buf.readBoolean();
         }
-        this.overallHappiness = buf.readDouble();
-        this.hasColonyWarehouse = buf.readBoolean();
 
-        final int wayPointListSize = buf.readInt();
-        for (int i = 0; i < wayPointListSize; i++)
+        if (ColonyViewSync.contains(sections, ColonyViewSync.SECTION_FREE_INTERACTIONS))
         {
-            wayPoints.put(buf.readBlockPos(), Block.getStateById(buf.readInt()));
+            freePositions.clear();
+            freeBlocks.clear();
+
+            final int blockListSize = buf.readInt();
+            for (int i = 0; i < blockListSize; i++)
+            {
+                freeBlocks.add(ForgeRegistries.BLOCKS.getValue(new ResourceLocation((buf.readString(32767)))));
+            }
+
+            final int posListSize = buf.readInt();
+            for (int i = 0; i < posListSize; i++)
+            {
+                freePositions.add(buf.readBlockPos());
+            }
         }
-        this.lastContactInHours = buf.readInt();
-        this.manualHousing = buf.readBoolean();
-        this.moveIn = buf.readBoolean();
 
-        if (buf.readBoolean())
+        if (ColonyViewSync.contains(sections, ColonyViewSync.SECTION_WAYPOINTS))
         {
-            this.requestManager = new StandardRequestManager(this);
-            this.requestManager.deserialize(StandardFactoryController.getInstance(), buf);
+            wayPoints.clear();
+            final int wayPointListSize = buf.readInt();
+            for (int i = 0; i < wayPointListSize; i++)
+            {
+                wayPoints.put(buf.readBlockPos(), Block.getStateById(buf.readInt()));
+            }
         }
 
-        final int barbSpawnListSize = buf.readInt();
-        for (int i = 0; i < barbSpawnListSize; i++)
+        if (ColonyViewSync.contains(sections, ColonyViewSync.SECTION_REQUESTS))
         {
-            lastSpawnPoints.add(buf.readBlockPos());
+            if (buf.readBoolean())
+            {
+                this.requestManager = new StandardRequestManager(this);
+                this.requestManager.deserialize(StandardFactoryController.getInstance(), buf);
+            }
+            else
+            {
+                this.requestManager.deserializeChanges(StandardFactoryController.getInstance(), buf);
+            }
         }
-        Collections.reverse(lastSpawnPoints);
-
-        this.teamColonyColor = TextFormatting.values()[buf.readInt()];
-        this.colonyFlag = buf.readCompoundTag().getList(TAG_BANNER_PATTERNS, Constants.TAG_COMPOUND);
-
-        this.printProgress = buf.readBoolean();
-
-        this.mercenaryLastUseTime = buf.readLong();
-
-        this.style = buf.readString(32767);
-
-        this.isUnderRaid = buf.readBoolean();
-        this.spiesEnabled = buf.readBoolean();
-
-        this.allies = new ArrayList<>();
-        this.feuds = new ArrayList<>();
 
-        final int noOfAllies = buf.readInt();
-        for (int i = 0; i < noOfAllies; i++)
+        if (ColonyViewSync.contains(sections, ColonyViewSync.SECTION_RAID_SPAWNS))
         {
-            allies.add(new CompactColonyReference(buf.readString(32767), buf.readBlockPos(), buf.readInt(), buf.readBoolean(), RegistryKey.getOrCreateKey(Registry.WORLD_KEY, new ResourceLocation(buf.readString(32767)))));
+            lastSpawnPoints.clear();
+            final int barbSpawnListSize = buf.readInt();
+            for (int i = 0; i < barbSpawnListSize; i++)
+            {
+                lastSpawnPoints.add(buf.readBlockPos());
+            }
+            Collections.reverse(lastSpawnPoints);
         }
 
-        final int noOfFeuds = buf.readInt();
-        for (int i = 0; i < noOfFeuds; i++)
+        if (ColonyViewSync.contains(sections, ColonyViewSync.SECTION_DIPLOMACY))
         {
-            feuds.add(new CompactColonyReference(buf.readString(32767), buf.readBlockPos(), buf.readInt(), false, RegistryKey.getOrCreateKey(Registry.WORLD_KEY, new ResourceLocation(buf.readString(32767)))));
+            this.allies = new ArrayList<>();
+            this.feuds = new ArrayList<>();
+
+            final int noOfAllies = buf.readInt();
+            for (int i = 0; i < noOfAllies; i++)
+            {
+                allies.add(new CompactColonyReference(buf.readString(32767), buf.readBlockPos(), buf.readInt(), buf.readBoolean(), RegistryKey.getOrCreateKey(Registry.WORLD_KEY, new ResourceLocation(buf.readString(32767)))));
+            }
+
+            final int noOfFeuds = buf.readInt();
+            for (int i = 0; i < noOfFeuds; i++)
+            {
+                feuds.add(new CompactColonyReference(buf.readString(32767), buf.readBlockPos(), buf.readInt(), false, RegistryKey.getOrCreateKey(Registry.WORLD_KEY, new ResourceLocation(buf.readString(32767)))));
+            }
         }
 
-        this.manager.readFromNBT(buf.readCompoundTag());
-        if (isCoordInColony(world, Minecraft.getInstance().player.getPosition()))
+        if (ColonyViewSync.contains(sections, ColonyViewSync.SECTION_RESEARCH))
         {
-            ItemBlockHut.checkResearch(this);
+            this.manager.readFromNBT(buf.readCompoundTag());
+            if (isCoordInColony(world, Minecraft.getInstance().player.getPosition()))
+            {
+                ItemBlockHut.checkResearch(this);
+            }
         }
 
-        final int ticketChunkCount = buf.readInt();
-        if (ticketChunkCount != -1)
+        if (ColonyViewSync.contains(sections, ColonyViewSync.SECTION_TICKETS))
         {
+            final int ticketChunkCount = buf.readInt();
             ticketedChunks = new HashSet<>(ticketChunkCount);
             for (int i = 0; i < ticketChunkCount; i++)
             {
@@ -1435,6 +1607,18 @@ public final class ColonyView implements IColonyView
         return null;
     }
 
+    @Override
+    public IPassabilitySnapshot getPassabilitySnapshot()
+    {
+        return null;
+    }
+
+    @Override
+    public IThreatIndex getThreatIndex()
+    {
+        return null;
+    }
+
     @Override
     public boolean isRaiding()
     {
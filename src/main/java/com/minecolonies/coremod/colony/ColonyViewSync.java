@@ -0,0 +1,179 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import io.netty.buffer.ByteBuf;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Server side state of the incremental colony view sync of a colony.
+ * <p>
+ * The view data is split into sections which are only sent when they changed, each sent section fully replaces the section on the client. Every update carries its
+ * sequence number and the one of the update it builds on, a client which missed that update asks for a full resync.
+ * <p>
+ * Sections are marked dirty where they are changed and only dirty sections are serialized. The general section is made of values which are derived from many places, like
+ * the happiness or the citizen limits, it is small and serialized on every update and compared by content instead.
+ */
+public class ColonyViewSync
+{
+    /**
+     * Name, settings and other small values.
+     */
+    public static final int SECTION_GENERAL = 0;
+
+    /**
+     * Free to interact blocks and positions.
+     */
+    public static final int SECTION_FREE_INTERACTIONS = 1;
+
+    /**
+     * Waypoints.
+     */
+    public static final int SECTION_WAYPOINTS = 2;
+
+    /**
+     * The request system.
+     */
+    public static final int SECTION_REQUESTS = 3;
+
+    /**
+     * Last raider spawn points.
+     */
+    public static final int SECTION_RAID_SPAWNS = 4;
+
+    /**
+     * Allies and feuds.
+     */
+    public static final int SECTION_DIPLOMACY = 5;
+
+    /**
+     * The research tree.
+     */
+    public static final int SECTION_RESEARCH = 6;
+
+    /**
+     * Ticketed chunks.
+     */
+    public static final int SECTION_TICKETS = 7;
+
+    /**
+     * Amount of sections.
+     */
+    public static final int SECTION_COUNT = 8;
+
+    /**
+     * Sequence number of the last update.
+     */
+    private int sequence = 0;
+
+    /**
+     * Mask of the sections which changed since the last update, everything is dirty before the first one.
+     */
+    private int dirtySections = (1 << SECTION_COUNT) - 1;
+
+    /**
+     * Last sent content of the general section.
+     */
+    private byte[] lastGeneral;
+
+    /**
+     * Get the sequence number of the last update.
+     *
+     * @return the sequence number.
+     */
+    public int getSequence()
+    {
+        return sequence;
+    }
+
+    /**
+     * Start a new update.
+     *
+     * @return the sequence number of the new update.
+     */
+    public int nextSequence()
+    {
+        return ++sequence;
+    }
+
+    /**
+     * Mark a section as changed.
+     *
+     * @param section the section.
+     */
+    public void markDirty(final int section)
+    {
+        dirtySections |= 1 << section;
+    }
+
+    /**
+     * Mark a section as changed in every colony, for sections which depend on other colonies.
+     *
+     * @param section the section.
+     */
+    public static void markDirtyInAllColonies(final int section)
+    {
+        for (final IColony colony : IColonyManager.getInstance().getAllColonies())
+        {
+            if (colony instanceof Colony)
+            {
+                ((Colony) colony).getViewSync().markDirty(section);
+            }
+        }
+    }
+
+    /**
+     * Check if any section was marked as changed since the last update.
+     *
+     * @return true if so.
+     */
+    public boolean hasDirtySections()
+    {
+        return dirtySections != 0;
+    }
+
+    /**
+     * Get the sections which changed since the last update and reset them.
+     *
+     * @return the section mask.
+     */
+    public int takeDirtySections()
+    {
+        final int sections = dirtySections;
+        dirtySections = 0;
+        return sections;
+    }
+
+    /**
+     * Check if the content of the general section differs from what was sent last and remember the new content.
+     *
+     * @param content the serialized section, its reader index is not changed.
+     * @return true if it changed.
+     */
+    public boolean updateGeneral(@NotNull final ByteBuf content)
+    {
+        final byte[] bytes = new byte[content.readableBytes()];
+        content.getBytes(content.readerIndex(), bytes);
+        if (Arrays.equals(bytes, lastGeneral))
+        {
+            return false;
+        }
+
+        lastGeneral = bytes;
+        return true;
+    }
+
+    /**
+     * Check if a section is contained in a section mask.
+     *
+     * @param sections the section mask.
+     * @param section  the section.
+     * @return true if contained.
+     */
+    public static boolean contains(final int sections, final int section)
+    {
+        return (sections & (1 << section)) != 0;
+    }
+}
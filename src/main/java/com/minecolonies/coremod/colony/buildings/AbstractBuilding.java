@@ -5,7 +5,6 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.reflect.TypeToken;
 import com.ldtteam.structurize.util.LanguageHandler;
-import com.ldtteam.structurize.util.PlacementSettings;
 import com.minecolonies.api.MinecoloniesAPIProxy;
 import com.minecolonies.api.blocks.AbstractBlockHut;
 import com.minecolonies.api.colony.ICitizenData;
@@ -28,6 +27,7 @@ import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
 import com.minecolonies.api.colony.requestsystem.resolver.player.IPlayerRequestResolver;
 import com.minecolonies.api.colony.requestsystem.resolver.retrying.IRetryingRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.crafting.ItemKey;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.inventory.container.ContainerCrafting;
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
@@ -47,8 +47,8 @@ import com.minecolonies.coremod.colony.workorders.WorkOrderBuildBuilding;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildRemoval;
 import com.minecolonies.coremod.entity.ai.citizen.builder.ConstructionTapeHelper;
 import com.minecolonies.coremod.entity.ai.citizen.deliveryman.EntityAIWorkDeliveryman;
+import com.minecolonies.coremod.util.BlueprintCache;
 import com.minecolonies.coremod.util.ChunkDataHelper;
-import com.minecolonies.coremod.util.ColonyUtils;
 import net.minecraft.block.AirBlock;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -936,19 +936,15 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
     public void calculateCorners()
     {
         final WorkOrderBuildBuilding workOrder = new WorkOrderBuildBuilding(this, Math.max(1, getBuildingLevel()));
-        final LoadOnlyStructureHandler wrapper = new LoadOnlyStructureHandler(colony.getWorld(), getPosition(), workOrder.getStructureName(), new PlacementSettings(), true);
-        if (!wrapper.hasBluePrint())
+        final BlueprintCache.TransformedBlueprint blueprint =
+          BlueprintCache.get(colony.getWorld(), workOrder.getStructureName(), workOrder.getRotation(colony.getWorld()), workOrder.isMirrored());
+        if (blueprint == null)
         {
             setCorners(getPosition(), getPosition());
             return;
         }
 
-        final Tuple<BlockPos, BlockPos> corners
-          = ColonyUtils.calculateCorners(this.getPosition(),
-          colony.getWorld(),
-          wrapper.getBluePrint(),
-          workOrder.getRotation(colony.getWorld()),
-          workOrder.isMirrored());
+        final Tuple<BlockPos, BlockPos> corners = blueprint.getCorners(this.getPosition());
         this.setCorners(corners.getA(), corners.getB());
     }
 
@@ -1196,6 +1192,55 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
     public <R extends IRequestable> IToken<?> createRequest(@NotNull final ICitizenData citizenData, @NotNull final R requested, final boolean async)
     {
         final IToken<?> requestToken = colony.getRequestManager().createRequest(requester, requested);
+        registerCitizenRequest(citizenData, requestToken, requested, async);
+
+        colony.getRequestManager().assignRequest(requestToken);
+
+        markDirty();
+
+        return requestToken;
+    }
+
+    /**
+     * Create many requests for a citizen at once. All requests are registered with the building before the first one is assigned.
+     *
+     * @param citizenData the data of the citizen.
+     * @param requested   the requests to create.
+     * @param async       if async or not.
+     * @param <R>         the type of the requests.
+     * @return the Tokens of the requests.
+     */
+    @Override
+    public <R extends IRequestable> List<IToken<?>> createRequests(@NotNull final ICitizenData citizenData, @NotNull final List<R> requested, final boolean async)
+    {
+        if (requested.isEmpty())
+        {
+            return Collections.emptyList();
+        }
+
+        final List<IToken<?>> requestTokens = colony.getRequestManager().createRequests(requester, requested);
+        for (int i = 0; i < requestTokens.size(); i++)
+        {
+            registerCitizenRequest(citizenData, requestTokens.get(i), requested.get(i), async);
+        }
+
+        colony.getRequestManager().assignRequests(requestTokens);
+
+        markDirty();
+
+        return requestTokens;
+    }
+
+    /**
+     * Register a freshly created request of a citizen with the building, marking it async and notifying the citizen. Does not assign the request.
+     *
+     * @param citizenData  the data of the citizen.
+     * @param requestToken the token of the request.
+     * @param requested    the requested object.
+     * @param async        if async or not.
+     */
+    private void registerCitizenRequest(@NotNull final ICitizenData citizenData, @NotNull final IToken<?> requestToken, @NotNull final IRequestable requested, final boolean async)
+    {
         final IRequest<?> request = colony.getRequestManager().getRequestForToken(requestToken);
 
         if (async)
@@ -1211,12 +1256,6 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
         }
 
         addRequestToMaps(citizenData.getId(), requestToken, TypeToken.of(requested.getClass()));
-
-        colony.getRequestManager().assignRequest(requestToken);
-
-        markDirty();
-
-        return requestToken;
     }
 
     /**
@@ -1839,7 +1878,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
     }
 
     @Override
-    public Map<ItemStorage, Integer> reservedStacks()
+    public Map<ItemKey, Integer> reservedStacks()
     {
         return Collections.emptyMap();
     }
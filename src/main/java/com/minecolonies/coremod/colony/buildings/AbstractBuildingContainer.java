@@ -5,9 +5,13 @@ import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.buildings.IBuildingContainer;
 import com.minecolonies.api.colony.buildings.modules.IBuildingModule;
+import com.minecolonies.api.crafting.ItemKey;
+import com.minecolonies.api.inventory.ContainerItemIndex;
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
 import com.minecolonies.api.tileentities.TileEntityColonyBuilding;
 import com.minecolonies.api.tileentities.TileEntityRack;
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.api.util.WorldUtil;
 import com.minecolonies.coremod.blocks.BlockMinecoloniesRack;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -15,6 +19,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.nbt.NBTUtil;
+import net.minecraft.tileentity.ChestTileEntity;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.Tuple;
@@ -60,6 +65,36 @@ public abstract class AbstractBuildingContainer extends AbstractCitizenAssignabl
      */
     private int unscaledPickUpPriority = 1;
 
+    /**
+     * Index of the items stored in the containers of the building.
+     */
+    private final ContainerItemIndex itemIndex = createItemIndex();
+
+    /**
+     * Containers which changed since the item index was last refreshed.
+     */
+    private final Set<BlockPos> dirtyContainers = new HashSet<>();
+
+    /**
+     * Indexed chests, they are read again every {@link #CHEST_REFRESH_TICKS} as they can be changed without notifying the building.
+     */
+    private final Set<BlockPos> indexedChests = new HashSet<>();
+
+    /**
+     * Ticks after which the indexed chests are read again.
+     */
+    private static final int CHEST_REFRESH_TICKS = 100;
+
+    /**
+     * Game time the indexed chests were last read.
+     */
+    private long lastChestRefresh;
+
+    /**
+     * If the set of containers changed and the item index has to be rebuilt.
+     */
+    private boolean itemIndexInvalid = true;
+
     /**
      * The constructor for the building container.
      *
@@ -92,6 +127,7 @@ public abstract class AbstractBuildingContainer extends AbstractCitizenAssignabl
             final CompoundNBT containerCompound = containerTagList.getCompound(i);
             containerList.add(NBTUtil.readBlockPos(containerCompound));
         }
+        itemIndexInvalid = true;
         if (compound.keySet().contains(TAG_PRIO))
         {
             this.unscaledPickUpPriority = compound.getInt(TAG_PRIO);
@@ -140,13 +176,17 @@ public abstract class AbstractBuildingContainer extends AbstractCitizenAssignabl
         if (!containerList.contains(pos))
         {
             containerList.add(pos);
+            itemIndexInvalid = true;
         }
     }
 
     @Override
     public void removeContainerPosition(final BlockPos pos)
     {
-        containerList.remove(pos);
+        if (containerList.remove(pos))
+        {
+            itemIndexInvalid = true;
+        }
     }
 
     @Override
@@ -157,6 +197,101 @@ public abstract class AbstractBuildingContainer extends AbstractCitizenAssignabl
         return list;
     }
 
+    /**
+     * Create the index of the items stored in the containers of the building, called once on construction.
+     *
+     * @return the new index.
+     */
+    @NotNull
+    protected ContainerItemIndex createItemIndex()
+    {
+        return new ContainerItemIndex();
+    }
+
+    @Override
+    public ContainerItemIndex getItemIndex()
+    {
+        final World world = colony.getWorld();
+        if (world == null)
+        {
+            return itemIndex;
+        }
+
+        if (itemIndexInvalid)
+        {
+            itemIndex.clear();
+            indexedChests.clear();
+            dirtyContainers.addAll(containerList);
+            dirtyContainers.add(getPosition());
+            itemIndexInvalid = false;
+        }
+
+        if (world.getGameTime() - lastChestRefresh >= CHEST_REFRESH_TICKS)
+        {
+            dirtyContainers.addAll(indexedChests);
+            lastChestRefresh = world.getGameTime();
+        }
+        dirtyContainers.removeIf(pos -> indexContainer(world, pos));
+        return itemIndex;
+    }
+
+    @Override
+    public void onContainerContentChanged(@NotNull final BlockPos pos)
+    {
+        dirtyContainers.add(pos);
+    }
+
+    /**
+     * Read the content of a container into the item index.
+     *
+     * @param world the world.
+     * @param pos   the position of the container.
+     * @return false if it isn't loaded and has to be read once it is, its content is not counted until then.
+     */
+    private boolean indexContainer(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        if (!pos.equals(getPosition()) && !containerList.contains(pos))
+        {
+            itemIndex.remove(pos);
+            return true;
+        }
+
+        if (!WorldUtil.isBlockLoaded(world, pos))
+        {
+            itemIndex.remove(pos);
+            indexedChests.remove(pos);
+            return false;
+        }
+
+        indexedChests.remove(pos);
+        final TileEntity entity = world.getTileEntity(pos);
+        if (entity instanceof TileEntityRack)
+        {
+            itemIndex.update(pos, ((TileEntityRack) entity).getAllContentByKey());
+        }
+        else if (entity instanceof ChestTileEntity)
+        {
+            final Map<ItemKey, Integer> content = new HashMap<>();
+            entity.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, null).ifPresent(handler -> {
+                for (int slot = 0; slot < handler.getSlots(); slot++)
+                {
+                    final ItemStack stack = handler.getStackInSlot(slot);
+                    if (!ItemStackUtils.isEmpty(stack))
+                    {
+                        content.merge(ItemKey.of(stack), ItemStackUtils.getSize(stack), Integer::sum);
+                    }
+                }
+            });
+            itemIndex.update(pos, content);
+            indexedChests.add(pos);
+        }
+        else
+        {
+            itemIndex.remove(pos);
+        }
+        return true;
+    }
+
     @Override
     public void registerBlockPosition(@NotNull final BlockState blockState, @NotNull final BlockPos pos, @NotNull final World world)
     {
@@ -12,6 +12,7 @@ import com.minecolonies.api.colony.requestsystem.requestable.crafting.PublicCraf
 import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.crafting.IRecipeStorage;
+import com.minecolonies.api.crafting.ItemKey;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.crafting.MultiOutputRecipe;
 import com.minecolonies.api.entity.citizen.Skill;
@@ -115,19 +116,14 @@ public abstract class AbstractBuildingCrafter extends AbstractBuildingWorker imp
     }
 
     @Override
-    public Map<ItemStorage, Integer> reservedStacks()
+    public Map<ItemKey, Integer> reservedStacks()
     {
-        final Map<ItemStorage, Integer> recipeOutputs = new HashMap<>();
+        final Map<ItemKey, Integer> recipeOutputs = new HashMap<>();
         for (final Tuple<IRecipeStorage, Integer> recipeStorage : getPendingRequestQueue())
         {
             for (final ItemStorage itemStorage : recipeStorage.getA().getCleanedInput())
             {
-                int amount = itemStorage.getAmount() * recipeStorage.getB();
-                if (recipeOutputs.containsKey(itemStorage))
-                {
-                    amount += recipeOutputs.get(itemStorage);
-                }
-                recipeOutputs.put(itemStorage, amount);
+                recipeOutputs.merge(itemStorage.getKey(), itemStorage.getAmount() * recipeStorage.getB(), Integer::sum);
             }
         }
         return recipeOutputs;
@@ -636,6 +636,7 @@ public abstract class AbstractBuildingStructureBuilder extends AbstractBuildingW
         }
 
         final ImmutableList<IRequest<? extends Stack>> list = getOpenRequestsOfType(worker, TypeToken.of(Stack.class));
+        final List<Stack> toRequest = new ArrayList<>();
         for (final Map.Entry<String, Integer> entry : requiredResources.getResourceMap().entrySet())
         {
             final ItemStorage itemStack = neededResources.get(entry.getKey());
@@ -669,10 +670,15 @@ public abstract class AbstractBuildingStructureBuilder extends AbstractBuildingW
                         break;
                     }
 
-                    worker.createRequestAsync(new Stack(itemStack.getItemStack(), requestCount * getResourceBatchMultiplier(), 1));
+                    toRequest.add(new Stack(itemStack.getItemStack(), requestCount * getResourceBatchMultiplier(), 1));
                 }
             }
         }
+
+        if (!toRequest.isEmpty())
+        {
+            worker.getWorkBuilding().createRequests(worker, toRequest, true);
+        }
     }
 
     /**
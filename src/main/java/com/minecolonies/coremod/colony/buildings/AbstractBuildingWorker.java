@@ -33,6 +33,7 @@ import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.colony.buildings.modules.settings.BoolSetting;
 import com.minecolonies.coremod.colony.buildings.modules.settings.SettingKey;
+import com.minecolonies.coremod.colony.buildings.utils.RecipeOutputIndex;
 import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingBuilder;
 import com.minecolonies.coremod.colony.crafting.CustomRecipe;
@@ -109,6 +110,11 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
      */
     protected final List<IToken<?>> recipes = new ArrayList<>();
 
+    /**
+     * Index of the recipes by their outputs, has to be invalidated whenever the recipe list changes.
+     */
+    private final RecipeOutputIndex recipeOutputIndex = new RecipeOutputIndex();
+
     /**
      * The hiring mode of this particular building, by default overriden by colony mode.
      */
@@ -178,7 +184,7 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
         final Map<Predicate<ItemStack>, Tuple<Integer, Boolean>> toKeep = new HashMap<>(super.getRequiredItemsAndAmount());
         if (keepFood())
         {
-            toKeep.put(stack -> ItemStackUtils.CAN_EAT.test(stack) && canEat(stack), new Tuple<>(getBuildingLevel() * 2, true));
+            toKeep.put(stack -> IColonyManager.getInstance().getCompatibilityManager().isEdible(stack) && canEat(stack), new Tuple<>(getBuildingLevel() * 2, true));
         }
         return toKeep;
     }
@@ -187,7 +193,7 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
     @Nullable
     public IRecipeStorage getFirstRecipe(final ItemStack stack)
     {
-        return getFirstRecipe(itemStack -> !itemStack.isEmpty() && itemStack.isItemEqual(stack));
+        return getFirstRecipe(new RecipeOutputIndex.ItemPredicate(stack.getItem(), itemStack -> !itemStack.isEmpty() && itemStack.isItemEqual(stack)));
     }
 
     @Override
@@ -197,11 +203,11 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
         IRecipeStorage foundRecipe = null;
         final HashMap<IRecipeStorage, Integer> candidates = new HashMap<>();
 
-        //Scan through and collect all possible recipes that could fulfill this, taking special note of the first one
-        for (final IToken<?> token : recipes)
+        //Collect all possible recipes that could fulfill this, taking special note of the first one
+        for (final IToken<?> token : getRecipesMatching(stackPredicate))
         {
             final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
-            if (storage != null && (stackPredicate.test(storage.getPrimaryOutput()) || storage.getAlternateOutputs().stream().anyMatch(i -> stackPredicate.test(i))))
+            if (storage != null)
             {
                 if(foundRecipe == null)
                 {
@@ -230,6 +236,25 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
         return foundRecipe;
     }
 
+    /**
+     * Get the recipes of this building with an output matching a predicate.
+     *
+     * @param stackPredicate the predicate to test the outputs with.
+     * @return the tokens of the matching recipes, in the order of the recipe list.
+     */
+    protected List<IToken<?>> getRecipesMatching(final Predicate<ItemStack> stackPredicate)
+    {
+        return recipeOutputIndex.getMatching(recipes, token -> IColonyManager.getInstance().getRecipeManager().getRecipes().get(token), stackPredicate);
+    }
+
+    /**
+     * Invalidate the recipe output index, has to be called whenever the recipe list is changed.
+     */
+    protected void invalidateRecipeIndex()
+    {
+        recipeOutputIndex.invalidate();
+    }
+
     /**
      * Get the count of items in all the warehouses
      */
@@ -254,16 +279,18 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
     @Override
     public IRecipeStorage getFirstFullFillableRecipe(final ItemStack tempStack, int count, final boolean considerReservation)
     {
-        return getFirstFullFillableRecipe(itemStack -> !itemStack.isEmpty() && itemStack.isItemEqual(tempStack), count * tempStack.getCount(), considerReservation);
+        return getFirstFullFillableRecipe(new RecipeOutputIndex.ItemPredicate(tempStack.getItem(), itemStack -> !itemStack.isEmpty() && itemStack.isItemEqual(tempStack)),
+          count * tempStack.getCount(),
+          considerReservation);
     }
 
     @Override
     public IRecipeStorage getFirstFullFillableRecipe(final Predicate<ItemStack> stackPredicate, final int count, final boolean considerReservation)
     {
-        for (final IToken<?> token : recipes)
+        for (final IToken<?> token : getRecipesMatching(stackPredicate))
         {
             final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
-            if (storage != null && (stackPredicate.test(storage.getPrimaryOutput()) || storage.getAlternateOutputs().stream().anyMatch(i -> stackPredicate.test(i))))
+            if (storage != null)
             {
                 final List<IItemHandler> handlers = getHandlers();
                 IRecipeStorage toTest = storage.getRecipeType() instanceof MultiOutputRecipe ? storage.getClassicForMultiOutput(stackPredicate) : storage;
@@ -310,6 +337,7 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
             final IToken<?> storage = recipes.get(i);
             recipes.set(i, recipes.get(j));
             recipes.set(j, storage);
+            invalidateRecipeIndex();
         }
     }
 
@@ -590,6 +618,7 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
                 IColonyManager.getInstance().getRecipeManager().registerUse(token);
             }
         }
+        invalidateRecipeIndex();
     }
 
     @Override
@@ -679,6 +708,7 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
             {
                 recipes.add(token);
             }
+            invalidateRecipeIndex();
         }
     }
 
@@ -694,6 +724,7 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
             Log.getLogger().warn("Failure to remove recipe, please tell the mod authors about this");
             recipes.clear();
         }
+        invalidateRecipeIndex();
     }
 
     /**
@@ -708,6 +739,7 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
             int oldIndex = recipes.indexOf(oldRecipe);
             recipes.add(oldIndex, newRecipe);
             recipes.remove(oldRecipe);
+            invalidateRecipeIndex();
             markDirty();
         }
     }
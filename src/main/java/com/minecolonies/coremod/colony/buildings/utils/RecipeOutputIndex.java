@@ -0,0 +1,248 @@
+package com.minecolonies.coremod.colony.buildings.utils;
+
+import com.minecolonies.api.crafting.IRecipeStorage;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.util.ItemStackUtils;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Index of the recipes of a building by their outputs.
+ * <p>
+ * Recipes sharing an output, same item, tag and count, are grouped, so that a predicate only has to be tested once per distinct output instead of against every output of
+ * every recipe. Queries with an {@link ItemPredicate} only test the outputs of its item, other predicates are tested against all distinct outputs. The index is built lazily
+ * from the recipe list of the building and has to be invalidated whenever that list changes.
+ */
+public class RecipeOutputIndex
+{
+    /**
+     * The distinct outputs by item.
+     */
+    private final Map<Item, List<OutputGroup>> groupsByItem = new HashMap<>();
+
+    /**
+     * All distinct outputs.
+     */
+    private final List<OutputGroup> groups = new ArrayList<>();
+
+    /**
+     * The indexed recipes in the order of the recipe list.
+     */
+    private final List<IToken<?>> ordered = new ArrayList<>();
+
+    /**
+     * If the index has to be rebuilt before the next query.
+     */
+    private boolean invalid = true;
+
+    /**
+     * Mark the index to be rebuilt, after the recipe list changed.
+     */
+    public void invalidate()
+    {
+        invalid = true;
+    }
+
+    /**
+     * Get the recipes with an output matching a predicate.
+     *
+     * @param recipes   the recipe list of the building.
+     * @param lookup    gets the recipe of a token, may return null for unknown tokens.
+     * @param predicate the predicate to test the outputs with.
+     * @return the matching recipes in the order of the recipe list.
+     */
+    @NotNull
+    public List<IToken<?>> getMatching(
+      @NotNull final List<IToken<?>> recipes,
+      @NotNull final Function<IToken<?>, IRecipeStorage> lookup,
+      @NotNull final Predicate<ItemStack> predicate)
+    {
+        if (invalid)
+        {
+            rebuild(recipes, lookup);
+        }
+
+        final List<OutputGroup> candidates = predicate instanceof ItemPredicate
+                                               ? groupsByItem.getOrDefault(((ItemPredicate) predicate).item, Collections.emptyList())
+                                               : groups;
+
+        OutputGroup first = null;
+        BitSet matching = null;
+        for (final OutputGroup group : candidates)
+        {
+            if (!predicate.test(group.output))
+            {
+                continue;
+            }
+
+            if (first == null)
+            {
+                first = group;
+            }
+            else
+            {
+                if (matching == null)
+                {
+                    matching = (BitSet) first.positions.clone();
+                }
+                matching.or(group.positions);
+            }
+        }
+
+        if (first == null)
+        {
+            return Collections.emptyList();
+        }
+
+        if (matching == null)
+        {
+            // Single output, its recipes are already in list order.
+            return Collections.unmodifiableList(first.tokens);
+        }
+
+        final List<IToken<?>> result = new ArrayList<>(matching.cardinality());
+        for (int position = matching.nextSetBit(0); position >= 0; position = matching.nextSetBit(position + 1))
+        {
+            result.add(ordered.get(position));
+        }
+        return result;
+    }
+
+    /**
+     * Rebuild the index from the recipe list.
+     *
+     * @param recipes the recipe list of the building.
+     * @param lookup  gets the recipe of a token.
+     */
+    private void rebuild(@NotNull final List<IToken<?>> recipes, @NotNull final Function<IToken<?>, IRecipeStorage> lookup)
+    {
+        groupsByItem.clear();
+        groups.clear();
+        ordered.clear();
+
+        final Set<IToken<?>> seen = new HashSet<>();
+        for (final IToken<?> token : recipes)
+        {
+            final IRecipeStorage storage = lookup.apply(token);
+            if (storage == null || !seen.add(token))
+            {
+                continue;
+            }
+
+            final int position = ordered.size();
+            ordered.add(token);
+            addOutput(storage.getPrimaryOutput(), token, position);
+            for (final ItemStack output : storage.getAlternateOutputs())
+            {
+                addOutput(output, token, position);
+            }
+        }
+        invalid = false;
+    }
+
+    /**
+     * Add an output of a recipe to the index.
+     *
+     * @param output   the output.
+     * @param token    the token of the recipe.
+     * @param position the position of the recipe in the recipe list.
+     */
+    private void addOutput(final ItemStack output, final IToken<?> token, final int position)
+    {
+        final ItemStack stack = ItemStackUtils.isEmpty(output) ? ItemStack.EMPTY : output;
+        final List<OutputGroup> itemGroups = groupsByItem.computeIfAbsent(stack.getItem(), key -> new ArrayList<>());
+        for (final OutputGroup group : itemGroups)
+        {
+            if (ItemStack.areItemStacksEqual(group.output, stack))
+            {
+                group.add(token, position);
+                return;
+            }
+        }
+
+        final OutputGroup group = new OutputGroup(stack);
+        group.add(token, position);
+        itemGroups.add(group);
+        groups.add(group);
+    }
+
+    /**
+     * Predicate which only ever matches stacks of a single item, lets the index skip the outputs of all other items.
+     */
+    public static final class ItemPredicate implements Predicate<ItemStack>
+    {
+        /**
+         * The only item that can match.
+         */
+        private final Item item;
+
+        /**
+         * The actual predicate.
+         */
+        private final Predicate<ItemStack> predicate;
+
+        /**
+         * Create a new item predicate.
+         *
+         * @param item      the only item the predicate can match.
+         * @param predicate the actual predicate, must not match stacks of other items.
+         */
+        public ItemPredicate(@NotNull final Item item, @NotNull final Predicate<ItemStack> predicate)
+        {
+            this.item = item;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(final ItemStack stack)
+        {
+            return stack.getItem() == item && predicate.test(stack);
+        }
+    }
+
+    /**
+     * The recipes sharing one output.
+     */
+    private static final class OutputGroup
+    {
+        /**
+         * The output, as produced by the first recipe of the group.
+         */
+        private final ItemStack output;
+
+        /**
+         * The recipes producing it, in the order of the recipe list.
+         */
+        private final List<IToken<?>> tokens = new ArrayList<>();
+
+        /**
+         * The positions of the recipes in the recipe list.
+         */
+        private final BitSet positions = new BitSet();
+
+        private OutputGroup(final ItemStack output)
+        {
+            this.output = output;
+        }
+
+        /**
+         * Add a recipe to the group, recipes are added in list order.
+         *
+         * @param token    the token of the recipe.
+         * @param position the position of the recipe in the recipe list.
+         */
+        private void add(final IToken<?> token, final int position)
+        {
+            if (!positions.get(position))
+            {
+                positions.set(position);
+                tokens.add(token);
+            }
+        }
+    }
+}
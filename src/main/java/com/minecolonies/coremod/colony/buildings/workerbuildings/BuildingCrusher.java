@@ -96,6 +96,7 @@ public class BuildingCrusher extends AbstractBuildingCrafter
     private void loadCrusherMode()
     {
         this.recipes.clear();
+        invalidateRecipeIndex();
         checkForWorkerSpecificRecipes();
 
         this.crusherRecipes.clear();
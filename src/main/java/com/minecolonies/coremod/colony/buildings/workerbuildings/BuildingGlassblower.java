@@ -164,6 +164,7 @@ public class BuildingGlassblower extends AbstractBuildingSmelterCrafter
             }
         }
         recipes.addAll(tokens);
+        invalidateRecipeIndex();
     }
 
     @Override
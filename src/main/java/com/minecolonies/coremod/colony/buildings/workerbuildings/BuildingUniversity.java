@@ -228,6 +228,7 @@ public class BuildingUniversity extends AbstractBuildingWorker
             {
                 onSuccess(research);
             }
+            colony.getResearchManager().markDirty();
             i++;
         }
     }
@@ -12,6 +12,7 @@ import com.minecolonies.api.colony.buildings.registry.BuildingEntry;
 import com.minecolonies.api.colony.buildings.workerbuildings.IBuildingDeliveryman;
 import com.minecolonies.api.colony.buildings.workerbuildings.IWareHouse;
 import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
+import com.minecolonies.api.inventory.ContainerItemIndex;
 import com.minecolonies.api.tileentities.*;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
@@ -26,6 +27,7 @@ import com.minecolonies.coremod.colony.requestsystem.resolvers.PickupRequestReso
 import com.minecolonies.coremod.colony.requestsystem.resolvers.WarehouseConcreteRequestResolver;
 import com.minecolonies.coremod.colony.requestsystem.resolvers.WarehouseRequestResolver;
 import com.minecolonies.coremod.tileentities.TileEntityWareHouse;
+import com.minecolonies.coremod.tileentities.WarehouseItemIndex;
 import net.minecraft.block.Block;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
@@ -96,6 +98,13 @@ public class BuildingWareHouse extends AbstractBuilding implements IWareHouse
         super(c, l);
     }
 
+    @NotNull
+    @Override
+    protected ContainerItemIndex createItemIndex()
+    {
+        return new WarehouseItemIndex();
+    }
+
     @Override
     public void requestRepair(final BlockPos builder)
     {
@@ -23,6 +23,7 @@ import com.minecolonies.coremod.blocks.huts.BlockHutTavern;
 import com.minecolonies.coremod.blocks.huts.BlockHutTownHall;
 import com.minecolonies.coremod.blocks.huts.BlockHutWareHouse;
 import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyViewSync;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingGuards;
 import com.minecolonies.coremod.colony.buildings.BuildingMysticalSite;
 import com.minecolonies.coremod.colony.buildings.modules.TavernBuildingModule;
@@ -501,6 +502,7 @@ public class BuildingManager implements IBuildingManager
         if (building instanceof BuildingTownHall)
         {
             townHall = null;
+            ColonyViewSync.markDirtyInAllColonies(ColonyViewSync.SECTION_DIPLOMACY);
         }
         else if (building instanceof BuildingWareHouse)
         {
@@ -649,6 +651,7 @@ public class BuildingManager implements IBuildingManager
     public void setTownHall(@Nullable final ITownHall building)
     {
         this.townHall = building;
+        ColonyViewSync.markDirtyInAllColonies(ColonyViewSync.SECTION_DIPLOMACY);
     }
 
     @Override
@@ -697,6 +700,7 @@ public class BuildingManager implements IBuildingManager
         if (building instanceof BuildingTownHall && townHall == null)
         {
             townHall = (ITownHall) building;
+            ColonyViewSync.markDirtyInAllColonies(ColonyViewSync.SECTION_DIPLOMACY);
         }
 
         if (building instanceof BuildingWareHouse)
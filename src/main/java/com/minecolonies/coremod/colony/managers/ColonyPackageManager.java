@@ -2,11 +2,13 @@ package com.minecolonies.coremod.colony.managers;
 
 import com.ldtteam.structurize.management.Structures;
 import com.minecolonies.api.colony.managers.interfaces.IColonyPackageManager;
+import com.minecolonies.api.colony.permissions.Rank;
 import com.minecolonies.api.colony.workorders.IWorkManager;
 import com.minecolonies.api.colony.workorders.IWorkOrder;
 import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyView;
+import com.minecolonies.coremod.colony.ColonyViewSync;
 import com.minecolonies.coremod.colony.permissions.Permissions;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildMiner;
 import com.minecolonies.coremod.network.messages.PermissionsMessage;
@@ -20,8 +22,10 @@ import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static com.minecolonies.api.util.constant.ColonyConstants.UPDATE_STATE_INTERVAL;
@@ -45,6 +49,11 @@ public class ColonyPackageManager implements IColonyPackageManager
      */
     private Set<ServerPlayerEntity> newSubscribers = new HashSet<>();
 
+    /**
+     * Subscribers which missed a colony view update and need a full one.
+     */
+    private final Set<ServerPlayerEntity> resyncSubscribers = new HashSet<>();
+
     /**
      * Variables taking care of updating the views.
      */
@@ -170,20 +179,52 @@ public class ColonyPackageManager implements IColonyPackageManager
     @Override
     public void sendColonyViewPackets()
     {
-        if (isDirty || !newSubscribers.isEmpty())
+        final Set<ServerPlayerEntity> deltaSubscribers = new HashSet<>(closeSubscribers);
+        deltaSubscribers.removeAll(newSubscribers);
+
+        // Whether everyone already subscribed got the dirty data.
+        boolean upToDate = deltaSubscribers.isEmpty();
+        final boolean fullSync = !newSubscribers.isEmpty() || !resyncSubscribers.isEmpty();
+
+        // A full sync moves the baseline of the deltas, so the existing subscribers get a delta up to the same state first.
+        final ColonyViewSync viewSync = colony.getViewSync();
+        if ((isDirty || viewSync.hasDirtySections() || fullSync) && !deltaSubscribers.isEmpty())
         {
             final PacketBuffer colonyPacketBuffer = new PacketBuffer(Unpooled.buffer());
-            ColonyView.serializeNetworkData(colony, colonyPacketBuffer, !newSubscribers.isEmpty());
-            final Set<ServerPlayerEntity> players = new HashSet<>();
-            if (isDirty)
+            if (ColonyView.serializeNetworkData(colony, colonyPacketBuffer, viewSync, false))
             {
-                players.addAll(closeSubscribers);
+                Network.getNetwork().sendToPlayers(new ColonyViewMessage(colony, colonyPacketBuffer, false), deltaSubscribers);
             }
-            players.addAll(newSubscribers);
+            upToDate = true;
+        }
+
+        if (fullSync)
+        {
+            final PacketBuffer colonyPacketBuffer = new PacketBuffer(Unpooled.buffer());
+            ColonyView.serializeNetworkData(colony, colonyPacketBuffer, viewSync, true);
+            Network.getNetwork().sendToPlayers(new ColonyViewMessage(colony, colonyPacketBuffer, true), newSubscribers);
 
-            players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewMessage(colony, colonyPacketBuffer, newSubscribers.contains(player)), player));
+            resyncSubscribers.retainAll(closeSubscribers);
+            resyncSubscribers.removeAll(newSubscribers);
+            Network.getNetwork().sendToPlayers(new ColonyViewMessage(colony, colonyPacketBuffer, false), resyncSubscribers);
+            resyncSubscribers.clear();
+        }
+
+        if (upToDate)
+        {
+            colony.getRequestManager().setDirty(false);
+            colony.getRequestManager().clearChanges();
+            colony.getResearchManager().clearDirty();
+        }
+    }
+
+    @Override
+    public void requestColonyViewResync(@NotNull final ServerPlayerEntity subscriber)
+    {
+        if (closeSubscribers.contains(subscriber))
+        {
+            resyncSubscribers.add(subscriber);
         }
-        colony.getRequestManager().setDirty(false);
     }
 
     @Override
@@ -198,7 +239,14 @@ public class ColonyPackageManager implements IColonyPackageManager
                 players.addAll(closeSubscribers);
             }
             players.addAll(newSubscribers);
-            players.forEach(player -> Network.getNetwork().sendToPlayer(new PermissionsMessage.View(colony, permissions.getRank(player)), player));
+
+            // The view only depends on the rank of the viewer, so encode it once per rank.
+            final Map<Rank, Set<ServerPlayerEntity>> playersByRank = new EnumMap<>(Rank.class);
+            for (final ServerPlayerEntity player : players)
+            {
+                playersByRank.computeIfAbsent(permissions.getRank(player), rank -> new HashSet<>()).add(player);
+            }
+            playersByRank.forEach((rank, rankPlayers) -> Network.getNetwork().sendToPlayers(new PermissionsMessage.View(colony, rank), rankPlayers));
         }
     }
 
@@ -221,7 +269,7 @@ public class ColonyPackageManager implements IColonyPackageManager
                     workOrders.add(workOrder);
                 }
             }
-            players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewWorkOrderMessage(colony, workOrders), player));
+            Network.getNetwork().sendToPlayers(new ColonyViewWorkOrderMessage(colony, workOrders), players);
 
             workManager.setDirty(false);
         }
@@ -263,6 +311,7 @@ public class ColonyPackageManager implements IColonyPackageManager
     public void removeCloseSubscriber(@NotNull final ServerPlayerEntity player)
     {
         newSubscribers.remove(player);
+        resyncSubscribers.remove(player);
         closeSubscribers.remove(player);
     }
 
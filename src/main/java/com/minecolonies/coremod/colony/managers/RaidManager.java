@@ -15,6 +15,7 @@ import com.minecolonies.api.util.Tuple;
 import com.minecolonies.api.util.WorldUtil;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyViewSync;
 import com.minecolonies.coremod.colony.buildings.modules.LivingBuildingModule;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingGuardTower;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingTownHall;
@@ -202,6 +203,7 @@ public class RaidManager implements IRaiderManager
     public void addRaiderSpawnPoint(final BlockPos pos)
     {
         lastSpawnPoints.add(pos);
+        colony.getViewSync().markDirty(ColonyViewSync.SECTION_RAID_SPAWNS);
     }
 
     @Override
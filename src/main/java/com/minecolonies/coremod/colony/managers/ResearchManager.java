@@ -56,10 +56,16 @@ public class ResearchManager implements IResearchManager
      */
     private final IColony colony;
 
+    /**
+     * Whether the research data changed since it was last sent to the views.
+     */
+    private boolean dirty = true;
+
     @Override
     public void readFromNBT(@NotNull final CompoundNBT compound)
     {
         tree.readFromNBT(compound, effects);
+        markDirty();
     }
 
     @Override
@@ -171,6 +177,7 @@ public class ResearchManager implements IResearchManager
      */
     private void startCostlessResearch(IGlobalResearch research)
     {
+        markDirty();
         boolean creativePlayer = false;
         for (PlayerEntity player : colony.getMessagePlayerEntities())
         {
@@ -214,4 +221,22 @@ public class ResearchManager implements IResearchManager
             }
         }
     }
+
+    @Override
+    public void markDirty()
+    {
+        dirty = true;
+    }
+
+    @Override
+    public boolean isDirty()
+    {
+        return dirty;
+    }
+
+    @Override
+    public void clearDirty()
+    {
+        dirty = false;
+    }
 }
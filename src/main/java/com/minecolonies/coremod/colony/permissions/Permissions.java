@@ -8,6 +8,7 @@ import com.minecolonies.api.colony.permissions.Rank;
 import com.minecolonies.api.network.PacketUtils;
 import com.minecolonies.api.util.Utils;
 import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyViewSync;
 import com.mojang.authlib.GameProfile;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.ServerPlayerEntity;
@@ -253,6 +254,8 @@ public class Permissions implements IPermissions
         dirty = true;
         if (colony != null)
         {
+            // Allies and feuds of every colony depend on the ranks.
+            ColonyViewSync.markDirtyInAllColonies(ColonyViewSync.SECTION_DIPLOMACY);
             colony.markDirty();
         }
     }
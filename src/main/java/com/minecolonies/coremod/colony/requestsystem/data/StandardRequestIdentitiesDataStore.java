@@ -1,7 +1,9 @@
 package com.minecolonies.coremod.colony.requestsystem.data;
 
 import com.google.common.collect.BiMap;
+import com.google.common.collect.ForwardingBiMap;
 import com.google.common.collect.HashBiMap;
+import com.google.common.collect.Maps;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.colony.requestsystem.data.IRequestIdentitiesDataStore;
@@ -19,8 +21,7 @@ import net.minecraft.util.Tuple;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
@@ -33,18 +34,23 @@ public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDat
     private       IToken<?>                     id;
     private final BiMap<IToken<?>, IRequest<?>> map;
 
+    /**
+     * The tokens of the requests by the id of their requester.
+     */
+    private final Map<IToken<?>, Set<IToken<?>>> requestsByRequester = new HashMap<>();
+
     public StandardRequestIdentitiesDataStore(
       final IToken<?> id,
       final BiMap<IToken<?>, IRequest<?>> map)
     {
         this.id = id;
-        this.map = map;
+        this.map = new IndexedBiMap(map);
+        map.forEach(this::index);
     }
 
     public StandardRequestIdentitiesDataStore()
     {
-        this.id = StandardFactoryController.getInstance().getNewInstance(TypeConstants.ITOKEN);
-        this.map = HashBiMap.create();
+        this(StandardFactoryController.getInstance().getNewInstance(TypeConstants.ITOKEN), HashBiMap.create());
     }
 
     @Override
@@ -53,6 +59,148 @@ public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDat
         return map;
     }
 
+    @Override
+    public Collection<IRequest<?>> getRequestsMadeByRequester(final IToken<?> requesterId)
+    {
+        final Set<IToken<?>> tokens = requestsByRequester.get(requesterId);
+        if (tokens == null)
+        {
+            return Collections.emptyList();
+        }
+
+        final List<IRequest<?>> requests = new ArrayList<>(tokens.size());
+        for (final IToken<?> token : tokens)
+        {
+            requests.add(map.get(token));
+        }
+        return requests;
+    }
+
+    /**
+     * Add a request to the requester index.
+     *
+     * @param token   the token of the request.
+     * @param request the request.
+     */
+    private void index(final IToken<?> token, final IRequest<?> request)
+    {
+        requestsByRequester.computeIfAbsent(request.getRequester().getId(), requester -> new LinkedHashSet<>()).add(token);
+    }
+
+    /**
+     * Remove a request from the requester index.
+     *
+     * @param token   the token of the request.
+     * @param request the request.
+     */
+    private void unindex(final IToken<?> token, final IRequest<?> request)
+    {
+        final IToken<?> requesterId = request.getRequester().getId();
+        final Set<IToken<?>> tokens = requestsByRequester.get(requesterId);
+        if (tokens != null && tokens.remove(token) && tokens.isEmpty())
+        {
+            requestsByRequester.remove(requesterId);
+        }
+    }
+
+    /**
+     * The identities map, keeping the requester index up to date on modification.
+     * The key, value and entry views and the inverse map are read only, all changes have to go through the map itself.
+     */
+    private class IndexedBiMap extends ForwardingBiMap<IToken<?>, IRequest<?>>
+    {
+        private final BiMap<IToken<?>, IRequest<?>> delegate;
+
+        private IndexedBiMap(final BiMap<IToken<?>, IRequest<?>> delegate)
+        {
+            this.delegate = delegate;
+        }
+
+        @Override
+        protected BiMap<IToken<?>, IRequest<?>> delegate()
+        {
+            return delegate;
+        }
+
+        @Override
+        public IRequest<?> put(final IToken<?> key, final IRequest<?> value)
+        {
+            final IRequest<?> previous = delegate.put(key, value);
+            if (previous != null)
+            {
+                unindex(key, previous);
+            }
+            index(key, value);
+            return previous;
+        }
+
+        @Override
+        public IRequest<?> forcePut(final IToken<?> key, final IRequest<?> value)
+        {
+            final IToken<?> previousKey = delegate.inverse().get(value);
+            if (previousKey != null && !previousKey.equals(key))
+            {
+                unindex(previousKey, value);
+            }
+
+            final IRequest<?> previous = delegate.forcePut(key, value);
+            if (previous != null)
+            {
+                unindex(key, previous);
+            }
+            index(key, value);
+            return previous;
+        }
+
+        @Override
+        public void putAll(final Map<? extends IToken<?>, ? extends IRequest<?>> map)
+        {
+            map.forEach(this::put);
+        }
+
+        @Override
+        public IRequest<?> remove(final Object key)
+        {
+            final IRequest<?> previous = delegate.remove(key);
+            if (previous != null)
+            {
+                unindex((IToken<?>) key, previous);
+            }
+            return previous;
+        }
+
+        @Override
+        public void clear()
+        {
+            delegate.clear();
+            requestsByRequester.clear();
+        }
+
+        @Override
+        public Set<IToken<?>> keySet()
+        {
+            return Collections.unmodifiableSet(delegate.keySet());
+        }
+
+        @Override
+        public Set<IRequest<?>> values()
+        {
+            return Collections.unmodifiableSet(delegate.values());
+        }
+
+        @Override
+        public Set<Entry<IToken<?>, IRequest<?>>> entrySet()
+        {
+            return Collections.unmodifiableSet(delegate.entrySet());
+        }
+
+        @Override
+        public BiMap<IRequest<?>, IToken<?>> inverse()
+        {
+            return Maps.unmodifiableBiMap(delegate.inverse());
+        }
+    }
+
     @Override
     public IToken<?> getId()
     {
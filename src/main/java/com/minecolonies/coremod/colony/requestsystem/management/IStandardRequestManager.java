@@ -3,6 +3,8 @@ package com.minecolonies.coremod.colony.requestsystem.management;
 import com.minecolonies.api.colony.requestsystem.data.*;
 import com.minecolonies.api.colony.requestsystem.management.*;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.coremod.colony.requestsystem.management.manager.RequestSyncJournal;
+import com.minecolonies.coremod.colony.requestsystem.management.manager.ResolverDispatchCache;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
 import org.jetbrains.annotations.NotNull;
 
@@ -37,6 +39,22 @@ public interface IStandardRequestManager extends IRequestManager
 
     IUpdateHandler getUpdateHandler();
 
+    /**
+     * Get the journal of the requests which changed since the last network sync.
+     *
+     * @return the journal.
+     */
+    @NotNull
+    RequestSyncJournal getSyncJournal();
+
+    /**
+     * Get the cache of the resolvers to ask per requestable class.
+     *
+     * @return the cache.
+     */
+    @NotNull
+    ResolverDispatchCache getResolverDispatchCache();
+
     int getCurrentVersion();
 
     void setCurrentVersion(int currentVersion);
@@ -70,6 +70,7 @@ public class RequestHandler implements IRequestHandler
         manager.getLogger().debug("Registering request: " + request);
 
         manager.getRequestIdentitiesDataStore().getIdentities().put(request.getId(), request);
+        manager.getSyncJournal().onChanged(request.getId());
     }
 
     /**
@@ -128,22 +129,9 @@ public class RequestHandler implements IRequestHandler
         manager.getLogger().debug("Starting resolver assignment search for request: " + request);
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNING);
+        manager.getSyncJournal().onChanged(request.getId());
 
-        final Set<TypeToken<?>> requestTypes = request.getSuperClasses();
-
-        final List<TypeToken<?>> typeIndexList = new LinkedList<>(requestTypes);
-
-        final Set<IRequestResolver<?>> resolvers = requestTypes.stream()
-                                                     .filter(typeToken -> manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().containsKey(typeToken))
-                                                     .flatMap(type -> manager.getRequestableTypeRequestResolverAssignmentDataStore()
-                                                                        .getAssignments()
-                                                                        .get(type)
-                                                                        .stream()
-                                                                        .map(iToken -> manager.getResolverHandler().getResolver(iToken)))
-                                                     .filter(iRequestResolver -> typeIndexList.contains(iRequestResolver.getRequestType()))
-                                                     .sorted(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
-                                                               .thenComparingInt((IRequestResolver<?> r) -> typeIndexList.indexOf(r.getRequestType())))
-                                                     .collect(Collectors.toCollection(LinkedHashSet::new));
+        final List<IRequestResolver<?>> resolvers = getResolversFor(request);
 
         for (@SuppressWarnings(RAWTYPES) final IRequestResolver resolver : resolvers)
         {
@@ -209,6 +197,42 @@ public class RequestHandler implements IRequestHandler
         return null;
     }
 
+    /**
+     * Get the resolvers to ask for a request, ordered by priority and then by how specific their request type is. The order is cached per requestable class.
+     *
+     * @param request the request.
+     * @return the ordered resolvers.
+     */
+    private List<IRequestResolver<?>> getResolversFor(final IRequest<?> request)
+    {
+        final Class<?> requestableClass = request.getRequest().getClass();
+        final List<IRequestResolver<?>> cached = manager.getResolverDispatchCache().get(requestableClass);
+        if (cached != null)
+        {
+            return cached;
+        }
+
+        final Set<TypeToken<?>> requestTypes = request.getSuperClasses();
+
+        final List<TypeToken<?>> typeIndexList = new ArrayList<>(requestTypes);
+
+        final List<IRequestResolver<?>> resolvers = requestTypes.stream()
+                                                      .filter(typeToken -> manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().containsKey(typeToken))
+                                                      .flatMap(type -> manager.getRequestableTypeRequestResolverAssignmentDataStore()
+                                                                         .getAssignments()
+                                                                         .get(type)
+                                                                         .stream()
+                                                                         .map(iToken -> manager.getResolverHandler().getResolver(iToken)))
+                                                      .filter(iRequestResolver -> typeIndexList.contains(iRequestResolver.getRequestType()))
+                                                      .distinct()
+                                                      .sorted(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
+                                                                .thenComparingInt((IRequestResolver<?> r) -> typeIndexList.indexOf(r.getRequestType())))
+                                                      .collect(Collectors.toList());
+
+        manager.getResolverDispatchCache().put(requestableClass, Collections.unmodifiableList(resolvers));
+        return resolvers;
+    }
+
     /**
      * Method used to reassign the request to a resolver that is not in the given blacklist. Cancels the request internally without notify the requester, and attempts a reassign.
      * If the reassignment failed, it is assigned back to the orignal resolver.
@@ -228,6 +252,7 @@ public class RequestHandler implements IRequestHandler
 
         final IRequestResolver currentlyAssignedResolver = manager.getResolverForRequest(request.getId());
         currentlyAssignedResolver.onAssignedRequestBeingCancelled(new WrappedStaticStateRequestManager(manager), request);
+        manager.getSyncJournal().onChanged(request.getId());
 
         if (manager.getRequestResolverRequestAssignmentDataStore().getAssignments().containsKey(currentlyAssignedResolver.getId()))
         {
@@ -268,6 +293,7 @@ public class RequestHandler implements IRequestHandler
         final List<IRequest<?>> followupRequests = resolver.getFollowupRequestForCompletion(manager, request);
 
         request.setState(manager, RequestState.FOLLOWUP_IN_PROGRESS);
+        manager.getSyncJournal().onChanged(token);
 
         //Assign the followup to the parent as a child so that processing is still halted.
         if (followupRequests != null && !followupRequests.isEmpty())
@@ -311,6 +337,7 @@ public class RequestHandler implements IRequestHandler
 
             manager.updateRequestState(request.getId(), RequestState.RECEIVED);
             parentRequest.removeChild(request.getId());
+            manager.getSyncJournal().onChanged(parentRequest.getId());
 
             request.setParent(null);
 
@@ -344,6 +371,7 @@ public class RequestHandler implements IRequestHandler
         if (manager.getRequestResolverRequestAssignmentDataStore().getAssignmentForValue(token) == null)
         {
             manager.getRequestIdentitiesDataStore().getIdentities().remove(token);
+            manager.getSyncJournal().onRemoved(token);
             return;
         }
 
@@ -444,12 +472,14 @@ public class RequestHandler implements IRequestHandler
             }
         }
 
-                if (request.hasParent())
+        if (request.hasParent())
         {
             getRequest(request.getParent()).removeChild(request.getId());
+            manager.getSyncJournal().onChanged(request.getParent());
         }
         request.setParent(null);
         request.setState(manager, RequestState.CANCELLED);
+        manager.getSyncJournal().onChanged(request.getId());
 
         if (assigned)
         {
@@ -486,6 +516,7 @@ public class RequestHandler implements IRequestHandler
         final IRequestResolver resolver = manager.getResolverHandler().getResolverForRequest(request);
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.IN_PROGRESS);
+        manager.getSyncJournal().onChanged(request.getId());
         resolver.resolveRequest(manager, request);
     }
 
@@ -513,6 +544,7 @@ public class RequestHandler implements IRequestHandler
         }
 
         manager.getRequestIdentitiesDataStore().getIdentities().remove(token);
+        manager.getSyncJournal().onRemoved(token);
     }
 
     /**
@@ -555,11 +587,6 @@ public class RequestHandler implements IRequestHandler
     @Override
     public Collection<IRequest<?>> getRequestsMadeByRequester(final IRequester requester)
     {
-        return manager.getRequestIdentitiesDataStore()
-                 .getIdentities()
-                 .values()
-                 .stream()
-                 .filter(iRequest -> iRequest.getRequester().getId().equals(requester.getId()))
-                 .collect(Collectors.toList());
+        return manager.getRequestIdentitiesDataStore().getRequestsMadeByRequester(requester.getId());
     }
 }
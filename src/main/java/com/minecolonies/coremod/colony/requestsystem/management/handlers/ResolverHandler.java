@@ -78,6 +78,8 @@ public class ResolverHandler implements IResolverHandler
         }
 
         manager.getRequestResolverIdentitiesDataStore().getIdentities().put(resolver.getId(), resolver);
+        manager.getSyncJournal().requireFullSync();
+        manager.getResolverDispatchCache().invalidate();
 
         final Set<TypeToken<?>> resolverTypes = ReflectionUtils.getSuperClasses(resolver.getRequestType());
         resolverTypes.remove(TypeConstants.OBJECT);
@@ -205,6 +207,8 @@ public class ResolverHandler implements IResolverHandler
     public void removeResolverInternal(final IRequestResolver<?> resolver)
     {
         manager.getRequestResolverIdentitiesDataStore().getIdentities().remove(resolver.getId());
+        manager.getSyncJournal().requireFullSync();
+        manager.getResolverDispatchCache().invalidate();
         final Set<TypeToken<?>> requestTypes = ReflectionUtils.getSuperClasses(resolver.getRequestType());
         requestTypes.remove(TypeConstants.OBJECT);
         requestTypes.forEach(c -> {
@@ -265,6 +269,7 @@ public class ResolverHandler implements IResolverHandler
         manager.getRequestResolverRequestAssignmentDataStore().getAssignments().get(resolver.getId()).add(request.getId());
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNED);
+        manager.getSyncJournal().onChanged(request.getId());
     }
 
     /**
@@ -0,0 +1,110 @@
+package com.minecolonies.coremod.colony.requestsystem.management.manager;
+
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Journal of the requests which changed since the request system was last sent to the clients.
+ * <p>
+ * Only the latest operation per request is kept, the content of changed requests is read when the journal is written. Changes which are not about single requests, like
+ * resolvers being registered or the whole system being reset or loaded, require the whole request system to be sent instead.
+ */
+public class RequestSyncJournal
+{
+    /**
+     * Requests which were created or changed.
+     */
+    private final Set<IToken<?>> changed = new LinkedHashSet<>();
+
+    /**
+     * Requests which were removed.
+     */
+    private final Set<IToken<?>> removed = new LinkedHashSet<>();
+
+    /**
+     * If the changes can't be described by the journal.
+     */
+    private boolean fullSyncRequired = true;
+
+    /**
+     * Record a created or changed request.
+     *
+     * @param token the token of the request.
+     */
+    public void onChanged(final IToken<?> token)
+    {
+        if (!fullSyncRequired)
+        {
+            removed.remove(token);
+            changed.add(token);
+        }
+    }
+
+    /**
+     * Record a removed request.
+     *
+     * @param token the token of the request.
+     */
+    public void onRemoved(final IToken<?> token)
+    {
+        if (!fullSyncRequired)
+        {
+            changed.remove(token);
+            removed.add(token);
+        }
+    }
+
+    /**
+     * Record a change which can't be described by the journal.
+     */
+    public void requireFullSync()
+    {
+        fullSyncRequired = true;
+        changed.clear();
+        removed.clear();
+    }
+
+    /**
+     * Check if the whole request system has to be sent.
+     *
+     * @return true if so.
+     */
+    public boolean isFullSyncRequired()
+    {
+        return fullSyncRequired;
+    }
+
+    /**
+     * Get the created or changed requests.
+     *
+     * @return unmodifiable view of the tokens.
+     */
+    public Collection<IToken<?>> getChanged()
+    {
+        return Collections.unmodifiableSet(changed);
+    }
+
+    /**
+     * Get the removed requests.
+     *
+     * @return unmodifiable view of the tokens.
+     */
+    public Collection<IToken<?>> getRemoved()
+    {
+        return Collections.unmodifiableSet(removed);
+    }
+
+    /**
+     * Forget all recorded changes, after they were sent or the whole request system was.
+     */
+    public void clear()
+    {
+        fullSyncRequired = false;
+        changed.clear();
+        removed.clear();
+    }
+}
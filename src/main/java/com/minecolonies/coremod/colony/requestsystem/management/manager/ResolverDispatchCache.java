@@ -0,0 +1,53 @@
+package com.minecolonies.coremod.colony.requestsystem.management.manager;
+
+import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache of the resolvers which can be asked to resolve requests of a requestable class, in the order in which they are asked.
+ * <p>
+ * The order only depends on the registered resolvers and the type hierarchy of the requestable, so the cache is cleared whenever resolvers are registered or removed.
+ */
+public class ResolverDispatchCache
+{
+    /**
+     * The ordered resolvers per requestable class.
+     */
+    private final Map<Class<?>, List<IRequestResolver<?>>> resolversByRequestable = new HashMap<>();
+
+    /**
+     * Get the cached resolvers for a requestable class.
+     *
+     * @param requestableClass the class of the requestable.
+     * @return the ordered resolvers or null if not cached.
+     */
+    @Nullable
+    public List<IRequestResolver<?>> get(@NotNull final Class<?> requestableClass)
+    {
+        return resolversByRequestable.get(requestableClass);
+    }
+
+    /**
+     * Cache the resolvers for a requestable class.
+     *
+     * @param requestableClass the class of the requestable.
+     * @param resolvers        the ordered resolvers.
+     */
+    public void put(@NotNull final Class<?> requestableClass, @NotNull final List<IRequestResolver<?>> resolvers)
+    {
+        resolversByRequestable.put(requestableClass, resolvers);
+    }
+
+    /**
+     * Forget all cached resolvers, after resolvers were registered or removed.
+     */
+    public void invalidate()
+    {
+        resolversByRequestable.clear();
+    }
+}
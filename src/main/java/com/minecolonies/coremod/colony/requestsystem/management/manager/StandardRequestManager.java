@@ -31,7 +31,12 @@ import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -106,6 +111,25 @@ public class StandardRequestManager implements IStandardRequestManager
 
     private int version = -1;
 
+    /**
+     * Requests which changed since the last network sync.
+     */
+    @NotNull
+    private final RequestSyncJournal syncJournal = new RequestSyncJournal();
+
+    /**
+     * Resolvers to ask per requestable class.
+     */
+    @NotNull
+    private final ResolverDispatchCache resolverDispatchCache = new ResolverDispatchCache();
+
+    /**
+     * Client side reverse of the resolver assignments, the resolver of every assigned request. Built on the first received change, only kept up to date by
+     * {@link #deserializeChanges}.
+     */
+    @Nullable
+    private Map<IToken<?>, IToken<?>> resolverByRequest;
+
     public StandardRequestManager(@NotNull final IColony colony)
     {
         this.colony = colony;
@@ -224,6 +248,33 @@ public class StandardRequestManager implements IStandardRequestManager
         markDirty();
     }
 
+    @NotNull
+    @Override
+    public <T extends IRequestable> List<IToken<?>> createRequests(@NotNull final IRequester requester, @NotNull final Collection<T> objects)
+    {
+        final List<IToken<?>> tokens = new ArrayList<>(objects.size());
+        for (final T object : objects)
+        {
+            tokens.add(getRequestHandler().createRequest(requester, object).getId());
+        }
+        markDirty();
+        return tokens;
+    }
+
+    @Override
+    public void assignRequests(@NotNull final Collection<IToken<?>> tokens)
+    {
+        for (final IToken<?> token : tokens)
+        {
+            final IRequest<?> request = getRequestHandler().getRequestOrNull(token);
+            if (request != null && request.getState() == RequestState.CREATED)
+            {
+                getRequestHandler().assignRequest(request);
+            }
+        }
+        markDirty();
+    }
+
     /**
      * Method used to create and immediately assign a request.
      *
@@ -292,6 +343,12 @@ public class StandardRequestManager implements IStandardRequestManager
         request.setState(new WrappedStaticStateRequestManager(this), state);
         markDirty();
 
+        // The state change propagates to the parents.
+        for (IRequest<?> current = request; current != null; current = current.hasParent() ? getRequestHandler().getRequestOrNull(current.getParent()) : null)
+        {
+            syncJournal.onChanged(current.getId());
+        }
+
         switch (request.getState())
         {
             case RESOLVED:
@@ -403,6 +460,8 @@ public class StandardRequestManager implements IStandardRequestManager
     private void reset(UpdateType type)
     {
         setup();
+        syncJournal.requireFullSync();
+        resolverDispatchCache.invalidate();
 
         version = -1;
         getUpdateHandler().handleUpdate(UpdateType.RESET);
@@ -487,6 +546,8 @@ public class StandardRequestManager implements IStandardRequestManager
         }
 
         updateIfRequired();
+        syncJournal.requireFullSync();
+        resolverDispatchCache.invalidate();
     }
 
     @Override
@@ -503,10 +564,116 @@ public class StandardRequestManager implements IStandardRequestManager
         controller.serialize(buffer, retryingRequestResolverId);
     }
 
+    @Override
+    public boolean serializeChanges(final IFactoryController controller, final PacketBuffer buffer)
+    {
+        if (syncJournal.isFullSyncRequired())
+        {
+            return false;
+        }
+
+        buffer.writeInt(syncJournal.getRemoved().size());
+        for (final IToken<?> token : syncJournal.getRemoved())
+        {
+            controller.serialize(buffer, token);
+        }
+
+        final List<IRequest<?>> changed = new ArrayList<>();
+        for (final IToken<?> token : syncJournal.getChanged())
+        {
+            final IRequest<?> request = getRequestHandler().getRequestOrNull(token);
+            if (request != null)
+            {
+                changed.add(request);
+            }
+        }
+
+        buffer.writeInt(changed.size());
+        for (final IRequest<?> request : changed)
+        {
+            controller.serialize(buffer, request);
+            final IToken<?> resolver = getRequestResolverRequestAssignmentDataStore().getAssignmentForValue(request.getId());
+            buffer.writeBoolean(resolver != null);
+            if (resolver != null)
+            {
+                controller.serialize(buffer, resolver);
+            }
+        }
+
+        syncJournal.clear();
+        return true;
+    }
+
+    @Override
+    public void deserializeChanges(final IFactoryController controller, final PacketBuffer buffer)
+    {
+        if (resolverByRequest == null)
+        {
+            resolverByRequest = new HashMap<>();
+            for (final Map.Entry<IToken<?>, Collection<IToken<?>>> entry : getRequestResolverRequestAssignmentDataStore().getAssignments().entrySet())
+            {
+                for (final IToken<?> request : entry.getValue())
+                {
+                    resolverByRequest.put(request, entry.getKey());
+                }
+            }
+        }
+
+        final int removedSize = buffer.readInt();
+        for (int i = 0; i < removedSize; ++i)
+        {
+            final IToken<?> token = controller.deserialize(buffer);
+            getRequestIdentitiesDataStore().getIdentities().remove(token);
+            removeResolverAssignment(token);
+        }
+
+        final int changedSize = buffer.readInt();
+        for (int i = 0; i < changedSize; ++i)
+        {
+            final IRequest<?> request = controller.deserialize(buffer);
+            getRequestIdentitiesDataStore().getIdentities().forcePut(request.getId(), request);
+            removeResolverAssignment(request.getId());
+            if (buffer.readBoolean())
+            {
+                final IToken<?> resolver = controller.deserialize(buffer);
+                getRequestResolverRequestAssignmentDataStore().getAssignments().computeIfAbsent(resolver, key -> new HashSet<>()).add(request.getId());
+                resolverByRequest.put(request.getId(), resolver);
+            }
+        }
+    }
+
+    @Override
+    public void clearChanges()
+    {
+        syncJournal.clear();
+    }
+
+    /**
+     * Remove a request from the resolver it is assigned to, if any.
+     *
+     * @param token the token of the request.
+     */
+    private void removeResolverAssignment(final IToken<?> token)
+    {
+        final IToken<?> resolver = resolverByRequest.remove(token);
+        if (resolver == null)
+        {
+            return;
+        }
+
+        final Map<IToken<?>, Collection<IToken<?>>> assignments = getRequestResolverRequestAssignmentDataStore().getAssignments();
+        final Collection<IToken<?>> requests = assignments.get(resolver);
+        if (requests != null && requests.remove(token) && requests.isEmpty())
+        {
+            assignments.remove(resolver);
+        }
+    }
+
     @Override
     public void deserialize(IFactoryController controller, PacketBuffer buffer)
     {
         version = buffer.readInt();
+        resolverByRequest = null;
         dataStoreManager = controller.deserialize(buffer);
         requestIdentitiesDataStoreId = controller.deserialize(buffer);
         requestResolverIdentitiesDataStoreId = controller.deserialize(buffer);
@@ -620,6 +787,20 @@ public class StandardRequestManager implements IStandardRequestManager
         return tokenHandler;
     }
 
+    @NotNull
+    @Override
+    public RequestSyncJournal getSyncJournal()
+    {
+        return syncJournal;
+    }
+
+    @NotNull
+    @Override
+    public ResolverDispatchCache getResolverDispatchCache()
+    {
+        return resolverDispatchCache;
+    }
+
     @Override
     public IUpdateHandler getUpdateHandler()
     {
@@ -234,6 +234,24 @@ public abstract class AbstractWrappedRequestManager implements IRequestManager
         wrappedManager.deserialize(controller, buffer);
     }
 
+    @Override
+    public boolean serializeChanges(final IFactoryController controller, final PacketBuffer buffer)
+    {
+        return wrappedManager.serializeChanges(controller, buffer);
+    }
+
+    @Override
+    public void deserializeChanges(final IFactoryController controller, final PacketBuffer buffer)
+    {
+        wrappedManager.deserializeChanges(controller, buffer);
+    }
+
+    @Override
+    public void clearChanges()
+    {
+        wrappedManager.clearChanges();
+    }
+
     @Override
     public void tick()
     {
@@ -15,6 +15,7 @@ import com.minecolonies.api.colony.requestsystem.requestable.deliveryman.Deliver
 import com.minecolonies.api.colony.requestsystem.requestable.deliveryman.Pickup;
 import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.compatibility.ICompatibilityManager;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.constant.ToolLevelConstants;
 import com.minecolonies.api.util.constant.TranslationConstants;
@@ -24,7 +25,6 @@ import com.minecolonies.coremod.colony.jobs.views.DmanJobView;
 import com.minecolonies.coremod.colony.requestable.SmeltableOre;
 import com.minecolonies.coremod.util.text.NonSiblingFormattingTextComponent;
 import net.minecraft.item.ItemStack;
-import net.minecraft.tileentity.FurnaceTileEntity;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.BlockPos;
@@ -700,11 +700,10 @@ public final class StandardRequests
         {
             if (burnableExamples == null)
             {
-                burnableExamples = ImmutableList.copyOf(IColonyManager.getInstance()
-                                                          .getCompatibilityManager()
-                                                          .getListOfAllItems()
+                final ICompatibilityManager compatibilityManager = IColonyManager.getInstance().getCompatibilityManager();
+                burnableExamples = ImmutableList.copyOf(compatibilityManager.getListOfAllItems()
                                                           .stream()
-                                                          .filter(FurnaceTileEntity::isFuel)
+                                                          .filter(compatibilityManager::isFuel)
                                                           .collect(Collectors.toList()));
             }
 
@@ -10,7 +10,7 @@ import com.minecolonies.api.colony.requestsystem.request.RequestState;
 import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
 import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
-import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.crafting.ItemKey;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.constant.TypeConstants;
@@ -113,7 +113,7 @@ public class BuildingRequestResolver extends AbstractBuildingDependentRequestRes
             }
         }
 
-        for (final Map.Entry<ItemStorage, Integer> reserved : building.reservedStacks().entrySet())
+        for (final Map.Entry<ItemKey, Integer> reserved : building.reservedStacks().entrySet())
         {
             if (request.getRequest().matches(reserved.getKey().getItemStack()))
             {
@@ -9,6 +9,7 @@ import com.minecolonies.api.colony.requestsystem.request.RequestState;
 import com.minecolonies.api.colony.requestsystem.requestable.Food;
 import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
 import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
+import com.minecolonies.api.colony.requestsystem.requestable.Stack;
 import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.crafting.IRecipeStorage;
@@ -17,6 +18,7 @@ import com.minecolonies.api.research.effects.AbstractResearchEffect;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingWorker;
+import com.minecolonies.coremod.colony.buildings.utils.RecipeOutputIndex;
 import com.minecolonies.coremod.colony.requestsystem.requesters.IBuildingBasedRequester;
 
 import net.minecraft.block.Blocks;
@@ -115,16 +117,16 @@ public abstract class AbstractCraftingRequestResolver extends AbstractRequestRes
         // As long as we're not resolving food, fast resolve
         if(!(request.getRequest() instanceof Food))
         {
-            return building instanceof AbstractBuildingWorker && canBuildingCraftStack((AbstractBuildingWorker) building, itemStack -> request.getRequest().matches(itemStack));
+            return building instanceof AbstractBuildingWorker && canBuildingCraftStack((AbstractBuildingWorker) building, getOutputPredicate(request.getRequest()));
         }
 
         // If this building is resolving a generic food request, then only allow it to resolve non-smeltables. 
         if(building instanceof AbstractBuildingWorker)
         {
-            final IRecipeStorage recipe = ((AbstractBuildingWorker) building).getFirstRecipe(itemStack -> request.getRequest().matches(itemStack));
+            final IRecipeStorage recipe = ((AbstractBuildingWorker) building).getFirstRecipe(getOutputPredicate(request.getRequest()));
             if( recipe != null && recipe.getIntermediate() != Blocks.FURNACE)
             {
-                return canBuildingCraftStack((AbstractBuildingWorker) building, itemStack -> request.getRequest().matches(itemStack));
+                return canBuildingCraftStack((AbstractBuildingWorker) building, getOutputPredicate(request.getRequest()));
             }
         }
 
@@ -227,7 +229,7 @@ public abstract class AbstractCraftingRequestResolver extends AbstractRequestRes
         final AbstractBuildingWorker buildingWorker = (AbstractBuildingWorker) building;
         return attemptResolveForBuildingAndStack(manager,
           buildingWorker,
-          itemStack -> request.getRequest().matches(itemStack),
+          getOutputPredicate(request.getRequest()),
           request.getRequest().getCount(),
           request.getRequest().getMinimumCount());
     }
@@ -249,6 +251,22 @@ public abstract class AbstractCraftingRequestResolver extends AbstractRequestRes
         return createRequestsForRecipe(manager, craftableCrafting, count, minCount);
     }
 
+    /**
+     * Get the predicate to test recipe outputs for a requested deliverable with. Plain stack requests only match their own item, which lets the recipe index of the
+     * building look the outputs up by item.
+     *
+     * @param deliverable the requested deliverable.
+     * @return the predicate.
+     */
+    protected static Predicate<ItemStack> getOutputPredicate(@NotNull final IDeliverable deliverable)
+    {
+        if (deliverable instanceof Stack && !((Stack) deliverable).matchOreDic())
+        {
+            return new RecipeOutputIndex.ItemPredicate(((Stack) deliverable).getStack().getItem(), deliverable::matches);
+        }
+        return deliverable::matches;
+    }
+
     /**
      * Create the crafting request entries for the overall request
      * Will produce multiple, if the ingredients don't all fit in the crafters inventory. 
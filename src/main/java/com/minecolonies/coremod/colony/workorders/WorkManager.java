@@ -2,18 +2,16 @@ package com.minecolonies.coremod.colony.workorders;
 
 import com.ldtteam.structurize.management.StructureName;
 import com.ldtteam.structurize.util.LanguageHandler;
-import com.ldtteam.structurize.util.PlacementSettings;
 import com.minecolonies.api.advancements.AdvancementTriggers;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyTagCapability;
 import com.minecolonies.api.colony.workorders.IWorkManager;
 import com.minecolonies.api.colony.workorders.IWorkOrder;
-import com.minecolonies.api.util.LoadOnlyStructureHandler;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.util.AdvancementUtils;
-import com.minecolonies.coremod.util.ColonyUtils;
+import com.minecolonies.coremod.util.BlueprintCache;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.util.Tuple;
@@ -305,12 +303,12 @@ public class WorkManager implements IWorkManager
     private boolean isWorkOrderWithinColony(final WorkOrderBuildDecoration order)
     {
         final World world = colony.getWorld();
-        final Tuple<BlockPos, BlockPos> corners
-          = ColonyUtils.calculateCorners(order.getBuildingLocation(),
-          world,
-          new LoadOnlyStructureHandler(world, order.getBuildingLocation(), order.getStructureName(), new PlacementSettings(), true).getBluePrint(),
-          order.getRotation(world),
-          order.isMirrored());
+        final BlueprintCache.TransformedBlueprint blueprint = BlueprintCache.get(world, order.getStructureName(), order.getRotation(world), order.isMirrored());
+        if (blueprint == null)
+        {
+            return false;
+        }
+        final Tuple<BlockPos, BlockPos> corners = blueprint.getCorners(order.getBuildingLocation());
 
         Set<ChunkPos> chunks = new HashSet<>();
         final int minX = Math.min(corners.getA().getX(), corners.getB().getX()) + 1;
@@ -5,6 +5,9 @@ import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.commands.commandTypes.IMCCommand;
+import com.minecolonies.coremod.entity.pathfinding.PathCache;
+import com.minecolonies.coremod.entity.pathfinding.PathJobQueue;
+import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
 import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.context.CommandContext;
@@ -14,6 +17,8 @@ import net.minecraft.util.text.StringTextComponent;
 import net.minecraft.util.text.Style;
 import net.minecraft.util.text.TextFormatting;
 
+import java.util.concurrent.TimeUnit;
+
 import static com.minecolonies.coremod.commands.CommandArgumentNames.COLONYID_ARG;
 
 public class CommandColonyInfo implements IMCCommand
@@ -27,6 +32,9 @@ public class CommandColonyInfo implements IMCCommand
     private static final String LAST_CONTACT_TEXT = "Last contact with Owner or Officer: %d hours ago!";
     private static final String IS_DELETABLE      = "If true this colony cannot be deleted: ";
     private static final String CANNOT_BE_RAIDED  = "This colony is unable to be raided";
+    private static final String TICK_TIME_TEXT    = "Average tick time: %.3f ms";
+    private static final String PATH_QUEUE_TEXT   = "Path jobs: %d queued, %.1f ms average wait, %d dropped";
+    private static final String PATH_CACHE_TEXT   = "Path cache: %d paths, %d hits, %d misses";
 
     /**
      * What happens when the command is executed after preConditions are successful.
@@ -62,6 +70,20 @@ public class CommandColonyInfo implements IMCCommand
             TextFormatting.GREEN)), true);
         context.getSource().sendFeedback(new StringTextComponent(String.format(LAST_CONTACT_TEXT, colony.getLastContactInHours())), true);
         context.getSource().sendFeedback(new StringTextComponent(IS_DELETABLE + !colony.canBeAutoDeleted()), true);
+        context.getSource()
+          .sendFeedback(new StringTextComponent(String.format(TICK_TIME_TEXT, IColonyManager.getInstance().getAverageColonyTickNanos(colony) / (double) TimeUnit.MILLISECONDS.toNanos(1))),
+            true);
+        final PathJobQueue jobQueue = Pathfinding.getJobQueue();
+        context.getSource()
+          .sendFeedback(new StringTextComponent(String.format(PATH_QUEUE_TEXT,
+            jobQueue.getQueueDepth(colony.getDimension(), colony.getID()),
+            jobQueue.getAverageWaitTime(colony.getDimension(), colony.getID()),
+            jobQueue.getDroppedJobs(colony.getDimension(), colony.getID()))), true);
+        context.getSource()
+          .sendFeedback(new StringTextComponent(String.format(PATH_CACHE_TEXT,
+            PathCache.size(colony.getPassabilitySnapshot()),
+            PathCache.getHits(colony.getPassabilitySnapshot()),
+            PathCache.getMisses(colony.getPassabilitySnapshot()))), true);
 
         if (!colony.getRaiderManager().canHaveRaiderEvents())
         {
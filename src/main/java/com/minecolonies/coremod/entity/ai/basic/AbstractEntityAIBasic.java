@@ -20,6 +20,7 @@ import com.minecolonies.api.entity.ai.statemachine.AITarget;
 import com.minecolonies.api.entity.ai.statemachine.states.AIBlockingEventType;
 import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.api.inventory.InventoryCitizen;
+import com.minecolonies.api.inventory.ToolSlotIndex;
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
 import com.minecolonies.api.tileentities.TileEntityRack;
 import com.minecolonies.api.util.*;
@@ -1257,12 +1258,17 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob<?, J>, B exten
             return heldSlot >= 0 ? heldSlot : 0;
         }
 
-        int bestSlot = -1;
-        int bestLevel = Integer.MAX_VALUE;
         @NotNull final InventoryCitizen inventory = worker.getInventoryCitizen();
         final int maxToolLevel = worker.getCitizenColonyHandler().getWorkBuilding().getMaxToolLevel();
 
-        for (int i = 0; i < worker.getInventoryCitizen().getSlots(); i++)
+        if (ToolSlotIndex.isIndexed(toolType))
+        {
+            return inventory.getToolIndex().getBestMiningSlot(toolType, required, maxToolLevel);
+        }
+
+        int bestSlot = -1;
+        int bestLevel = Integer.MAX_VALUE;
+        for (int i = 0; i < inventory.getSlots(); i++)
         {
             final ItemStack item = inventory.getStackInSlot(i);
             final int level = ItemStackUtils.getMiningLevel(item, toolType);
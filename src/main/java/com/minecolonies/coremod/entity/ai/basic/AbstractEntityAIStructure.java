@@ -31,6 +31,7 @@ import com.minecolonies.coremod.colony.buildings.AbstractBuildingStructureBuilde
 import com.minecolonies.coremod.colony.jobs.AbstractJobStructure;
 import com.minecolonies.coremod.entity.ai.util.BuildingStructureHandler;
 import com.minecolonies.coremod.tileentities.TileEntityDecorationController;
+import com.minecolonies.coremod.util.BlueprintCache;
 import net.minecraft.block.*;
 import net.minecraft.item.BlockItem;
 import net.minecraft.item.ItemStack;
@@ -89,14 +90,25 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
     /**
      * Predicate defining things we don't want the builders to ever touch.
      */
-    protected TriPredicate<BlueprintPositionInfo, BlockPos, IStructureHandler> DONT_TOUCH_PREDICATE = (info, worldPos, handler) ->
+    protected TriPredicate<BlueprintPositionInfo, BlockPos, IStructureHandler> DONT_TOUCH_PREDICATE =
+      (info, worldPos, handler) -> isUntouchable(info.getBlockInfo().getState(), worldPos, handler);
+
+    /**
+     * Check if the builders must never touch a position.
+     *
+     * @param state    the state of the blueprint at the position.
+     * @param worldPos the position in the world.
+     * @param handler  the structure handler.
+     * @return true if it must not be touched.
+     */
+    protected static boolean isUntouchable(final BlockState state, final BlockPos worldPos, final IStructureHandler handler)
     {
         final BlockState worldState = handler.getWorld().getBlockState(worldPos);
 
         return worldState.getBlock() instanceof IBuilderUndestroyable
                  || worldState.getBlock() == Blocks.BEDROCK
-                 || (info.getBlockInfo().getState().getBlock() instanceof AbstractBlockHut && handler.getWorldPos().equals(worldPos));
-    };
+                 || (state.getBlock() instanceof AbstractBlockHut && handler.getWorldPos().equals(worldPos));
+    }
 
     /**
      * Position where the Builders constructs from.
@@ -457,6 +469,14 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
      */
     public void loadStructure(@NotNull final String name, final int rotateTimes, final BlockPos position, final boolean isMirrored, final boolean removal)
     {
+        final BlueprintCache.TransformedBlueprint blueprint = BlueprintCache.get(world, name, rotateTimes, isMirrored);
+        if (blueprint == null)
+        {
+            handleSpecificCancelActions();
+            Log.getLogger().warn("Couldn't find structure with name: " + name + " aborting loading procedure");
+            return;
+        }
+
         final BuildingStructureHandler<J, B> structure;
         IBuilding colonyBuilding = worker.getCitizenColonyHandler().getColony().getBuildingManager().getBuilding(position);
         final TileEntity entity = world.getTileEntity(position);
@@ -465,7 +485,7 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
         {
             structure = new BuildingStructureHandler<>(world,
               position,
-              name,
+              blueprint.getBlueprint(),
               new PlacementSettings(isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, BlockPosUtil.getRotationFromRotations(rotateTimes)),
               this, new BuildingStructureHandler.Stage[] {REMOVE_WATER, REMOVE});
             getOwnBuilding().setTotalStages(2);
@@ -475,7 +495,7 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
         {
             structure = new BuildingStructureHandler<>(world,
               position,
-              name,
+              blueprint.getBlueprint(),
               new PlacementSettings(isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, BlockPosUtil.getRotationFromRotations(rotateTimes)),
               this, new BuildingStructureHandler.Stage[] {BUILD_SOLID, CLEAR_WATER, CLEAR_NON_SOLIDS, DECORATE, SPAWN});
             getOwnBuilding().setTotalStages(5);
@@ -484,21 +504,13 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
         {
             structure = new BuildingStructureHandler<>(world,
               position,
-              name,
+              blueprint.getBlueprint(),
               new PlacementSettings(isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, BlockPosUtil.getRotationFromRotations(rotateTimes)),
               this, new BuildingStructureHandler.Stage[] {CLEAR, BUILD_SOLID, CLEAR_WATER, CLEAR_NON_SOLIDS, DECORATE, SPAWN});
             getOwnBuilding().setTotalStages(6);
         }
 
-        if (!structure.hasBluePrint())
-        {
-            handleSpecificCancelActions();
-            Log.getLogger().warn("Couldn't find structure with name: " + name + " aborting loading procedure");
-            return;
-        }
-
-        job.setBlueprint(structure.getBluePrint());
-        job.getBlueprint().rotateWithMirror(BlockPosUtil.getRotationFromRotations(rotateTimes), isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, world);
+        job.setBlueprint(blueprint.getBlueprint());
         structurePlacer = new Tuple<>(new StructurePlacer(structure), structure);
 
         if (getProgressPos() != null)
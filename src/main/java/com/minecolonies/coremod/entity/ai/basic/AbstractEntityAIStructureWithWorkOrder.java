@@ -1,8 +1,16 @@
 package com.minecolonies.coremod.entity.ai.basic;
 
+import com.ldtteam.structures.blueprints.v1.Blueprint;
+import com.ldtteam.structurize.blocks.ModBlocks;
+import com.ldtteam.structurize.management.StructureName;
+import com.ldtteam.structurize.management.Structures;
 import com.ldtteam.structurize.placement.BlockPlacementResult;
 import com.ldtteam.structurize.placement.StructurePhasePlacementResult;
 import com.ldtteam.structurize.placement.StructurePlacer;
+import com.ldtteam.structurize.placement.handlers.placement.IPlacementHandler;
+import com.ldtteam.structurize.placement.handlers.placement.PlacementHandlers;
+import com.ldtteam.structurize.placement.structure.IStructureHandler;
+import com.ldtteam.structurize.util.BlockUtils;
 import com.ldtteam.structurize.util.PlacementSettings;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.crafting.ItemStorage;
@@ -19,6 +27,8 @@ import com.minecolonies.coremod.colony.jobs.AbstractJobStructure;
 import com.minecolonies.coremod.colony.workorders.*;
 import com.minecolonies.coremod.entity.ai.util.BuildingStructureHandler;
 import com.minecolonies.coremod.entity.ai.util.WorkerLoadOnlyStructureHandler;
+import com.minecolonies.coremod.util.BillOfMaterials;
+import net.minecraft.block.BlockState;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.BlockPos;
 import org.jetbrains.annotations.NotNull;
@@ -41,6 +51,7 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
      */
     private enum RequestStage
     {
+        BILL,
         SOLID,
         DECO,
         ENTITIES
@@ -56,6 +67,22 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
      */
     private BlockPos requestProgress = null;
 
+    /**
+     * Amount of blocks of an upgrade bill checked per call.
+     */
+    private static final int BILL_BLOCKS_PER_CALL = 256;
+
+    /**
+     * The bill of the upgrade which is being requested, null if the blocks are checked one by one.
+     */
+    @Nullable
+    private BillOfMaterials upgradeBill = null;
+
+    /**
+     * Index of the next position of the upgrade bill to check.
+     */
+    private int billProgress = 0;
+
     /**
      * Initialize the builder and add all his tasks.
      *
@@ -199,11 +226,26 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
             buildingWorker.resetNeededResources();
             requestProgress = NULL_POS;
             requestState = RequestStage.SOLID;
+
+            upgradeBill = getUpgradeBill();
+            if (upgradeBill != null)
+            {
+                // Only the blocks which change with the upgrade are checked against the world
+                billProgress = 0;
+                requestState = RequestStage.BILL;
+            }
         }
 
         final RequestStage currState = requestState;
         switch (currState)
         {
+            case BILL:
+                if (requestBillBlocks())
+                {
+                    upgradeBill = null;
+                    requestState = RequestStage.ENTITIES;
+                }
+                return false;
             case SOLID:
                 result = placer.executeStructureStep(world,
                   null,
@@ -271,6 +313,94 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
         }
     }
 
+    /**
+     * Request the items of the next blocks of the upgrade bill which are not placed in the world yet.
+     *
+     * @return true if all blocks of the bill were checked.
+     */
+    private boolean requestBillBlocks()
+    {
+        final IStructureHandler handler = structurePlacer.getB();
+        final Blueprint blueprint = handler.getBluePrint();
+        final BlockPos zeroPos = handler.getWorldPos().subtract(blueprint.getPrimaryBlockOffset());
+        final long[] positions = upgradeBill.getPositions();
+        final int end = Math.min(positions.length, billProgress + BILL_BLOCKS_PER_CALL);
+        int solidSubstitutions = 0;
+
+        for (; billProgress < end; billProgress++)
+        {
+            final BlockPos localPos = BlockPos.fromLong(positions[billProgress]);
+            final BlockPos worldPos = zeroPos.add(localPos);
+            final BlockState state = blueprint.getBlockState(localPos);
+            if (state == null || isUntouchable(state, worldPos, handler))
+            {
+                continue;
+            }
+
+            final BlockState worldState = world.getBlockState(worldPos);
+            if (state.getBlock() == ModBlocks.blockSolidSubstitution.get())
+            {
+                if (!worldState.getMaterial().isSolid())
+                {
+                    solidSubstitutions++;
+                }
+                continue;
+            }
+
+            if (state.equals(worldState))
+            {
+                continue;
+            }
+
+            for (final IPlacementHandler placementHandler : PlacementHandlers.handlers)
+            {
+                if (placementHandler.canHandle(world, worldPos, state))
+                {
+                    for (final ItemStack stack : placementHandler.getRequiredItems(world, worldPos, state, blueprint.getTileEntityData(worldPos, localPos), false))
+                    {
+                        if (!ItemStackUtils.isEmpty(stack))
+                        {
+                            getOwnBuilding().addNeededResource(stack, stack.getCount());
+                        }
+                    }
+                    break;
+                }
+            }
+        }
+
+        if (solidSubstitutions > 0)
+        {
+            getOwnBuilding().addNeededResource(BlockUtils.getItemStackFromBlockState(getSolidSubstitution(handler.getWorldPos())), solidSubstitutions);
+        }
+        return billProgress >= positions.length;
+    }
+
+    /**
+     * Get the bill of materials if the work order upgrades a building by one level. Blocks which the upgrade leaves unchanged are not checked, those missing because the
+     * building differs from its schematic are requested through {@link #registerBlockAsNeeded(ItemStack)} while building.
+     *
+     * @return the bill or null if the resources have to be checked block by block.
+     */
+    @Nullable
+    private BillOfMaterials getUpgradeBill()
+    {
+        if (!(job.getWorkOrder() instanceof WorkOrderBuildBuilding))
+        {
+            return null;
+        }
+
+        final WorkOrderBuildBuilding workOrder = (WorkOrderBuildBuilding) job.getWorkOrder();
+        final IBuilding building = job.getColony().getBuildingManager().getBuilding(workOrder.getBuildingLocation());
+        // Deconstructed or moved buildings keep their level but have none of its blocks in the world
+        if (building == null || building.isDeconstructed() || building.getBuildingLevel() <= 0 || building.getBuildingLevel() != workOrder.getUpgradeLevel() - 1)
+        {
+            return null;
+        }
+
+        final StructureName current = new StructureName(Structures.SCHEMATICS_PREFIX, building.getStyle(), building.getSchematicName() + building.getBuildingLevel());
+        return BillOfMaterials.getUpgrade(world, current.toString(), workOrder.getStructureName(), workOrder.getRotation(world), workOrder.isMirrored());
+    }
+
     @Override
     public void registerBlockAsNeeded(final ItemStack stack)
     {
@@ -1,12 +1,10 @@
 package com.minecolonies.coremod.entity.ai.citizen.builder;
 
-import com.ldtteam.structurize.util.PlacementSettings;
 import com.minecolonies.api.blocks.ModBlocks;
-import com.minecolonies.api.util.LoadOnlyStructureHandler;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.blocks.decorative.BlockConstructionTape;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildDecoration;
-import com.minecolonies.coremod.util.ColonyUtils;
+import com.minecolonies.coremod.util.BlueprintCache;
 import net.minecraft.block.*;
 import net.minecraft.state.BooleanProperty;
 import net.minecraft.state.DirectionProperty;
@@ -38,13 +36,11 @@ public final class ConstructionTapeHelper
      */
     public static void placeConstructionTape(@NotNull final WorkOrderBuildDecoration workOrder, @NotNull final World world)
     {
-        final Tuple<BlockPos, BlockPos> corners
-          = ColonyUtils.calculateCorners(workOrder.getBuildingLocation(),
-          world,
-          new LoadOnlyStructureHandler(world, workOrder.getBuildingLocation(), workOrder.getStructureName(), new PlacementSettings(), true).getBluePrint(),
-          workOrder.getRotation(world),
-          workOrder.isMirrored());
-        placeConstructionTape(corners, world);
+        final BlueprintCache.TransformedBlueprint blueprint = BlueprintCache.get(world, workOrder.getStructureName(), workOrder.getRotation(world), workOrder.isMirrored());
+        if (blueprint != null)
+        {
+            placeConstructionTape(blueprint.getCorners(workOrder.getBuildingLocation()), world);
+        }
     }
 
     /**
@@ -147,13 +143,10 @@ public final class ConstructionTapeHelper
      */
     public static void removeConstructionTape(@NotNull final WorkOrderBuildDecoration workOrder, @NotNull final World world)
     {
-        final LoadOnlyStructureHandler structure =
-          new LoadOnlyStructureHandler(world, workOrder.getBuildingLocation(), workOrder.getStructureName(), new PlacementSettings(), true);
-        if (structure.hasBluePrint())
+        final BlueprintCache.TransformedBlueprint blueprint = BlueprintCache.get(world, workOrder.getStructureName(), workOrder.getRotation(world), workOrder.isMirrored());
+        if (blueprint != null)
         {
-            final Tuple<BlockPos, BlockPos> corners = ColonyUtils.calculateCorners(workOrder.getBuildingLocation(), world,
-              structure.getBluePrint(), workOrder.getRotation(world), workOrder.isMirrored());
-            removeConstructionTape(corners, world);
+            removeConstructionTape(blueprint.getCorners(workOrder.getBuildingLocation()), world);
         }
     }
 
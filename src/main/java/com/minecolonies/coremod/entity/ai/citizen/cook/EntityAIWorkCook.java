@@ -39,7 +39,6 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 import static com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState.*;
-import static com.minecolonies.api.util.ItemStackUtils.CAN_EAT;
 import static com.minecolonies.api.util.constant.Constants.*;
 import static com.minecolonies.api.util.constant.TranslationConstants.*;
 import static com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingCook.FOOD_EXCLUSION_LIST;
@@ -193,7 +192,7 @@ public class EntityAIWorkCook extends AbstractEntityAIUsesFurnace<JobCook, Build
         {
             if (!citizenToServe.isEmpty())
             {
-                final int foodSlot = InventoryUtils.findFirstSlotInItemHandlerWith(worker.getInventoryCitizen(), stack -> ItemStackUtils.CAN_EAT.test(stack) && canEat(stack));
+                final int foodSlot = InventoryUtils.findFirstSlotInItemHandlerWith(worker.getInventoryCitizen(), stack -> IColonyManager.getInstance().getCompatibilityManager().isEdible(stack) && canEat(stack));
                 if (foodSlot != -1)
                 {
                     final ItemStack stack = worker.getInventoryCitizen().extractItem(foodSlot, 1, false);
@@ -207,13 +206,13 @@ public class EntityAIWorkCook extends AbstractEntityAIUsesFurnace<JobCook, Build
             removeFromQueue();
             return getState();
         }
-        else if (InventoryUtils.hasItemInItemHandler(handler, stack -> CAN_EAT.test(stack) && canEat(stack)))
+        else if (InventoryUtils.hasItemInItemHandler(handler, stack -> IColonyManager.getInstance().getCompatibilityManager().isEdible(stack) && canEat(stack)))
         {
             removeFromQueue();
             return getState();
         }
 
-        InventoryUtils.transferFoodUpToSaturation(worker, handler, getOwnBuilding().getBuildingLevel() * SATURATION_TO_SERVE, stack -> CAN_EAT.test(stack) && canEat(stack));
+        InventoryUtils.transferFoodUpToSaturation(worker, handler, getOwnBuilding().getBuildingLevel() * SATURATION_TO_SERVE, stack -> IColonyManager.getInstance().getCompatibilityManager().isEdible(stack) && canEat(stack));
 
         if (!citizenToServe.isEmpty() && citizenToServe.get(0).getCitizenData() != null)
         {
@@ -294,16 +293,16 @@ public class EntityAIWorkCook extends AbstractEntityAIUsesFurnace<JobCook, Build
             citizenToServe.addAll(citizenList);
             playerToServe.addAll(playerList);
 
-            if (InventoryUtils.hasItemInItemHandler(worker.getInventoryCitizen(), stack -> ItemStackUtils.CAN_EAT.test(stack)))
+            if (InventoryUtils.hasItemInItemHandler(worker.getInventoryCitizen(), stack -> IColonyManager.getInstance().getCompatibilityManager().isEdible(stack)))
             {
                 return COOK_SERVE_FOOD_TO_CITIZEN;
             }
-            else if (!InventoryUtils.hasItemInProvider(getOwnBuilding(), stack -> ItemStackUtils.CAN_EAT.test(stack) && !isItemStackForAssistant(stack)))
+            else if (!InventoryUtils.hasItemInProvider(getOwnBuilding(), stack -> IColonyManager.getInstance().getCompatibilityManager().isEdible(stack) && !isItemStackForAssistant(stack)))
             {
                 return START_WORKING;
             }
 
-            needsCurrently = new Tuple<>(stack -> ItemStackUtils.CAN_EAT.test(stack) && !isItemStackForAssistant(stack), STACKSIZE);
+            needsCurrently = new Tuple<>(stack -> IColonyManager.getInstance().getCompatibilityManager().isEdible(stack) && !isItemStackForAssistant(stack), STACKSIZE);
             return GATHERING_REQUIRED_MATERIALS;
         }
 
@@ -378,6 +378,7 @@ public class EntityAIWorkEnchanter extends AbstractEntityAICrafting<JobEnchanter
                 if (!stack.isEmpty() && stack.isEnchantable())
                 {
                     EnchantmentHelper.addRandomEnchantment(worker.getRandom(), stack, getSecondarySkillLevel() > 50 ? 2 : 1, false);
+                    citizenToGatherFrom.getInventory().markSlotChanged(randomSlot);
                     break;
                 }
             }
@@ -9,6 +9,7 @@ import com.minecolonies.api.colony.guardtype.registry.ModGuardTypes;
 import com.minecolonies.api.colony.permissions.Action;
 import com.minecolonies.api.colony.requestsystem.location.ILocation;
 import com.minecolonies.api.entity.ai.citizen.guards.GuardTask;
+import com.minecolonies.api.entity.ai.citizen.guards.IThreatIndex;
 import com.minecolonies.api.entity.ai.statemachine.AIEventTarget;
 import com.minecolonies.api.entity.ai.statemachine.AIOneTimeEventTarget;
 import com.minecolonies.api.entity.ai.statemachine.AITarget;
@@ -1009,24 +1010,20 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard<J>, B ext
             return null;
         }
 
-        final List<LivingEntity> entities = world.getLoadedEntitiesWithinAABB(LivingEntity.class, getSearchArea());
+        final IThreatIndex threatIndex = colony.getThreatIndex();
+        final List<LivingEntity> entities = threatIndex.getCandidates(getSearchArea(), worker.getPositionVec());
 
-        int closest = Integer.MAX_VALUE;
         LivingEntity targetEntity = null;
 
+        // Candidates are sorted by distance, the first visible valid one is the closest
         for (final LivingEntity entity : entities)
         {
-            if (!entity.isAlive())
-            {
-                continue;
-            }
-
             // Found a sleeping guard nearby
             if (entity instanceof EntityCitizen)
             {
                 final EntityCitizen citizen = (EntityCitizen) entity;
                 if (citizen.getCitizenJobHandler().getColonyJob() instanceof AbstractJobGuard && ((AbstractJobGuard<?>) citizen.getCitizenJobHandler().getColonyJob()).isAsleep()
-                      && worker.canEntityBeSeen(entity))
+                      && threatIndex.canSee(worker, entity))
                 {
                     sleepingGuard = new WeakReference<>(citizen);
                     wakeTimer = 0;
@@ -1035,15 +1032,10 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard<J>, B ext
                 }
             }
 
-            if (isEntityValidTarget(entity) && worker.canEntityBeSeen(entity))
+            // Keep the closest valid target, but check the remaining candidates for sleeping guards, which take priority
+            if (targetEntity == null && isEntityValidTarget(entity) && threatIndex.canSee(worker, entity))
             {
-                // Find closest
-                final int tempDistance = (int) BlockPosUtil.getDistanceSquared(worker.getPosition(), new BlockPos(entity.getPositionVec()));
-                if (tempDistance < closest)
-                {
-                    closest = tempDistance;
-                    targetEntity = entity;
-                }
+                targetEntity = entity;
             }
         }
 
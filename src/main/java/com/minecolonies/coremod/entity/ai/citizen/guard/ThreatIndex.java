@@ -0,0 +1,196 @@
+package com.minecolonies.coremod.entity.ai.citizen.guard;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.entity.ai.citizen.guards.IThreatIndex;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.util.math.vector.Vector3d;
+import net.minecraft.world.World;
+import net.minecraftforge.registries.ForgeRegistries;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Colony scoped threat index, bucketing the living entities around the guards by chunk section.
+ * <p>
+ * Buckets are swept lazily when a guard first searches them and are kept for a few ticks, so guards searching overlapping areas, and the repeated searches of one guard,
+ * share one sweep. Entities are still tested with their current bounding box, only one that crossed into a searched section after its sweep is picked up late. Validity of a
+ * target still depends on the building of the guard, so the buckets hold every alive living entity and the guards filter them themselves.
+ */
+public class ThreatIndex implements IThreatIndex
+{
+    /**
+     * Ticks a line of sight result is reused for.
+     */
+    private static final int LINE_OF_SIGHT_TICKS = 10;
+
+    /**
+     * Ticks a swept bucket is reused for.
+     */
+    private static final int BUCKET_TICKS = 5;
+
+    /**
+     * Extra horizontal range to search around an area, half the width of the widest registered entity type. Entities are bucketed by their position but their bounding box
+     * can reach into the area from the neighbouring section. Computed on first use, once all entity types are registered.
+     */
+    private static double maxEntityRadius = -1;
+
+    /**
+     * Extra range to search below an area, the height of the tallest registered entity type. Bounding boxes start at the position, so there is none above. Computed on first
+     * use, once all entity types are registered.
+     */
+    private static double maxEntityHeight = -1;
+
+    /**
+     * The colony the index belongs to.
+     */
+    private final IColony colony;
+
+    /**
+     * The swept sections, by section position.
+     */
+    private final Map<Long, List<LivingEntity>> buckets = new HashMap<>();
+
+    /**
+     * Cached line of sight results, by observer and target entity id.
+     */
+    private final Map<Long, Boolean> lineOfSight = new HashMap<>();
+
+    /**
+     * The tick the buckets were started in.
+     */
+    private long bucketTick = -1;
+
+    /**
+     * The tick the line of sight cache was started in.
+     */
+    private long lineOfSightTick = -1;
+
+    /**
+     * Create the threat index of a colony.
+     *
+     * @param colony the colony.
+     */
+    public ThreatIndex(@NotNull final IColony colony)
+    {
+        this.colony = colony;
+    }
+
+    @NotNull
+    @Override
+    public List<LivingEntity> getCandidates(@NotNull final AxisAlignedBB area, @NotNull final Vector3d origin)
+    {
+        final World world = colony.getWorld();
+        if (world == null)
+        {
+            return Collections.emptyList();
+        }
+
+        final long gameTime = world.getGameTime();
+        if (gameTime < bucketTick || gameTime - bucketTick >= BUCKET_TICKS)
+        {
+            buckets.clear();
+            bucketTick = gameTime;
+        }
+
+        computeEntityBounds();
+        final int minX = MathHelper.floor(area.minX - maxEntityRadius) >> 4;
+        final int maxX = MathHelper.floor(area.maxX + maxEntityRadius) >> 4;
+        final int minY = MathHelper.floor(area.minY - maxEntityHeight) >> 4;
+        final int maxY = MathHelper.floor(area.maxY) >> 4;
+        final int minZ = MathHelper.floor(area.minZ - maxEntityRadius) >> 4;
+        final int maxZ = MathHelper.floor(area.maxZ + maxEntityRadius) >> 4;
+
+        final List<LivingEntity> candidates = new ArrayList<>();
+        for (int x = minX; x <= maxX; x++)
+        {
+            for (int y = minY; y <= maxY; y++)
+            {
+                for (int z = minZ; z <= maxZ; z++)
+                {
+                    for (final LivingEntity entity : getBucket(world, x, y, z))
+                    {
+                        if (entity.isAlive() && entity.getBoundingBox().intersects(area))
+                        {
+                            candidates.add(entity);
+                        }
+                    }
+                }
+            }
+        }
+
+        candidates.sort(Comparator.comparingDouble(entity -> entity.getPositionVec().squareDistanceTo(origin)));
+        return candidates;
+    }
+
+    /**
+     * Compute the half width of the widest and the height of the tallest registered entity type, if not done yet.
+     */
+    private static void computeEntityBounds()
+    {
+        if (maxEntityHeight < 0)
+        {
+            double radius = 0;
+            double height = 0;
+            for (final EntityType<?> type : ForgeRegistries.ENTITIES.getValues())
+            {
+                radius = Math.max(radius, type.getSize().width / 2.0D);
+                height = Math.max(height, type.getSize().height);
+            }
+            maxEntityRadius = radius;
+            maxEntityHeight = height;
+        }
+    }
+
+    /**
+     * Get the entities of a section, sweeping it if it was not swept recently.
+     *
+     * @param world the world.
+     * @param x     the section x coordinate.
+     * @param y     the section y coordinate.
+     * @param z     the section z coordinate.
+     * @return the alive living entities positioned within the section.
+     */
+    private List<LivingEntity> getBucket(@NotNull final World world, final int x, final int y, final int z)
+    {
+        final long key = SectionPos.asLong(x, y, z);
+        List<LivingEntity> bucket = buckets.get(key);
+        if (bucket == null)
+        {
+            final AxisAlignedBB section = new AxisAlignedBB(x << 4, y << 4, z << 4, (x + 1) << 4, (y + 1) << 4, (z + 1) << 4);
+            bucket = world.getLoadedEntitiesWithinAABB(LivingEntity.class, section, entity -> entity.isAlive()
+                                                                                              && MathHelper.floor(entity.getPosX()) >> 4 == x
+                                                                                              && MathHelper.floor(entity.getPosY()) >> 4 == y
+                                                                                              && MathHelper.floor(entity.getPosZ()) >> 4 == z);
+            buckets.put(key, bucket);
+        }
+        return bucket;
+    }
+
+    @Override
+    public boolean canSee(@NotNull final LivingEntity observer, @NotNull final LivingEntity target)
+    {
+        final long gameTime = observer.world.getGameTime();
+        if (gameTime < lineOfSightTick || gameTime - lineOfSightTick >= LINE_OF_SIGHT_TICKS)
+        {
+            lineOfSight.clear();
+            lineOfSightTick = gameTime;
+        }
+
+        final long key = ((long) observer.getEntityId() << Integer.SIZE) | (target.getEntityId() & 0xFFFFFFFFL);
+        return lineOfSight.computeIfAbsent(key, k -> observer.canEntityBeSeen(target));
+    }
+
+    @Override
+    public void clear()
+    {
+        buckets.clear();
+        lineOfSight.clear();
+        bucketTick = -1;
+        lineOfSightTick = -1;
+    }
+}
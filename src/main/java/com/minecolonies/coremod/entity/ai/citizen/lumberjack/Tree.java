@@ -21,7 +21,6 @@ import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.state.Property;
 import net.minecraft.tags.BlockTags;
-import net.minecraft.tags.ItemTags;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.Tuple;
 import net.minecraft.util.math.BlockPos;
@@ -267,7 +266,7 @@ public class Tree
                     continue;
                 }
 
-                if (stack.getItem().isIn(ItemTags.SAPLINGS))
+                if (IColonyManager.getInstance().getCompatibilityManager().isSapling(stack))
                 {
                     IColonyManager.getInstance().getCompatibilityManager().connectLeafToSapling(blockState, stack);
                     return stack;
@@ -307,7 +306,7 @@ public class Tree
             {
                 for (ItemStack stack : list)
                 {
-                    if (stack.getItem().isIn(ItemTags.SAPLINGS))
+                    if (IColonyManager.getInstance().getCompatibilityManager().isSapling(stack))
                     {
                         return list;
                     }
@@ -332,7 +332,7 @@ public class EntityAIWorkSmelter extends AbstractEntityAIUsesFurnace<JobSmelter,
      */
     protected boolean isSmeltable(final ItemStack stack)
     {
-        if (ItemStackUtils.isEmpty(stack) || !ItemStackUtils.IS_SMELTABLE.and(itemStack -> IColonyManager.getInstance().getCompatibilityManager().isOre(stack)).test(stack))
+        if (!IColonyManager.getInstance().getCompatibilityManager().isOre(stack))
         {
             return false;
         }
@@ -3,6 +3,7 @@ package com.minecolonies.coremod.entity.ai.minimal;
 import com.minecolonies.api.advancements.AdvancementTriggers;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.buildings.IBuildingWorker;
 import com.minecolonies.api.colony.interactionhandling.ChatPriority;
@@ -35,7 +36,6 @@ import net.minecraft.util.text.TranslationTextComponent;
 import java.util.EnumSet;
 
 import static com.minecolonies.api.research.util.ResearchConstants.SATURATION;
-import static com.minecolonies.api.util.ItemStackUtils.CAN_EAT;
 import static com.minecolonies.api.util.ItemStackUtils.ISCOOKABLE;
 import static com.minecolonies.api.util.constant.Constants.SECONDS_A_MINUTE;
 import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
@@ -228,7 +228,7 @@ public class EntityAIEatTask extends Goal
 
         final ICitizenData citizenData = citizen.getCitizenData();
         final ItemStack stack = citizenData.getInventory().getStackInSlot(foodSlot);
-        if (!CAN_EAT.test(stack) || !canEat(citizenData, stack))
+        if (!IColonyManager.getInstance().getCompatibilityManager().isEdible(stack) || !canEat(citizenData, stack))
         {
             return CHECK_FOR_FOOD;
         }
@@ -296,7 +296,7 @@ public class EntityAIEatTask extends Goal
             InventoryUtils.transferFoodUpToSaturation(cookBuilding,
               citizen.getInventoryCitizen(),
               GET_YOURSELF_SATURATION,
-              stack -> CAN_EAT.test(stack) && canEat(citizen.getCitizenData(), stack));
+              stack -> IColonyManager.getInstance().getCompatibilityManager().isEdible(stack) && canEat(citizen.getCitizenData(), stack));
         }
 
         return WAIT_FOR_FOOD;
@@ -403,13 +403,13 @@ public class EntityAIEatTask extends Goal
 
         if (citizen.isWorkerAtSiteWithMove(buildingWorker.getPosition(), MIN_DISTANCE_TO_RESTAURANT))
         {
-            final int slot = InventoryUtils.findFirstSlotInProviderNotEmptyWith(buildingWorker, stack -> CAN_EAT.test(stack) && canEat(citizen.getCitizenData(), stack));
+            final int slot = InventoryUtils.findFirstSlotInProviderNotEmptyWith(buildingWorker, stack -> IColonyManager.getInstance().getCompatibilityManager().isEdible(stack) && canEat(citizen.getCitizenData(), stack));
             if (slot != -1)
             {
                 if (InventoryUtils.transferFoodUpToSaturation(buildingWorker,
                   citizen.getInventoryCitizen(),
                   GET_YOURSELF_SATURATION,
-                  stack -> CAN_EAT.test(stack) && canEat(citizen.getCitizenData(), stack)))
+                  stack -> IColonyManager.getInstance().getCompatibilityManager().isEdible(stack) && canEat(citizen.getCitizenData(), stack)))
                 {
                     return EAT;
                 }
@@ -466,7 +466,7 @@ public class EntityAIEatTask extends Goal
      */
     private boolean hasFood()
     {
-        final int slot = InventoryUtils.findFirstSlotInProviderNotEmptyWith(citizen, stack -> CAN_EAT.test(stack) && canEat(citizen.getCitizenData(), stack));
+        final int slot = InventoryUtils.findFirstSlotInProviderNotEmptyWith(citizen, stack -> IColonyManager.getInstance().getCompatibilityManager().isEdible(stack) && canEat(citizen.getCitizenData(), stack));
         if (slot != -1)
         {
             foodSlot = slot;
@@ -479,7 +479,7 @@ public class EntityAIEatTask extends Goal
         {
             citizenData.triggerInteraction(new StandardInteraction(new TranslationTextComponent(RAW_FOOD), ChatPriority.PENDING));
         }
-        else if (InventoryUtils.hasItemInItemHandler(citizen.getInventoryCitizen(), stack -> CAN_EAT.test(stack) && !canEat(citizenData, stack)))
+        else if (InventoryUtils.hasItemInItemHandler(citizen.getInventoryCitizen(), stack -> IColonyManager.getInstance().getCompatibilityManager().isEdible(stack) && !canEat(citizenData, stack)))
         {
             if (citizenData.isChild())
             {
@@ -78,6 +78,21 @@ public class ChunkCache implements IWorldReader
         return this.empty;
     }
 
+    /**
+     * Get a chunk held by this cache.
+     *
+     * @param x the chunk x coordinate.
+     * @param z the chunk z coordinate.
+     * @return the chunk or null if not loaded or out of the cached range.
+     */
+    @Nullable
+    public Chunk getCachedChunk(final int x, final int z)
+    {
+        final int i = x - this.chunkX;
+        final int j = z - this.chunkZ;
+        return withinBounds(i, j) ? this.chunkArray[i][j] : null;
+    }
+
     @Nullable
     @Override
     public TileEntity getTileEntity(@NotNull BlockPos pos)
@@ -163,6 +163,47 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
       @NotNull final AbstractPathJob job,
       final BlockPos dest,
       final double speedFactor)
+    {
+        if (!prepareNewPath(dest, speedFactor))
+        {
+            return null;
+        }
+
+        job.setPathingOptions(getPathingOptions());
+        pathResult = job.getResult();
+        pathResult.startJob(Pathfinding.getExecutor());
+        return pathResult;
+    }
+
+    /**
+     * Follow a path served from the path cache, without running a path job.
+     *
+     * @param path        the cached path.
+     * @param dest        the destination.
+     * @param speedFactor the speed factor.
+     * @return the completed path result.
+     */
+    @Nullable
+    private PathResult setCachedPath(@NotNull final Path path, final BlockPos dest, final double speedFactor)
+    {
+        if (!prepareNewPath(dest, speedFactor))
+        {
+            return null;
+        }
+
+        pathResult = new PathResult<>();
+        pathResult.setCachedPath(path);
+        return pathResult;
+    }
+
+    /**
+     * Clears the current path and sets up destination and speed for a new one.
+     *
+     * @param dest        the destination.
+     * @param speedFactor the speed factor.
+     * @return false if the speed factor is not allowed.
+     */
+    private boolean prepareNewPath(final BlockPos dest, final double speedFactor)
     {
         clearPath();
 
@@ -178,13 +219,9 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         if (speedFactor > MAX_SPEED_ALLOWED || speedFactor < MIN_SPEED_ALLOWED)
         {
             Log.getLogger().error("Tried to set a bad speed:" + speedFactor + " for entity:" + ourEntity, new Exception());
-            return null;
+            return false;
         }
-
-        job.setPathingOptions(getPathingOptions());
-        pathResult = job.getResult();
-        pathResult.startJob(Pathfinding.getExecutor());
-        return pathResult;
+        return true;
     }
 
     @Override
@@ -251,7 +288,7 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         final int newY = (int) y;
         final int newZ = MathHelper.floor(z);
 
-        if (pathResult != null && pathResult.getJob() instanceof PathJobMoveToLocation &&
+        if (pathResult != null && (pathResult.getJob() instanceof PathJobMoveToLocation || pathResult.isFromCache()) &&
               (
                 pathResult.isComputing()
                   || (destination != null && BlockPosUtil.isEqual(destination, newX, newY, newZ))
@@ -265,6 +302,12 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         @NotNull final BlockPos start = AbstractPathJob.prepareStart(ourEntity);
         desiredPos = new BlockPos(newX, newY, newZ);
 
+        final Path cachedPath = PathCache.get(world, AbstractPathJob.getColonySnapshot(world, start), start, desiredPos, getPathingOptions());
+        if (cachedPath != null)
+        {
+            return setCachedPath(cachedPath, desiredPos, speedFactor);
+        }
+
         return setPathJob(
           new PathJobMoveToLocation(CompatibilityUtils.getWorldFromEntity(ourEntity),
             start,
@@ -454,6 +497,12 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
 
     private boolean processCompletedCalculationResult()
     {
+        if (pathResult.getJob() != null && pathResult.getJob().getClass() == PathJobMoveToLocation.class && pathResult.isPathReachingDestination())
+        {
+            final PathJobMoveToLocation job = (PathJobMoveToLocation) pathResult.getJob();
+            PathCache.put(world, job.getColonySnapshot(), job.getColonySnapshotVersion(), job.getStart(), job.getDestination(), getPathingOptions(), pathResult.getPath());
+        }
+
         setPath(pathResult.getPath(), getSpeedFactor());
         pathResult.setStatus(PathFindingStatus.IN_PROGRESS_FOLLOWING);
         return false;
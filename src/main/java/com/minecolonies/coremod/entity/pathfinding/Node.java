@@ -93,6 +93,11 @@ public class Node implements Comparable<Node>
      */
     private boolean isReachedByWorker = false;
 
+    /**
+     * Slot of this node in the open {@link NodeHeap}, -1 if not queued.
+     */
+    private int heapIndex = -1;
+
     /**
      * Create initial Node.
      *
@@ -402,4 +407,24 @@ public class Node implements Comparable<Node>
     {
         return isCornerNode;
     }
+
+    /**
+     * Getter of the slot in the open heap.
+     *
+     * @return the index or -1 if not queued.
+     */
+    public int getHeapIndex()
+    {
+        return heapIndex;
+    }
+
+    /**
+     * Sets the slot in the open heap.
+     *
+     * @param heapIndex the index or -1.
+     */
+    public void setHeapIndex(final int heapIndex)
+    {
+        this.heapIndex = heapIndex;
+    }
 }
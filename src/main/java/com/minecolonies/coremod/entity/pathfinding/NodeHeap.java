@@ -0,0 +1,180 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Indexed binary min-heap of pathfinding nodes, ordered by {@link Node#compareTo(Node)}.
+ * <p>
+ * Every node remembers its own slot in the heap, which makes {@link #contains(Node)} O(1) and allows lowering the score of a queued node in O(log n) without the linear
+ * removal a {@link java.util.PriorityQueue} needs. The heap is meant to be reused across searches on the same thread, call {@link #clear()} between searches.
+ */
+public final class NodeHeap
+{
+    /**
+     * Initial capacity.
+     */
+    private static final int DEFAULT_CAPACITY = 512;
+
+    /**
+     * Capacity above which a cleared heap is shrunk back to the default.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 1 << 16;
+
+    /**
+     * The heap array.
+     */
+    private Node[] heap = new Node[DEFAULT_CAPACITY];
+
+    /**
+     * Amount of queued nodes.
+     */
+    private int size;
+
+    /**
+     * Check if the heap is empty.
+     *
+     * @return true if so.
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Amount of queued nodes.
+     *
+     * @return the size.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Check if the node is currently queued in this heap.
+     *
+     * @param node the node to check.
+     * @return true if so.
+     */
+    public boolean contains(@NotNull final Node node)
+    {
+        final int index = node.getHeapIndex();
+        return index >= 0 && index < size && heap[index] == node;
+    }
+
+    /**
+     * Add a node to the heap.
+     *
+     * @param node the node to add.
+     */
+    public void offer(@NotNull final Node node)
+    {
+        if (size == heap.length)
+        {
+            heap = Arrays.copyOf(heap, size << 1);
+        }
+        heap[size] = node;
+        node.setHeapIndex(size);
+        siftUp(size++);
+    }
+
+    /**
+     * Remove and return the node with the lowest score.
+     *
+     * @return the node or null if empty.
+     */
+    @Nullable
+    public Node poll()
+    {
+        if (size == 0)
+        {
+            return null;
+        }
+
+        final Node result = heap[0];
+        final Node last = heap[--size];
+        heap[size] = null;
+        if (size > 0)
+        {
+            heap[0] = last;
+            last.setHeapIndex(0);
+            siftDown(0);
+        }
+        result.setHeapIndex(-1);
+        return result;
+    }
+
+    /**
+     * Restore the heap order after the score of a queued node got lowered.
+     *
+     * @param node the node which got cheaper.
+     */
+    public void decreaseKey(@NotNull final Node node)
+    {
+        siftUp(node.getHeapIndex());
+    }
+
+    /**
+     * Remove all nodes, dropping references so finished searches can be collected.
+     */
+    public void clear()
+    {
+        if (heap.length > MAX_RETAINED_CAPACITY)
+        {
+            heap = new Node[DEFAULT_CAPACITY];
+        }
+        else
+        {
+            Arrays.fill(heap, 0, size, null);
+        }
+        size = 0;
+    }
+
+    private void siftUp(int index)
+    {
+        final Node node = heap[index];
+        while (index > 0)
+        {
+            final int parentIndex = (index - 1) >>> 1;
+            final Node parent = heap[parentIndex];
+            if (node.compareTo(parent) >= 0)
+            {
+                break;
+            }
+            heap[index] = parent;
+            parent.setHeapIndex(index);
+            index = parentIndex;
+        }
+        heap[index] = node;
+        node.setHeapIndex(index);
+    }
+
+    private void siftDown(int index)
+    {
+        final Node node = heap[index];
+        final int half = size >>> 1;
+        while (index < half)
+        {
+            int childIndex = (index << 1) + 1;
+            Node child = heap[childIndex];
+            final int rightIndex = childIndex + 1;
+            if (rightIndex < size && heap[rightIndex].compareTo(child) < 0)
+            {
+                childIndex = rightIndex;
+                child = heap[childIndex];
+            }
+            if (node.compareTo(child) <= 0)
+            {
+                break;
+            }
+            heap[index] = child;
+            child.setHeapIndex(index);
+            index = childIndex;
+        }
+        heap[index] = node;
+        node.setHeapIndex(index);
+    }
+}
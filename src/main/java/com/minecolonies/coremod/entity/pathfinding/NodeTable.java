@@ -0,0 +1,191 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash table from packed block position keys to pathfinding nodes.
+ * <p>
+ * Keys are primitive longs (see {@link net.minecraft.util.math.BlockPos#toLong()}), so lookups and inserts do not box. The table is meant to be reused across searches
+ * on the same thread, call {@link #clear()} between searches.
+ */
+public final class NodeTable
+{
+    /**
+     * Initial capacity, must be a power of two.
+     */
+    private static final int DEFAULT_CAPACITY = 1 << 12;
+
+    /**
+     * Capacity above which a cleared table is shrunk back to the default, to not keep huge arrays alive after a single giant search.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 1 << 18;
+
+    /**
+     * Max load factor before growing.
+     */
+    private static final float LOAD_FACTOR = 0.5F;
+
+    /**
+     * The keys of the table.
+     */
+    private long[] keys;
+
+    /**
+     * The values of the table, null marks a free slot.
+     */
+    private Node[] values;
+
+    /**
+     * Bit mask to wrap indices (capacity - 1).
+     */
+    private int mask;
+
+    /**
+     * Amount of entries in the table.
+     */
+    private int size;
+
+    /**
+     * Amount of entries after which the table grows.
+     */
+    private int threshold;
+
+    /**
+     * Create a new empty node table.
+     */
+    public NodeTable()
+    {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Get the node stored for a key.
+     *
+     * @param key the packed position.
+     * @return the node or null if none.
+     */
+    @Nullable
+    public Node get(final long key)
+    {
+        int index = mix(key) & mask;
+        Node node;
+        while ((node = values[index]) != null)
+        {
+            if (keys[index] == key)
+            {
+                return node;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Store a node for a key, replacing any previous node.
+     *
+     * @param key  the packed position.
+     * @param node the node to store.
+     */
+    public void put(final long key, @NotNull final Node node)
+    {
+        int index = mix(key) & mask;
+        while (values[index] != null)
+        {
+            if (keys[index] == key)
+            {
+                values[index] = node;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        values[index] = node;
+        if (++size > threshold)
+        {
+            rehash(values.length << 1);
+        }
+    }
+
+    /**
+     * Amount of stored nodes.
+     *
+     * @return the size.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Remove all nodes, dropping references so finished searches can be collected.
+     */
+    public void clear()
+    {
+        if (values.length > MAX_RETAINED_CAPACITY)
+        {
+            allocate(DEFAULT_CAPACITY);
+        }
+        else if (size > 0)
+        {
+            Arrays.fill(values, null);
+        }
+        size = 0;
+    }
+
+    /**
+     * Grow the table to the given capacity and reinsert all entries.
+     *
+     * @param capacity the new capacity.
+     */
+    private void rehash(final int capacity)
+    {
+        final long[] oldKeys = keys;
+        final Node[] oldValues = values;
+        allocate(capacity);
+
+        for (int i = 0; i < oldValues.length; i++)
+        {
+            final Node node = oldValues[i];
+            if (node != null)
+            {
+                int index = mix(oldKeys[i]) & mask;
+                while (values[index] != null)
+                {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = node;
+            }
+        }
+    }
+
+    /**
+     * Allocate fresh arrays of the given capacity.
+     *
+     * @param capacity the capacity, a power of two.
+     */
+    private void allocate(final int capacity)
+    {
+        keys = new long[capacity];
+        values = new Node[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Spread the bits of a packed position, neighbouring positions only differ in a few low bits otherwise.
+     *
+     * @param key the key.
+     * @return the mixed hash.
+     */
+    private static int mix(final long key)
+    {
+        long h = key * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        return (int) (h ^ (h >>> 16));
+    }
+}
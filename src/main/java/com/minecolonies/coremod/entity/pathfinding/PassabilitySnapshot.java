@@ -0,0 +1,579 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.blocks.AbstractBlockBarrel;
+import com.minecolonies.api.blocks.decorative.AbstractBlockMinecoloniesConstructionTape;
+import com.minecolonies.api.blocks.huts.AbstractBlockMinecoloniesDefault;
+import com.minecolonies.api.entity.pathfinding.IPassabilitySnapshot;
+import com.minecolonies.coremod.blocks.BlockDecorationController;
+import net.minecraft.block.*;
+import net.minecraft.block.material.Material;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.util.math.shapes.VoxelShape;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Colony scoped passability snapshot, split into 16x16x16 chunk sections.
+ * <p>
+ * Each section stores two bits per block: whether the block is open (air without any collision or fluid) or a plain solid block (blocks movement, has a collision box and
+ * nothing that the path jobs treat specially like doors, fences, ladders or fluids). Everything else is reported as {@link Passability#UNKNOWN} and the path jobs fall back
+ * to the full block state and voxel shape checks. Sections are built lazily by the path jobs from their {@link ChunkCache}, are immutable once built and get dropped when a
+ * block inside of them changes.
+ */
+public class PassabilitySnapshot implements IPassabilitySnapshot
+{
+    /**
+     * Max age of a section in milliseconds, rebuilt afterwards in case a block change was not reported.
+     */
+    private static final long MAX_SECTION_AGE = 60_000L;
+
+    /**
+     * Age in milliseconds after which the change of a section is forgotten, versions older than that count as changed everywhere. Matches the max age of cached paths.
+     */
+    private static final long MAX_CHANGE_AGE = 5 * 60_000L;
+
+    /**
+     * Milliseconds between two remembered versions, used to find the version at which changes are forgotten.
+     */
+    private static final long CHECKPOINT_INTERVAL = 10_000L;
+
+    /**
+     * Amount of sections per chunk column.
+     */
+    private static final int SECTIONS_PER_CHUNK = 16;
+
+    /**
+     * Amount of longs needed to store one bit for each of the 4096 blocks of a section.
+     */
+    private static final int SECTION_LONGS = 4096 / Long.SIZE;
+
+    /**
+     * Amount of longs needed to store one bit for each of the 256 blocks of a section face.
+     */
+    private static final int FACE_LONGS = 256 / Long.SIZE;
+
+    /**
+     * Classification of a single block position.
+     */
+    public enum Passability
+    {
+        UNKNOWN,
+        OPEN,
+        SOLID
+    }
+
+    /**
+     * The built sections, by packed section position.
+     */
+    private final Map<Long, Section> sections = new ConcurrentHashMap<>();
+
+    /**
+     * Version of the snapshot, incremented on every invalidation.
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Version at which each section was last invalidated, by packed section position.
+     */
+    private final Map<Long, Long> lastChanges = new ConcurrentHashMap<>();
+
+    /**
+     * Versions with the time they were reached, oldest first, as {time, version}.
+     */
+    private final Deque<long[]> checkpoints = new ArrayDeque<>();
+
+    /**
+     * Changes up to this version were forgotten, every section counts as changed at this version.
+     */
+    private volatile long forgottenVersion = 0;
+
+    /**
+     * Section level graph built on top of this snapshot.
+     */
+    private final SectionGraph sectionGraph = new SectionGraph();
+
+    @Override
+    public long getVersion()
+    {
+        return version.get();
+    }
+
+    @Override
+    public boolean isUnchangedSince(final BlockPos pos, final long version)
+    {
+        final Long lastChange = lastChanges.get(SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4));
+        return (lastChange == null ? forgottenVersion : lastChange) <= version;
+    }
+
+    @Override
+    public void invalidate(final BlockPos pos)
+    {
+        final long key = SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+        lastChanges.put(key, version.incrementAndGet());
+        sections.remove(key);
+        forgetOldChanges();
+    }
+
+    @Override
+    public void invalidateChunk(final int chunkX, final int chunkZ)
+    {
+        final long newVersion = version.incrementAndGet();
+        for (int y = 0; y < SECTIONS_PER_CHUNK; y++)
+        {
+            final long key = SectionPos.asLong(chunkX, y, chunkZ);
+            lastChanges.put(key, newVersion);
+            sections.remove(key);
+        }
+        forgetOldChanges();
+    }
+
+    @Override
+    public void clear()
+    {
+        final long newVersion = version.incrementAndGet();
+        for (final Long key : sections.keySet())
+        {
+            lastChanges.put(key, newVersion);
+        }
+        sections.clear();
+        forgetOldChanges();
+    }
+
+    /**
+     * Drop the changes which are older than any cached path still checks against, so the changes don't pile up over the life of the server.
+     */
+    private void forgetOldChanges()
+    {
+        final long now = System.currentTimeMillis();
+        synchronized (checkpoints)
+        {
+            if (checkpoints.isEmpty() || now - checkpoints.peekLast()[0] >= CHECKPOINT_INTERVAL)
+            {
+                checkpoints.addLast(new long[] {now, version.get()});
+            }
+
+            long forget = forgottenVersion;
+            while (!checkpoints.isEmpty() && now - checkpoints.peekFirst()[0] > MAX_CHANGE_AGE)
+            {
+                forget = checkpoints.pollFirst()[1];
+            }
+
+            if (forget > forgottenVersion)
+            {
+                // Raise the floor first, so a section is never seen unchanged while its entry gets removed.
+                forgottenVersion = forget;
+                final long limit = forget;
+                lastChanges.values().removeIf(lastChange -> lastChange <= limit);
+            }
+        }
+    }
+
+    /**
+     * Get the section level graph of this snapshot, used to plan long paths.
+     *
+     * @return the graph.
+     */
+    public SectionGraph getSectionGraph()
+    {
+        return sectionGraph;
+    }
+
+    /**
+     * Create a reader over this snapshot for a single path job.
+     *
+     * @param cache the chunk cache of the job, used to build missing sections.
+     * @return the reader, not thread safe.
+     */
+    public Reader createReader(@NotNull final ChunkCache cache)
+    {
+        return new Reader(cache);
+    }
+
+    /**
+     * Get the section at the given section coordinates, building it from the chunk cache if necessary.
+     *
+     * @param cache the chunk cache to build from.
+     * @param x     the section x.
+     * @param y     the section y.
+     * @param z     the section z.
+     * @return the section or null if the chunk is not loaded in the cache.
+     */
+    @Nullable
+    private Section getOrBuildSection(@NotNull final ChunkCache cache, final int x, final int y, final int z)
+    {
+        final long key = SectionPos.asLong(x, y, z);
+        final Section existing = sections.get(key);
+        if (existing != null && System.currentTimeMillis() - existing.createdAt < MAX_SECTION_AGE)
+        {
+            return existing;
+        }
+
+        final long startVersion = version.get();
+        final Section section = buildSection(cache, x, y, z);
+        if (section != null)
+        {
+            // Only publish if nothing got invalidated while we were reading the blocks.
+            sections.compute(key, (k, old) -> version.get() == startVersion ? section : old);
+        }
+        return section;
+    }
+
+    /**
+     * Build a section from the chunk cache.
+     *
+     * @param cache the chunk cache.
+     * @param x     the section x.
+     * @param y     the section y.
+     * @param z     the section z.
+     * @return the section or null if the chunk is not loaded in the cache.
+     */
+    @Nullable
+    private static Section buildSection(@NotNull final ChunkCache cache, final int x, final int y, final int z)
+    {
+        final Chunk chunk = cache.getCachedChunk(x, z);
+        if (chunk == null)
+        {
+            return null;
+        }
+
+        final Section section = new Section();
+        final ChunkSection chunkSection = chunk.getSections()[y];
+        if (ChunkSection.isEmpty(chunkSection))
+        {
+            for (int i = 0; i < SECTION_LONGS; i++)
+            {
+                section.open[i] = -1L;
+            }
+            section.computeFaces();
+            return section;
+        }
+
+        final Map<BlockState, Passability> known = new IdentityHashMap<>();
+        final BlockPos.Mutable pos = new BlockPos.Mutable();
+        for (int localY = 0; localY < 16; localY++)
+        {
+            for (int localZ = 0; localZ < 16; localZ++)
+            {
+                for (int localX = 0; localX < 16; localX++)
+                {
+                    final BlockState state = chunkSection.getBlockState(localX, localY, localZ);
+                    Passability passability = known.get(state);
+                    if (passability == null)
+                    {
+                        pos.setPos((x << 4) + localX, (y << 4) + localY, (z << 4) + localZ);
+                        passability = classify(cache, state, pos);
+                        known.put(state, passability);
+                    }
+
+                    final int index = (localY << 8) | (localZ << 4) | localX;
+                    if (passability == Passability.OPEN)
+                    {
+                        section.open[index >> 6] |= 1L << index;
+                    }
+                    else if (passability == Passability.SOLID)
+                    {
+                        section.solid[index >> 6] |= 1L << index;
+                    }
+                }
+            }
+        }
+        section.computeFaces();
+        return section;
+    }
+
+    /**
+     * Classify a block state for the snapshot.
+     *
+     * @param cache the chunk cache.
+     * @param state the state.
+     * @param pos   the position of the state.
+     * @return the passability.
+     */
+    private static Passability classify(@NotNull final ChunkCache cache, @NotNull final BlockState state, @NotNull final BlockPos pos)
+    {
+        if (!state.getFluidState().isEmpty())
+        {
+            return Passability.UNKNOWN;
+        }
+
+        final Material material = state.getMaterial();
+        final VoxelShape collisionShape = state.getCollisionShape(cache, pos);
+        if (material == Material.AIR)
+        {
+            return collisionShape.isEmpty() && state.getShape(cache, pos).isEmpty() ? Passability.OPEN : Passability.UNKNOWN;
+        }
+
+        if (!material.blocksMovement() || !material.isSolid() || collisionShape.isEmpty() || collisionShape.getEnd(Direction.Axis.Y) <= 0.1
+              || state.getShape(cache, pos).getEnd(Direction.Axis.Y) > 1.0 || state.isIn(BlockTags.CLIMBABLE))
+        {
+            return Passability.UNKNOWN;
+        }
+
+        final Block block = state.getBlock();
+        if (block instanceof DoorBlock
+              || block instanceof FenceGateBlock
+              || block instanceof TrapDoorBlock
+              || block instanceof FenceBlock
+              || block instanceof WallBlock
+              || block instanceof FireBlock
+              || block instanceof CampfireBlock
+              || block instanceof BambooBlock
+              || block instanceof LadderBlock
+              || block instanceof VineBlock
+              || block instanceof ScaffoldingBlock
+              || block instanceof PressurePlateBlock
+              || block instanceof AbstractSignBlock
+              || block instanceof AbstractBannerBlock
+              || block instanceof AbstractBlockMinecoloniesConstructionTape
+              || block instanceof BlockDecorationController
+              || block instanceof AbstractBlockMinecoloniesDefault
+              || block instanceof AbstractBlockBarrel)
+        {
+            return Passability.UNKNOWN;
+        }
+
+        return Passability.SOLID;
+    }
+
+    /**
+     * Immutable passability bits of a single chunk section.
+     */
+    static final class Section
+    {
+        /**
+         * Bits of the open positions.
+         */
+        private final long[] open = new long[SECTION_LONGS];
+
+        /**
+         * Bits of the plain solid positions.
+         */
+        private final long[] solid = new long[SECTION_LONGS];
+
+        /**
+         * Creation time of the section.
+         */
+        private final long createdAt = System.currentTimeMillis();
+
+        /**
+         * Bits of the positions of each face an entity could stand at, by direction index. Side faces are indexed by {@code (y << 4) | along}, top and bottom by
+         * {@code (z << 4) | x}. Blocks outside of the section count as unknown.
+         */
+        private final long[][] standable = new long[Direction.values().length][FACE_LONGS];
+
+        /**
+         * Bits of the unclassified positions of the top layer, indexed by {@code (z << 4) | x}.
+         */
+        private final long[] unknownTop = new long[FACE_LONGS];
+
+        /**
+         * Bits of the unclassified positions of the bottom layer, indexed by {@code (z << 4) | x}.
+         */
+        private final long[] unknownBottom = new long[FACE_LONGS];
+
+        /**
+         * Precompute the face bits used by the {@link SectionGraph}, called once after the passability bits are set.
+         */
+        private void computeFaces()
+        {
+            for (int a = 0; a < 16; a++)
+            {
+                for (int b = 0; b < 16; b++)
+                {
+                    final int index = (a << 4) | b;
+                    setFaceBit(standable[Direction.EAST.getIndex()], index, canStand(15, a, b));
+                    setFaceBit(standable[Direction.WEST.getIndex()], index, canStand(0, a, b));
+                    setFaceBit(standable[Direction.SOUTH.getIndex()], index, canStand(b, a, 15));
+                    setFaceBit(standable[Direction.NORTH.getIndex()], index, canStand(b, a, 0));
+                    setFaceBit(standable[Direction.UP.getIndex()], index, canStand(b, 15, a));
+                    setFaceBit(standable[Direction.DOWN.getIndex()], index, canStand(b, 0, a));
+                    setFaceBit(unknownTop, index, get(b, 15, a) == Passability.UNKNOWN);
+                    setFaceBit(unknownBottom, index, get(b, 0, a) == Passability.UNKNOWN);
+                }
+            }
+        }
+
+        /**
+         * Check if an entity could stand at the given local position, blocks outside of the section are assumed to work out.
+         *
+         * @param x the local x.
+         * @param y the local y.
+         * @param z the local z.
+         * @return true if possible.
+         */
+        private boolean canStand(final int x, final int y, final int z)
+        {
+            return (y == 0 || get(x, y - 1, z) != Passability.OPEN) && get(x, y, z) != Passability.SOLID && (y == 15 || get(x, y + 1, z) != Passability.SOLID);
+        }
+
+        /**
+         * Check if an entity could stand at the given position of a face.
+         *
+         * @param face  the face.
+         * @param index the index on the face.
+         * @return true if possible.
+         */
+        boolean isStandable(@NotNull final Direction face, final int index)
+        {
+            return (standable[face.getIndex()][index >> 6] & (1L << index)) != 0;
+        }
+
+        /**
+         * Check if the given position of the top or bottom layer is unclassified.
+         *
+         * @param face  {@link Direction#UP} for the top layer, {@link Direction#DOWN} for the bottom layer.
+         * @param index the index on the layer.
+         * @return true if unclassified.
+         */
+        boolean isUnknown(@NotNull final Direction face, final int index)
+        {
+            return ((face == Direction.UP ? unknownTop : unknownBottom)[index >> 6] & (1L << index)) != 0;
+        }
+
+        /**
+         * Get the passability at the given position.
+         *
+         * @param x the world x.
+         * @param y the world y.
+         * @param z the world z.
+         * @return the passability.
+         */
+        private Passability get(final int x, final int y, final int z)
+        {
+            final int index = ((y & 15) << 8) | ((z & 15) << 4) | (x & 15);
+            final long bit = 1L << index;
+            if ((open[index >> 6] & bit) != 0)
+            {
+                return Passability.OPEN;
+            }
+            if ((solid[index >> 6] & bit) != 0)
+            {
+                return Passability.SOLID;
+            }
+            return Passability.UNKNOWN;
+        }
+
+        /**
+         * Set a bit of a face.
+         *
+         * @param bits  the face bits.
+         * @param index the index on the face.
+         * @param value whether to set the bit.
+         */
+        private static void setFaceBit(@NotNull final long[] bits, final int index, final boolean value)
+        {
+            if (value)
+            {
+                bits[index >> 6] |= 1L << index;
+            }
+        }
+    }
+
+    /**
+     * Per path job reader, remembers the last used section since neighbouring lookups mostly hit the same one.
+     */
+    public final class Reader
+    {
+        /**
+         * The chunk cache of the job.
+         */
+        private final ChunkCache cache;
+
+        /**
+         * Key of the last used section.
+         */
+        private long lastKey = Long.MIN_VALUE;
+
+        /**
+         * The last used section, null if it could not be built.
+         */
+        @Nullable
+        private Section lastSection;
+
+        /**
+         * Create a new reader.
+         *
+         * @param cache the chunk cache of the job.
+         */
+        private Reader(@NotNull final ChunkCache cache)
+        {
+            this.cache = cache;
+        }
+
+        /**
+         * Get the passability at the given position.
+         *
+         * @param pos the position.
+         * @return the passability, UNKNOWN if not covered by the snapshot.
+         */
+        public Passability get(@NotNull final BlockPos pos)
+        {
+            if (pos.getY() < 0 || pos.getY() >= SECTIONS_PER_CHUNK << 4)
+            {
+                return Passability.UNKNOWN;
+            }
+
+            final int x = pos.getX() >> 4;
+            final int y = pos.getY() >> 4;
+            final int z = pos.getZ() >> 4;
+            final long key = SectionPos.asLong(x, y, z);
+            if (key != lastKey)
+            {
+                lastKey = key;
+                lastSection = getOrBuildSection(cache, x, y, z);
+            }
+
+            return lastSection == null ? Passability.UNKNOWN : lastSection.get(pos.getX(), pos.getY(), pos.getZ());
+        }
+
+        /**
+         * Check if the given section can be read, meaning its chunk is available to the job.
+         *
+         * @param x the section x.
+         * @param y the section y.
+         * @param z the section z.
+         * @return true if available.
+         */
+        public boolean hasSection(final int x, final int y, final int z)
+        {
+            return getSection(x, y, z) != null;
+        }
+
+        /**
+         * Get the given section, for the section graph.
+         *
+         * @param x the section x.
+         * @param y the section y.
+         * @param z the section z.
+         * @return the section or null if its chunk is not available to the job.
+         */
+        @Nullable
+        Section getSection(final int x, final int y, final int z)
+        {
+            if (y < 0 || y >= SECTIONS_PER_CHUNK)
+            {
+                return null;
+            }
+
+            final long key = SectionPos.asLong(x, y, z);
+            if (key != lastKey)
+            {
+                lastKey = key;
+                lastSection = getOrBuildSection(cache, x, y, z);
+            }
+            return lastSection;
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.entity.pathfinding.IPassabilitySnapshot;
+import com.minecolonies.api.entity.pathfinding.PathingOptions;
+import net.minecraft.pathfinding.Path;
+import net.minecraft.pathfinding.PathPoint;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * LRU cache of computed move-to-location paths, keyed by the sections of start and destination and the pathing options.
+ * <p>
+ * A cached path is reused for any start and destination within one path step of its points, it is cut down to the part between them. Only paths inside of a colony are
+ * cached, an entry stays valid as long as none of the passability snapshot sections the path passes through got invalidated since the path job was created. Accessed from
+ * the server thread only.
+ */
+public final class PathCache
+{
+    /**
+     * Max amount of cached paths.
+     */
+    private static final int MAX_ENTRIES = 512;
+
+    /**
+     * Max age of a cached path in ticks.
+     */
+    private static final long MAX_AGE = 20 * 60 * 5;
+
+    /**
+     * Max distance on each axis between a requested start or destination and a point of a cached path, one regular path step.
+     */
+    private static final int ANCHOR_RANGE = 1;
+
+    /**
+     * The cached paths, in access order.
+     */
+    private static final Map<Key, Entry> cache = new LinkedHashMap<Key, Entry>(MAX_ENTRIES, 0.75F, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest)
+        {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * Served and missed lookups by colony snapshot, as {hits, misses}.
+     */
+    private static final Map<IPassabilitySnapshot, long[]> stats = new WeakHashMap<>();
+
+    private PathCache()
+    {
+        //Hides default constructor.
+    }
+
+    /**
+     * Get a cached path, a fresh copy which can be followed right away.
+     *
+     * @param world    the world.
+     * @param snapshot the passability snapshot of the colony at the start, null if none.
+     * @param start    the start position.
+     * @param end      the destination.
+     * @param options  the pathing options of the navigator.
+     * @return the path or null if nothing valid is cached.
+     */
+    @Nullable
+    public static Path get(
+      @NotNull final World world,
+      @Nullable final IPassabilitySnapshot snapshot,
+      @NotNull final BlockPos start,
+      @NotNull final BlockPos end,
+      @NotNull final PathingOptions options)
+    {
+        if (snapshot == null)
+        {
+            return null;
+        }
+
+        final long[] counts = stats.computeIfAbsent(snapshot, k -> new long[2]);
+        final Key key = new Key(world.getDimensionKey(), start, end, options);
+        final Entry entry = cache.get(key);
+        if (entry == null)
+        {
+            counts[1]++;
+            return null;
+        }
+
+        if (entry.snapshot != snapshot || world.getGameTime() - entry.createdAt > MAX_AGE || !entry.isValid())
+        {
+            cache.remove(key);
+            counts[1]++;
+            return null;
+        }
+
+        final Path path = entry.anchor(start, end);
+        counts[path == null ? 1 : 0]++;
+        return path;
+    }
+
+    /**
+     * Store a path which reached its destination.
+     *
+     * @param world    the world.
+     * @param snapshot the passability snapshot the path was computed with, nothing is cached if null.
+     * @param version  the snapshot version when the path job got created.
+     * @param start    the start position.
+     * @param end      the destination.
+     * @param options  the pathing options the path was computed with.
+     * @param path     the path.
+     */
+    public static void put(
+      @NotNull final World world,
+      @Nullable final IPassabilitySnapshot snapshot,
+      final long version,
+      @NotNull final BlockPos start,
+      @NotNull final BlockPos end,
+      @NotNull final PathingOptions options,
+      @NotNull final Path path)
+    {
+        if (snapshot == null || path.getCurrentPathLength() == 0)
+        {
+            return;
+        }
+
+        final PathPoint[] points = new PathPoint[path.getCurrentPathLength()];
+        for (int i = 0; i < points.length; i++)
+        {
+            points[i] = path.getPathPointFromIndex(i);
+        }
+
+        cache.put(new Key(world.getDimensionKey(), start, end, options), new Entry(snapshot, version, points, start, end, path.getTarget(), world.getGameTime()));
+    }
+
+    /**
+     * Drop all cached paths.
+     */
+    public static void clear()
+    {
+        cache.clear();
+        stats.clear();
+    }
+
+    /**
+     * Amount of lookups of a colony served from the cache.
+     *
+     * @param snapshot the passability snapshot of the colony.
+     * @return the hits.
+     */
+    public static long getHits(@Nullable final IPassabilitySnapshot snapshot)
+    {
+        final long[] counts = stats.get(snapshot);
+        return counts == null ? 0 : counts[0];
+    }
+
+    /**
+     * Amount of lookups of a colony which needed a new path search.
+     *
+     * @param snapshot the passability snapshot of the colony.
+     * @return the misses.
+     */
+    public static long getMisses(@Nullable final IPassabilitySnapshot snapshot)
+    {
+        final long[] counts = stats.get(snapshot);
+        return counts == null ? 0 : counts[1];
+    }
+
+    /**
+     * Amount of cached paths of a colony.
+     *
+     * @param snapshot the passability snapshot of the colony.
+     * @return the size.
+     */
+    public static int size(@Nullable final IPassabilitySnapshot snapshot)
+    {
+        int size = 0;
+        for (final Entry entry : cache.values())
+        {
+            if (entry.snapshot == snapshot)
+            {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * A cached path.
+     */
+    private static final class Entry
+    {
+        private final IPassabilitySnapshot snapshot;
+        private final long                 version;
+        private final PathPoint[]          points;
+        private final BlockPos             start;
+        private final BlockPos             end;
+        private final BlockPos             target;
+        private final long                 createdAt;
+
+        /**
+         * One position per snapshot section the path passes through.
+         */
+        private final List<BlockPos> sections = new ArrayList<>();
+
+        private Entry(
+          final IPassabilitySnapshot snapshot,
+          final long version,
+          final PathPoint[] points,
+          final BlockPos start,
+          final BlockPos end,
+          final BlockPos target,
+          final long createdAt)
+        {
+            this.snapshot = snapshot;
+            this.version = version;
+            this.points = points;
+            this.start = start;
+            this.end = end;
+            this.target = target;
+            this.createdAt = createdAt;
+
+            final Set<Long> seen = new HashSet<>();
+            for (final PathPoint point : points)
+            {
+                final BlockPos pos = new BlockPos(point.x, point.y, point.z);
+                // Also covers the blocks we stand on and need as headroom.
+                for (final BlockPos sectionPos : new BlockPos[] {pos.down(), pos, pos.up()})
+                {
+                    if (seen.add(SectionPos.asLong(sectionPos.getX() >> 4, sectionPos.getY() >> 4, sectionPos.getZ() >> 4)))
+                    {
+                        sections.add(sectionPos);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Check if no section on the path changed since the path got computed.
+         *
+         * @return true if still valid.
+         */
+        private boolean isValid()
+        {
+            for (final BlockPos pos : sections)
+            {
+                if (!snapshot.isUnchangedSince(pos, version))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Re-anchor the path to a start and destination, cutting it down to the part between the points next to them.
+         *
+         * @param from the requested start.
+         * @param to   the requested destination.
+         * @return a fresh copy of the path which can be followed right away, or null if start or destination are not next to the path.
+         */
+        @Nullable
+        private Path anchor(@NotNull final BlockPos from, @NotNull final BlockPos to)
+        {
+            int first = -1;
+            for (int i = 0; i < points.length && first < 0; i++)
+            {
+                if (from.equals(start) ? i == 0 : isNext(points[i], from))
+                {
+                    first = i;
+                }
+            }
+            if (first < 0)
+            {
+                return null;
+            }
+
+            if (to.equals(end))
+            {
+                return new Path(new ArrayList<>(Arrays.asList(points).subList(first, points.length)), target, true);
+            }
+
+            for (int last = points.length - 1; last >= first; last--)
+            {
+                if (isNext(points[last], to))
+                {
+                    final List<PathPoint> anchored = new ArrayList<>(Arrays.asList(points).subList(first, last + 1));
+                    if (points[last].x != to.getX() || points[last].y != to.getY() || points[last].z != to.getZ())
+                    {
+                        anchored.add(new PathPointExtended(to));
+                    }
+                    return new Path(anchored, to, true);
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Check if a position is within one path step of a point.
+         *
+         * @param point the path point.
+         * @param pos   the position.
+         * @return true if so.
+         */
+        private static boolean isNext(@NotNull final PathPoint point, @NotNull final BlockPos pos)
+        {
+            return Math.abs(point.x - pos.getX()) <= ANCHOR_RANGE && Math.abs(point.y - pos.getY()) <= ANCHOR_RANGE && Math.abs(point.z - pos.getZ()) <= ANCHOR_RANGE;
+        }
+    }
+
+    /**
+     * Cache key of the sections of start and destination and the pathing options.
+     */
+    private static final class Key
+    {
+        private final RegistryKey<World> dimension;
+        private final long               start;
+        private final long               end;
+        private final int                flags;
+        private final double[]           costs;
+        private final int                hash;
+
+        private Key(final RegistryKey<World> dimension, final BlockPos start, final BlockPos end, final PathingOptions options)
+        {
+            this.dimension = dimension;
+            this.start = SectionPos.asLong(start.getX() >> 4, start.getY() >> 4, start.getZ() >> 4);
+            this.end = SectionPos.asLong(end.getX() >> 4, end.getY() >> 4, end.getZ() >> 4);
+            this.flags = (options.canUseRails() ? 1 : 0)
+                           | (options.canSwim() ? 2 : 0)
+                           | (options.canEnterDoors() ? 4 : 0)
+                           | (options.canOpenDoors() ? 8 : 0);
+            this.costs = new double[] {options.jumpDropCost, options.onPathCost, options.onRailCost, options.railsExitCost, options.swimCost, options.swimCostEnter,
+              options.traverseToggleAbleCost};
+            this.hash = Objects.hash(dimension, this.start, this.end, flags, Arrays.hashCode(costs));
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+
+            final Key other = (Key) o;
+            return start == other.start && end == other.end && flags == other.flags && dimension.equals(other.dimension) && Arrays.equals(costs, other.costs);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+    }
+}
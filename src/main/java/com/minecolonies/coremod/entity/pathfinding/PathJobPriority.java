@@ -0,0 +1,22 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+/**
+ * Priority classes of path jobs, the scheduler always serves a higher class first.
+ */
+public enum PathJobPriority
+{
+    /**
+     * Entities fighting, like guards chasing raiders or the raiders themselves.
+     */
+    COMBAT,
+
+    /**
+     * Regular work paths.
+     */
+    WORK,
+
+    /**
+     * Idle wandering around, dropped first when the queue is full.
+     */
+    IDLE
+}
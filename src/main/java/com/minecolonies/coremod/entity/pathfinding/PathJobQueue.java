@@ -0,0 +1,646 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.coremod.entity.pathfinding.pathjobs.AbstractPathJob;
+import net.minecraft.entity.Entity;
+import net.minecraft.pathfinding.Path;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+
+/**
+ * Work queue of the pathfinding executor.
+ * <p>
+ * Jobs are served by {@link PathJobPriority} first and round robin between the colonies within the same priority, so a single colony spamming jobs can not starve the
+ * others. A new job for an entity replaces its still queued previous job. Once the queue passes its budget, the oldest job of the colony with the most queued jobs in
+ * the lowest priority class gets dropped, new jobs of a lower priority than everything queued are dropped right away. Dropped jobs are cancelled.
+ */
+public class PathJobQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable>
+{
+    /**
+     * Key used for jobs outside of any colony.
+     */
+    private static final ColonyKey NO_COLONY = new ColonyKey(null, 0);
+
+    /**
+     * Guards all state of the queue.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Signalled when a job is added.
+     */
+    private final Condition notEmpty = lock.newCondition();
+
+    /**
+     * Queued jobs by priority and colony, colonies in serving order.
+     */
+    private final EnumMap<PathJobPriority, LinkedHashMap<ColonyKey, ArrayDeque<Runnable>>> queues = new EnumMap<>(PathJobPriority.class);
+
+    /**
+     * The currently queued job of each entity.
+     */
+    private final Map<Entity, Task> queuedByEntity = new IdentityHashMap<>();
+
+    /**
+     * Queue metrics by colony.
+     */
+    private final Map<ColonyKey, ColonyQueueStats> stats = new HashMap<>();
+
+    /**
+     * Supplies the max amount of queued jobs.
+     */
+    private final IntSupplier budget;
+
+    /**
+     * Amount of queued jobs.
+     */
+    private int size = 0;
+
+    /**
+     * Create a new queue.
+     *
+     * @param budget supplier of the max amount of queued jobs.
+     */
+    public PathJobQueue(@NotNull final IntSupplier budget)
+    {
+        this.budget = budget;
+        for (final PathJobPriority priority : PathJobPriority.values())
+        {
+            queues.put(priority, new LinkedHashMap<>());
+        }
+    }
+
+    @Override
+    public boolean offer(@NotNull final Runnable runnable)
+    {
+        lock.lock();
+        try
+        {
+            final PathJobPriority priority = getPriority(runnable);
+            if (runnable instanceof Task && ((Task) runnable).entity != null)
+            {
+                final Task previous = queuedByEntity.put(((Task) runnable).entity, (Task) runnable);
+                if (previous != null && removeQueued(previous))
+                {
+                    previous.cancel(false);
+                }
+            }
+
+            if (size >= budget.getAsInt() && !dropLowest(priority))
+            {
+                // Everything queued is more important, drop the new job instead.
+                if (runnable instanceof Task)
+                {
+                    forgetEntity((Task) runnable);
+                    ((FutureTask<?>) runnable).cancel(false);
+                }
+                return true;
+            }
+
+            final ColonyKey colony = getColony(runnable);
+            queues.get(priority).computeIfAbsent(colony, key -> new ArrayDeque<>()).addLast(runnable);
+            stats.computeIfAbsent(colony, key -> new ColonyQueueStats()).depth++;
+            size++;
+            notEmpty.signal();
+            return true;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(@NotNull final Runnable runnable)
+    {
+        offer(runnable);
+    }
+
+    @Override
+    public boolean offer(final Runnable runnable, final long timeout, @NotNull final TimeUnit unit)
+    {
+        return offer(runnable);
+    }
+
+    @NotNull
+    @Override
+    public Runnable take() throws InterruptedException
+    {
+        lock.lockInterruptibly();
+        try
+        {
+            Runnable next;
+            while ((next = dequeue()) == null)
+            {
+                notEmpty.await();
+            }
+            return next;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Nullable
+    @Override
+    public Runnable poll(final long timeout, @NotNull final TimeUnit unit) throws InterruptedException
+    {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try
+        {
+            Runnable next;
+            while ((next = dequeue()) == null)
+            {
+                if (nanos <= 0)
+                {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return next;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Nullable
+    @Override
+    public Runnable poll()
+    {
+        lock.lock();
+        try
+        {
+            return dequeue();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Nullable
+    @Override
+    public Runnable peek()
+    {
+        lock.lock();
+        try
+        {
+            for (final LinkedHashMap<ColonyKey, ArrayDeque<Runnable>> byColony : queues.values())
+            {
+                for (final ArrayDeque<Runnable> queue : byColony.values())
+                {
+                    if (!queue.isEmpty())
+                    {
+                        return queue.peekFirst();
+                    }
+                }
+            }
+            return null;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(final Object o)
+    {
+        if (!(o instanceof Runnable))
+        {
+            return false;
+        }
+
+        lock.lock();
+        try
+        {
+            final boolean removed = removeQueued((Runnable) o);
+            if (removed && o instanceof Task)
+            {
+                forgetEntity((Task) o);
+            }
+            return removed;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size()
+    {
+        lock.lock();
+        try
+        {
+            return size;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity()
+    {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int drainTo(@NotNull final Collection<? super Runnable> collection)
+    {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(@NotNull final Collection<? super Runnable> collection, final int maxElements)
+    {
+        lock.lock();
+        try
+        {
+            int drained = 0;
+            Runnable next;
+            while (drained < maxElements && (next = dequeue()) != null)
+            {
+                collection.add(next);
+                drained++;
+            }
+            return drained;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        lock.lock();
+        try
+        {
+            for (final LinkedHashMap<ColonyKey, ArrayDeque<Runnable>> byColony : queues.values())
+            {
+                byColony.clear();
+            }
+            queuedByEntity.clear();
+            for (final ColonyQueueStats colonyStats : stats.values())
+            {
+                colonyStats.depth = 0;
+            }
+            size = 0;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @NotNull
+    @Override
+    public Iterator<Runnable> iterator()
+    {
+        final List<Runnable> copy = new ArrayList<>();
+        lock.lock();
+        try
+        {
+            for (final LinkedHashMap<ColonyKey, ArrayDeque<Runnable>> byColony : queues.values())
+            {
+                for (final ArrayDeque<Runnable> queue : byColony.values())
+                {
+                    copy.addAll(queue);
+                }
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        final Iterator<Runnable> iterator = copy.iterator();
+        return new Iterator<Runnable>()
+        {
+            private Runnable last;
+
+            @Override
+            public boolean hasNext()
+            {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Runnable next()
+            {
+                last = iterator.next();
+                return last;
+            }
+
+            @Override
+            public void remove()
+            {
+                PathJobQueue.this.remove(last);
+            }
+        };
+    }
+
+    /**
+     * Get the amount of queued jobs of a colony.
+     *
+     * @param dimension the dimension of the colony.
+     * @param colonyId  the colony id.
+     * @return the queue depth.
+     */
+    public int getQueueDepth(final RegistryKey<World> dimension, final int colonyId)
+    {
+        lock.lock();
+        try
+        {
+            final ColonyQueueStats colonyStats = stats.get(new ColonyKey(dimension, colonyId));
+            return colonyStats == null ? 0 : colonyStats.depth;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the average time the jobs of a colony waited in the queue before a worker picked them up.
+     *
+     * @param dimension the dimension of the colony.
+     * @param colonyId  the colony id.
+     * @return the average wait time in milliseconds.
+     */
+    public double getAverageWaitTime(final RegistryKey<World> dimension, final int colonyId)
+    {
+        lock.lock();
+        try
+        {
+            final ColonyQueueStats colonyStats = stats.get(new ColonyKey(dimension, colonyId));
+            return colonyStats == null || colonyStats.served == 0 ? 0 : colonyStats.totalWaitNanos / (double) colonyStats.served / 1_000_000D;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the amount of jobs of a colony which were dropped or replaced while queued.
+     *
+     * @param dimension the dimension of the colony.
+     * @param colonyId  the colony id.
+     * @return the amount.
+     */
+    public long getDroppedJobs(final RegistryKey<World> dimension, final int colonyId)
+    {
+        lock.lock();
+        try
+        {
+            final ColonyQueueStats colonyStats = stats.get(new ColonyKey(dimension, colonyId));
+            return colonyStats == null ? 0 : colonyStats.dropped;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Take the next job to run, skipping cancelled ones. Must hold the lock.
+     *
+     * @return the job or null if empty.
+     */
+    @Nullable
+    private Runnable dequeue()
+    {
+        for (final LinkedHashMap<ColonyKey, ArrayDeque<Runnable>> byColony : queues.values())
+        {
+            while (!byColony.isEmpty())
+            {
+                final Iterator<Map.Entry<ColonyKey, ArrayDeque<Runnable>>> iterator = byColony.entrySet().iterator();
+                final Map.Entry<ColonyKey, ArrayDeque<Runnable>> entry = iterator.next();
+                final ColonyKey colony = entry.getKey();
+                final ArrayDeque<Runnable> queue = entry.getValue();
+                final Runnable next = queue.pollFirst();
+
+                // Move the colony to the back of the line.
+                iterator.remove();
+                if (!queue.isEmpty())
+                {
+                    byColony.put(colony, queue);
+                }
+
+                if (next == null)
+                {
+                    continue;
+                }
+
+                size--;
+                final ColonyQueueStats colonyStats = stats.get(colony);
+                colonyStats.depth--;
+                if (next instanceof Task)
+                {
+                    final Task task = (Task) next;
+                    forgetEntity(task);
+                    if (task.isCancelled())
+                    {
+                        continue;
+                    }
+                    colonyStats.served++;
+                    colonyStats.totalWaitNanos += System.nanoTime() - task.enqueuedAt;
+                }
+                return next;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Drop one queued job to make room for a job of the given priority. Must hold the lock.
+     *
+     * @param priority the priority of the new job.
+     * @return false if only more important jobs are queued.
+     */
+    private boolean dropLowest(final PathJobPriority priority)
+    {
+        final PathJobPriority[] priorities = PathJobPriority.values();
+        for (int i = priorities.length - 1; i >= priority.ordinal(); i--)
+        {
+            ArrayDeque<Runnable> largest = null;
+            for (final ArrayDeque<Runnable> queue : queues.get(priorities[i]).values())
+            {
+                if (largest == null || queue.size() > largest.size())
+                {
+                    largest = queue;
+                }
+            }
+
+            if (largest != null && !largest.isEmpty())
+            {
+                final Runnable dropped = largest.peekFirst();
+                removeQueued(dropped);
+                if (dropped instanceof Task)
+                {
+                    forgetEntity((Task) dropped);
+                    ((Task) dropped).cancel(false);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Remove a queued job. Must hold the lock.
+     *
+     * @param runnable the job.
+     * @return true if it was queued.
+     */
+    private boolean removeQueued(@NotNull final Runnable runnable)
+    {
+        final ColonyKey colony = getColony(runnable);
+        final LinkedHashMap<ColonyKey, ArrayDeque<Runnable>> byColony = queues.get(getPriority(runnable));
+        final ArrayDeque<Runnable> queue = byColony.get(colony);
+        if (queue == null || !queue.remove(runnable))
+        {
+            return false;
+        }
+
+        if (queue.isEmpty())
+        {
+            byColony.remove(colony);
+        }
+        size--;
+        final ColonyQueueStats colonyStats = stats.get(colony);
+        colonyStats.depth--;
+        colonyStats.dropped++;
+        return true;
+    }
+
+    /**
+     * Forget the entity mapping of a task which left the queue. Must hold the lock.
+     *
+     * @param task the task.
+     */
+    private void forgetEntity(@NotNull final Task task)
+    {
+        if (task.entity != null && queuedByEntity.get(task.entity) == task)
+        {
+            queuedByEntity.remove(task.entity);
+        }
+    }
+
+    private static PathJobPriority getPriority(final Runnable runnable)
+    {
+        return runnable instanceof Task ? ((Task) runnable).priority : PathJobPriority.WORK;
+    }
+
+    private static ColonyKey getColony(final Runnable runnable)
+    {
+        return runnable instanceof Task ? ((Task) runnable).colony : NO_COLONY;
+    }
+
+    /**
+     * Future of a queued path job, keeps the scheduling information of the job.
+     */
+    public static class Task extends FutureTask<Path>
+    {
+        /**
+         * The priority class.
+         */
+        private final PathJobPriority priority;
+
+        /**
+         * The colony the job belongs to.
+         */
+        private final ColonyKey colony;
+
+        /**
+         * The entity the job calculates for, null if none.
+         */
+        @Nullable
+        private final Entity entity;
+
+        /**
+         * When the job got queued, in nanoseconds.
+         */
+        private final long enqueuedAt = System.nanoTime();
+
+        /**
+         * Create a new task for the given job, must be called on the server thread.
+         *
+         * @param job the path job.
+         */
+        public Task(@NotNull final AbstractPathJob job)
+        {
+            super(job);
+            this.priority = job.getPriority();
+            this.colony = job.getColonyId() == 0 ? NO_COLONY : new ColonyKey(job.getDimension(), job.getColonyId());
+            this.entity = job.getEntity();
+        }
+    }
+
+    /**
+     * Identifies a colony by dimension and id.
+     */
+    private static final class ColonyKey
+    {
+        @Nullable
+        private final RegistryKey<World> dimension;
+        private final int                id;
+
+        private ColonyKey(@Nullable final RegistryKey<World> dimension, final int id)
+        {
+            this.dimension = dimension;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+
+            final ColonyKey other = (ColonyKey) o;
+            return id == other.id && Objects.equals(dimension, other.dimension);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 31 * Objects.hashCode(dimension) + id;
+        }
+    }
+
+    /**
+     * Queue metrics of a single colony.
+     */
+    private static final class ColonyQueueStats
+    {
+        private int  depth;
+        private long served;
+        private long dropped;
+        private long totalWaitNanos;
+    }
+}
@@ -33,8 +33,36 @@ import static com.minecolonies.api.util.constant.PathingConstants.debugNodeMonit
  */
 public final class Pathfinding
 {
-    private static final BlockingQueue<Runnable> jobQueue = new LinkedBlockingDeque<>();
-    private static       ThreadPoolExecutor      executor;
+    private static final PathJobQueue       jobQueue = new PathJobQueue(() -> MineColonies.getConfig().getServer().pathfindingMaxQueuedJobs.get());
+    private static       ThreadPoolExecutor executor;
+
+    /**
+     * Executor which wraps the path jobs into tasks carrying their priority and colony for the {@link PathJobQueue}.
+     */
+    private static class PathJobExecutor extends ThreadPoolExecutor
+    {
+        /**
+         * Create a new executor.
+         *
+         * @param threads the amount of worker threads.
+         */
+        private PathJobExecutor(final int threads)
+        {
+            super(threads, threads, 10, TimeUnit.SECONDS, jobQueue, new MinecoloniesThreadFactory());
+            allowCoreThreadTimeOut(true);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected <T> RunnableFuture<T> newTaskFor(final Callable<T> callable)
+        {
+            if (callable instanceof AbstractPathJob)
+            {
+                return (RunnableFuture<T>) new PathJobQueue.Task((AbstractPathJob) callable);
+            }
+            return super.newTaskFor(callable);
+        }
+    }
 
     /**
      * Minecolonies specific thread factory.
@@ -66,11 +94,21 @@ public final class Pathfinding
     {
         if (executor == null)
         {
-            executor = new ThreadPoolExecutor(1, MineColonies.getConfig().getServer().pathfindingMaxThreadCount.get(), 10, TimeUnit.SECONDS, jobQueue, new MinecoloniesThreadFactory());
+            executor = new PathJobExecutor(MineColonies.getConfig().getServer().pathfindingMaxThreadCount.get());
         }
         return executor;
     }
 
+    /**
+     * Get the queue of the pending path jobs, for its metrics.
+     *
+     * @return the queue.
+     */
+    public static PathJobQueue getJobQueue()
+    {
+        return jobQueue;
+    }
+
     /**
      * Stops all running threads in this thread pool
      */
@@ -79,6 +117,7 @@ public final class Pathfinding
         getExecutor().shutdownNow();
         jobQueue.clear();
         executor = null;
+        PathCache.clear();
     }
 
     private Pathfinding()
@@ -0,0 +1,339 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.coremod.entity.pathfinding.PassabilitySnapshot.Section;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.SectionPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Abstract graph over the 16x16x16 sections of a colony passability snapshot, used to plan long paths over sections before refining them block by block.
+ * <p>
+ * Two neighbouring sections are linked by a portal if an entity can plausibly cross their shared face. Positions the snapshot can not classify count as passable, so the
+ * graph rather links too much than too little and the block level search stays the final authority. Portals are derived from the face bits each snapshot section
+ * precomputes when it is built, so planning never reads single blocks and a changed section brings fresh portals along with its rebuild.
+ */
+public class SectionGraph
+{
+    /**
+     * Max amount of sections expanded by a single plan.
+     */
+    private static final int MAX_PLANNED_SECTIONS = 4096;
+
+    /**
+     * Cost of crossing a portal, keeps plans from zig zagging between sections.
+     */
+    private static final double PORTAL_COST = 1.0D;
+
+    /**
+     * Size of a section.
+     */
+    private static final int SECTION_SIZE = 16;
+
+    /**
+     * All directions, indexed by {@link Direction#getIndex()}.
+     */
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /**
+     * Plan a route over the sections from start to end.
+     *
+     * @param reader the snapshot reader of the path job, only sections it can read are planned through.
+     * @param start  the start position.
+     * @param end    the destination.
+     * @return the sorted keys of the sections on the route and their neighbours, null if no route was found.
+     */
+    @Nullable
+    public long[] planCorridor(@NotNull final PassabilitySnapshot.Reader reader, @NotNull final BlockPos start, @NotNull final BlockPos end)
+    {
+        final int goalX = end.getX() >> 4;
+        final int goalY = end.getY() >> 4;
+        final int goalZ = end.getZ() >> 4;
+        if (!reader.hasSection(start.getX() >> 4, start.getY() >> 4, start.getZ() >> 4) || !reader.hasSection(goalX, goalY, goalZ))
+        {
+            return null;
+        }
+
+        final PriorityQueue<PlanNode> open = new PriorityQueue<>(Comparator.comparingDouble(node -> node.score));
+        final Map<Long, PlanNode> visited = new HashMap<>();
+        final PlanNode startNode = new PlanNode(start.getX() >> 4, start.getY() >> 4, start.getZ() >> 4, start, null, 0, distance(start, end));
+        open.add(startNode);
+        visited.put(startNode.key, startNode);
+
+        int expanded = 0;
+        while (!open.isEmpty())
+        {
+            final PlanNode current = open.poll();
+            if (visited.get(current.key) != current || current.closed)
+            {
+                // Superseded by a cheaper entry.
+                continue;
+            }
+            current.closed = true;
+
+            if (current.x == goalX && current.y == goalY && current.z == goalZ)
+            {
+                return buildCorridor(current);
+            }
+
+            if (++expanded > MAX_PLANNED_SECTIONS || Thread.currentThread().isInterrupted())
+            {
+                return null;
+            }
+
+            final BlockPos[] portals = getPortals(reader, current.x, current.y, current.z);
+            for (final Direction direction : DIRECTIONS)
+            {
+                final BlockPos portal = portals[direction.getIndex()];
+                if (portal == null)
+                {
+                    continue;
+                }
+
+                final int x = current.x + direction.getXOffset();
+                final int y = current.y + direction.getYOffset();
+                final int z = current.z + direction.getZOffset();
+                final long key = SectionPos.asLong(x, y, z);
+                final PlanNode existing = visited.get(key);
+                final double cost = current.cost + distance(current.entry, portal) + PORTAL_COST;
+                if (existing == null || (!existing.closed && cost < existing.cost))
+                {
+                    final BlockPos entry = portal.offset(direction);
+                    final PlanNode next = new PlanNode(x, y, z, entry, current, cost, cost + distance(entry, end));
+                    visited.put(key, next);
+                    open.add(next);
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Get the portals of a section.
+     *
+     * @param reader the snapshot reader.
+     * @param x      the section x.
+     * @param y      the section y.
+     * @param z      the section z.
+     * @return the portals by direction index, null entries for faces without one.
+     */
+    private static BlockPos[] getPortals(@NotNull final PassabilitySnapshot.Reader reader, final int x, final int y, final int z)
+    {
+        final BlockPos[] portals = new BlockPos[DIRECTIONS.length];
+        final Section section = reader.getSection(x, y, z);
+        if (section == null)
+        {
+            return portals;
+        }
+
+        for (final Direction direction : DIRECTIONS)
+        {
+            final Section neighbour = reader.getSection(x + direction.getXOffset(), y + direction.getYOffset(), z + direction.getZOffset());
+            if (neighbour == null)
+            {
+                // Not available to this job.
+                continue;
+            }
+
+            if (direction == Direction.UP)
+            {
+                portals[direction.getIndex()] = findVerticalPortal(section, neighbour, x, y, z);
+            }
+            else if (direction == Direction.DOWN)
+            {
+                final BlockPos below = findVerticalPortal(neighbour, section, x, y - 1, z);
+                portals[direction.getIndex()] = below == null ? null : below.up();
+            }
+            else
+            {
+                portals[direction.getIndex()] = findHorizontalPortal(section, neighbour, x, y, z, direction);
+            }
+        }
+        return portals;
+    }
+
+    /**
+     * Find the crossing closest to the middle of a side face of a section.
+     *
+     * @param section   the section.
+     * @param neighbour the neighbouring section behind the face.
+     * @param x         the section x.
+     * @param y         the section y.
+     * @param z         the section z.
+     * @param direction the horizontal direction of the face.
+     * @return the position in the section to cross from or null if there is none.
+     */
+    @Nullable
+    private static BlockPos findHorizontalPortal(
+      @NotNull final Section section,
+      @NotNull final Section neighbour,
+      final int x,
+      final int y,
+      final int z,
+      @NotNull final Direction direction)
+    {
+        final Direction opposite = direction.getOpposite();
+        int bestAlong = -1;
+        int bestY = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int along = 0; along < SECTION_SIZE; along++)
+        {
+            for (int localY = 0; localY < SECTION_SIZE; localY++)
+            {
+                final int index = (localY << 4) | along;
+                if (!section.isStandable(direction, index))
+                {
+                    continue;
+                }
+
+                // Straight across, or one step up or down on the other side.
+                if (neighbour.isStandable(opposite, index)
+                      || (localY < SECTION_SIZE - 1 && neighbour.isStandable(opposite, index + SECTION_SIZE))
+                      || (localY > 0 && neighbour.isStandable(opposite, index - SECTION_SIZE)))
+                {
+                    final int distance = (along - SECTION_SIZE / 2) * (along - SECTION_SIZE / 2) + (localY - SECTION_SIZE / 2) * (localY - SECTION_SIZE / 2);
+                    if (distance < bestDistance)
+                    {
+                        bestAlong = along;
+                        bestY = localY;
+                        bestDistance = distance;
+                    }
+                }
+            }
+        }
+
+        if (bestDistance == Integer.MAX_VALUE)
+        {
+            return null;
+        }
+
+        final int faceX = direction.getXOffset() > 0 ? (x << 4) + SECTION_SIZE - 1 : x << 4;
+        final int faceZ = direction.getZOffset() > 0 ? (z << 4) + SECTION_SIZE - 1 : z << 4;
+        return direction.getXOffset() != 0
+                 ? new BlockPos(faceX, (y << 4) + bestY, (z << 4) + bestAlong)
+                 : new BlockPos((x << 4) + bestAlong, (y << 4) + bestY, faceZ);
+    }
+
+    /**
+     * Find a crossing from the top layer of a section into the section above, by climbing, swimming or stepping up.
+     *
+     * @param lower the lower section.
+     * @param upper the section above.
+     * @param x     the lower section x.
+     * @param y     the lower section y.
+     * @param z     the lower section z.
+     * @return the position in the top layer of the lower section or null if there is none.
+     */
+    @Nullable
+    private static BlockPos findVerticalPortal(@NotNull final Section lower, @NotNull final Section upper, final int x, final int y, final int z)
+    {
+        for (int localX = 0; localX < SECTION_SIZE; localX++)
+        {
+            for (int localZ = 0; localZ < SECTION_SIZE; localZ++)
+            {
+                final int index = (localZ << 4) | localX;
+                if (lower.isUnknown(Direction.UP, index) && upper.isUnknown(Direction.DOWN, index))
+                {
+                    // Ladders, fluids and similar, the block search decides.
+                    return new BlockPos((x << 4) + localX, (y << 4) + SECTION_SIZE - 1, (z << 4) + localZ);
+                }
+
+                if (!lower.isStandable(Direction.UP, index))
+                {
+                    continue;
+                }
+
+                for (final Direction direction : Direction.Plane.HORIZONTAL)
+                {
+                    final int stepX = localX + direction.getXOffset();
+                    final int stepZ = localZ + direction.getZOffset();
+                    if (stepX >= 0 && stepX < SECTION_SIZE && stepZ >= 0 && stepZ < SECTION_SIZE && upper.isStandable(Direction.DOWN, (stepZ << 4) | stepX))
+                    {
+                        return new BlockPos((x << 4) + localX, (y << 4) + SECTION_SIZE - 1, (z << 4) + localZ);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Build the corridor of sections around a planned route.
+     *
+     * @param goal the goal node of the plan.
+     * @return the sorted section keys without duplicates.
+     */
+    private static long[] buildCorridor(@NotNull final PlanNode goal)
+    {
+        int length = 0;
+        for (PlanNode node = goal; node != null; node = node.parent)
+        {
+            length++;
+        }
+
+        final long[] keys = new long[length * 27];
+        int index = 0;
+        for (PlanNode node = goal; node != null; node = node.parent)
+        {
+            for (int dx = -1; dx <= 1; dx++)
+            {
+                for (int dy = -1; dy <= 1; dy++)
+                {
+                    for (int dz = -1; dz <= 1; dz++)
+                    {
+                        keys[index++] = SectionPos.asLong(node.x + dx, node.y + dy, node.z + dz);
+                    }
+                }
+            }
+        }
+
+        Arrays.sort(keys);
+        int size = 0;
+        for (final long key : keys)
+        {
+            if (size == 0 || keys[size - 1] != key)
+            {
+                keys[size++] = key;
+            }
+        }
+        return Arrays.copyOf(keys, size);
+    }
+
+    private static double distance(@NotNull final BlockPos from, @NotNull final BlockPos to)
+    {
+        return Math.sqrt(from.distanceSq(to));
+    }
+
+    /**
+     * Node of the section level search.
+     */
+    private static final class PlanNode
+    {
+        private final int      x;
+        private final int      y;
+        private final int      z;
+        private final long     key;
+        private final BlockPos entry;
+        @Nullable
+        private final PlanNode parent;
+        private final double   cost;
+        private final double   score;
+        private       boolean  closed;
+
+        private PlanNode(final int x, final int y, final int z, final BlockPos entry, @Nullable final PlanNode parent, final double cost, final double score)
+        {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.key = SectionPos.asLong(x, y, z);
+            this.entry = entry;
+            this.parent = parent;
+            this.cost = cost;
+            this.score = score;
+        }
+    }
+}
@@ -5,20 +5,27 @@ import com.minecolonies.api.MinecoloniesAPIProxy;
 import com.minecolonies.api.blocks.AbstractBlockBarrel;
 import com.minecolonies.api.blocks.decorative.AbstractBlockMinecoloniesConstructionTape;
 import com.minecolonies.api.blocks.huts.AbstractBlockMinecoloniesDefault;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.entity.pathfinding.PathResult;
 import com.minecolonies.api.entity.pathfinding.PathingOptions;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.Log;
-import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.blocks.BlockDecorationController;
 import com.minecolonies.coremod.entity.pathfinding.ChunkCache;
 import com.minecolonies.coremod.entity.pathfinding.Node;
+import com.minecolonies.coremod.entity.pathfinding.NodeHeap;
+import com.minecolonies.coremod.entity.pathfinding.NodeTable;
+import com.minecolonies.coremod.entity.pathfinding.PassabilitySnapshot;
+import com.minecolonies.coremod.entity.pathfinding.PathJobPriority;
+import com.minecolonies.coremod.entity.pathfinding.PassabilitySnapshot.Passability;
 import com.minecolonies.coremod.entity.pathfinding.PathPointExtended;
 import com.minecolonies.coremod.util.WorkerUtil;
 import net.minecraft.block.*;
 import net.minecraft.block.material.Material;
 import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.MobEntity;
 import net.minecraft.fluid.Fluid;
 import net.minecraft.fluid.FluidState;
 import net.minecraft.fluid.Fluids;
@@ -26,10 +33,12 @@ import net.minecraft.pathfinding.Path;
 import net.minecraft.pathfinding.PathPoint;
 import net.minecraft.state.properties.BlockStateProperties;
 import net.minecraft.state.properties.Half;
+import net.minecraft.util.RegistryKey;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.SectionPos;
 import net.minecraft.util.math.shapes.VoxelShape;
 import net.minecraft.world.IWorldReader;
 import net.minecraft.world.World;
@@ -66,6 +75,34 @@ public abstract class AbstractPathJob implements Callable<Path>
     @NotNull
     protected final IWorldReader world;
 
+    /**
+     * Id of the colony the job starts in, 0 if none.
+     */
+    private final int colonyId;
+
+    /**
+     * The dimension of the job.
+     */
+    @Nullable
+    private final RegistryKey<World> dimension;
+
+    /**
+     * Passability snapshot of the colony the job starts in, null if there is none.
+     */
+    @Nullable
+    private final PassabilitySnapshot colonySnapshot;
+
+    /**
+     * Version of the colony snapshot when the job got created.
+     */
+    private final long colonySnapshotVersion;
+
+    /**
+     * Reader over the passability snapshot of the colony, null if there is none.
+     */
+    @Nullable
+    private final PassabilitySnapshot.Reader passabilitySnapshot;
+
     /**
      * The result of the path calculation.
      */
@@ -77,14 +114,40 @@ public abstract class AbstractPathJob implements Callable<Path>
     protected final int maxRange;
 
     /**
-     * Queue of all open nodes.
+     * Open node heaps, pooled per pathfinding worker thread.
+     */
+    private static final ThreadLocal<NodeHeap> OPEN_NODE_POOL = ThreadLocal.withInitial(NodeHeap::new);
+
+    /**
+     * Visited node tables, pooled per pathfinding worker thread.
+     */
+    private static final ThreadLocal<NodeTable> VISITED_NODE_POOL = ThreadLocal.withInitial(NodeTable::new);
+
+    /**
+     * Queue of all open nodes, borrowed from the thread pool for the duration of the search.
      */
-    private final Queue<Node> nodesOpen = new PriorityQueue<>(500);
+    private NodeHeap nodesOpen;
 
     /**
-     * Queue of all the visited nodes.
+     * Table of all the visited nodes, borrowed from the thread pool for the duration of the search.
      */
-    private final Map<Integer, Node> nodesVisited = new HashMap<>();
+    private NodeTable nodesVisited;
+
+    /**
+     * Min distance between start and destination to plan the path over the section graph first.
+     */
+    private static final int HIERARCHICAL_MIN_DISTANCE = 64;
+
+    /**
+     * Sorted keys of the sections the search is restricted to, null if unrestricted.
+     */
+    @Nullable
+    private long[] corridor;
+
+    /**
+     * Whether the last search reached the destination.
+     */
+    private boolean reachedDestination = false;
 
     //  Debug Rendering
     protected        boolean            debugDrawEnabled     = false;
@@ -154,7 +217,14 @@ public abstract class AbstractPathJob implements Callable<Path>
         final int maxX = Math.max(start.getX(), end.getX()) + (range / 2);
         final int maxZ = Math.max(start.getZ(), end.getZ()) + (range / 2);
 
-        this.world = new ChunkCache(world, new BlockPos(minX, MIN_Y, minZ), new BlockPos(maxX, MAX_Y, maxZ), range);
+        final ChunkCache cache = new ChunkCache(world, new BlockPos(minX, MIN_Y, minZ), new BlockPos(maxX, MAX_Y, maxZ), range);
+        this.world = cache;
+        final IColony colony = findColony(world, start);
+        this.colonyId = colony == null ? 0 : colony.getID();
+        this.dimension = world == null ? null : world.getDimensionKey();
+        this.colonySnapshot = getColonySnapshot(colony);
+        this.colonySnapshotVersion = colonySnapshot == null ? 0 : colonySnapshot.getVersion();
+        this.passabilitySnapshot = colonySnapshot == null ? null : colonySnapshot.createReader(cache);
 
         this.start = new BlockPos(start);
         this.maxRange = range;
@@ -163,7 +233,7 @@ public abstract class AbstractPathJob implements Callable<Path>
         result.setJob(this);
         allowJumpPointSearchTypeWalk = false;
 
-        if (MineColonies.getConfig().getClient().pathfindingDebugDraw.get()) // this is automatically false when on server
+        if (MinecoloniesAPIProxy.getInstance().getConfig().getClient().pathfindingDebugDraw.get()) // this is automatically false when on server
         {
             debugDrawEnabled = true;
             debugNodesVisited = new HashSet<>();
@@ -195,7 +265,14 @@ public abstract class AbstractPathJob implements Callable<Path>
 
         final int range = (int) Math.sqrt(Math.pow(maxX - minX, 2) + Math.pow(maxZ - minZ, 2)) * 2;
 
-        this.world = new ChunkCache(world, new BlockPos(minX, MIN_Y, minZ), new BlockPos(maxX, MAX_Y, maxZ), range);
+        final ChunkCache cache = new ChunkCache(world, new BlockPos(minX, MIN_Y, minZ), new BlockPos(maxX, MAX_Y, maxZ), range);
+        this.world = cache;
+        final IColony colony = findColony(world, startRestriction);
+        this.colonyId = colony == null ? 0 : colony.getID();
+        this.dimension = world == null ? null : world.getDimensionKey();
+        this.colonySnapshot = getColonySnapshot(colony);
+        this.colonySnapshotVersion = colonySnapshot == null ? 0 : colonySnapshot.getVersion();
+        this.passabilitySnapshot = colonySnapshot == null ? null : colonySnapshot.createReader(cache);
 
         this.start = startRestriction;
         this.maxRange = range;
@@ -214,6 +291,52 @@ public abstract class AbstractPathJob implements Callable<Path>
         this.entity = new WeakReference<>(entity);
     }
 
+    /**
+     * Get the passability snapshot of the colony at the given position.
+     *
+     * @param world the world.
+     * @param pos   the position to look up the colony at.
+     * @return the snapshot or null if not in a colony.
+     */
+    @Nullable
+    public static PassabilitySnapshot getColonySnapshot(final World world, @NotNull final BlockPos pos)
+    {
+        return getColonySnapshot(findColony(world, pos));
+    }
+
+    /**
+     * Get the passability snapshot of the given colony.
+     *
+     * @param colony the colony or null.
+     * @return the snapshot or null.
+     */
+    @Nullable
+    private static PassabilitySnapshot getColonySnapshot(@Nullable final IColony colony)
+    {
+        if (colony != null && colony.getPassabilitySnapshot() instanceof PassabilitySnapshot)
+        {
+            return (PassabilitySnapshot) colony.getPassabilitySnapshot();
+        }
+        return null;
+    }
+
+    /**
+     * Find the colony at the given position on the server side.
+     *
+     * @param world the world.
+     * @param pos   the position.
+     * @return the colony or null.
+     */
+    @Nullable
+    private static IColony findColony(final World world, @NotNull final BlockPos pos)
+    {
+        if (world == null || world.isRemote)
+        {
+            return null;
+        }
+        return IColonyManager.getInstance().getColonyByPosFromWorld(world, pos);
+    }
+
     private static boolean onLadderGoingUp(@NotNull final Node currentNode, @NotNull final BlockPos dPos)
     {
         return currentNode.isLadder() && (dPos.getY() >= 0 || dPos.getX() != 0 || dPos.getZ() != 0);
@@ -348,17 +471,14 @@ public abstract class AbstractPathJob implements Callable<Path>
     }
 
     /**
-     * Generate a pseudo-unique key for identifying a given node by it's coordinates Encodes the lowest 12 bits of x,z and all useful bits of y. This creates unique keys for all
-     * blocks within a 4096x256x4096 cube, which is FAR bigger volume than one should attempt to pathfind within This version takes a BlockPos
+     * Generate a unique key for identifying a given node by it's coordinates, this is the packed long form of the BlockPos.
      *
      * @param pos BlockPos to generate key from
      * @return key for node in map
      */
-    private static int computeNodeKey(@NotNull final BlockPos pos)
+    private static long computeNodeKey(@NotNull final BlockPos pos)
     {
-        return ((pos.getX() & 0xFFF) << SHIFT_X_BY)
-                 | ((pos.getY() & 0xFF) << SHIFT_Y_BY)
-                 | (pos.getZ() & 0xFFF);
+        return pos.toLong();
     }
 
     /**
@@ -467,6 +587,85 @@ public abstract class AbstractPathJob implements Callable<Path>
         return result;
     }
 
+    /**
+     * Get the start position of the job.
+     *
+     * @return the start.
+     */
+    @NotNull
+    public BlockPos getStart()
+    {
+        return start;
+    }
+
+    /**
+     * Get the id of the colony the job started in.
+     *
+     * @return the id or 0 if none.
+     */
+    public int getColonyId()
+    {
+        return colonyId;
+    }
+
+    /**
+     * Get the dimension of the job.
+     *
+     * @return the dimension key.
+     */
+    @Nullable
+    public RegistryKey<World> getDimension()
+    {
+        return dimension;
+    }
+
+    /**
+     * Get the entity this job is calculated for.
+     *
+     * @return the entity or null if none or already gone.
+     */
+    @Nullable
+    public LivingEntity getEntity()
+    {
+        return entity.get();
+    }
+
+    /**
+     * Get the scheduling priority of this job, entities with an attack target are fighting.
+     *
+     * @return the priority class.
+     */
+    public PathJobPriority getPriority()
+    {
+        final LivingEntity livingEntity = entity.get();
+        if (livingEntity instanceof MobEntity && ((MobEntity) livingEntity).getAttackTarget() != null)
+        {
+            return PathJobPriority.COMBAT;
+        }
+        return PathJobPriority.WORK;
+    }
+
+    /**
+     * Get the passability snapshot of the colony the job started in.
+     *
+     * @return the snapshot or null if there is none.
+     */
+    @Nullable
+    public PassabilitySnapshot getColonySnapshot()
+    {
+        return colonySnapshot;
+    }
+
+    /**
+     * Get the version of the colony snapshot when the job got created, the job only saw block changes up to this version.
+     *
+     * @return the version.
+     */
+    public long getColonySnapshotVersion()
+    {
+        return colonySnapshotVersion;
+    }
+
     /**
      * Callable method for initiating asynchronous task.
      *
@@ -495,6 +694,72 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     @Nullable
     protected Path search()
+    {
+        nodesOpen = OPEN_NODE_POOL.get();
+        nodesVisited = VISITED_NODE_POOL.get();
+        nodesOpen.clear();
+        nodesVisited.clear();
+
+        try
+        {
+            final Path planned = searchHierarchical();
+            if (planned != null)
+            {
+                return planned;
+            }
+            return searchNodes();
+        }
+        finally
+        {
+            corridor = null;
+            nodesOpen.clear();
+            nodesVisited.clear();
+            nodesOpen = null;
+            nodesVisited = null;
+        }
+    }
+
+    /**
+     * Plan long paths over the section graph of the colony snapshot first and search the blocks only inside of the sections along the plan.
+     *
+     * @return the path if it reaches the destination or used up the node budget, null to fall back to the unrestricted search.
+     */
+    @Nullable
+    private Path searchHierarchical()
+    {
+        final BlockPos target = getHierarchicalTarget();
+        if (target == null || passabilitySnapshot == null || BlockPosUtil.getDistance2D(start, target) < HIERARCHICAL_MIN_DISTANCE)
+        {
+            return null;
+        }
+
+        corridor = colonySnapshot.getSectionGraph().planCorridor(passabilitySnapshot, start, target);
+        if (corridor == null)
+        {
+            return null;
+        }
+
+        final Path path = searchNodes();
+        corridor = null;
+        if (reachedDestination || !nodesOpen.isEmpty())
+        {
+            // Either done or out of node budget, an unrestricted search would not get further with what is left.
+            return path;
+        }
+
+        // The corridor is blocked on block level, start over without it. The node counters are kept, so the fallback only gets the remaining node budget.
+        nodesOpen.clear();
+        nodesVisited.clear();
+        return null;
+    }
+
+    /**
+     * Run the A* loop over the pooled node structures.
+     *
+     * @return Path of a path to the given location, a best-effort, or null.
+     */
+    @Nullable
+    private Path searchNodes()
     {
         Node bestNode = getAndSetupStartNode();
 
@@ -512,7 +777,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             totalNodesVisited++;
 
             // Limiting max amount of nodes mapped
-            if (totalNodesVisited > MineColonies.getConfig().getServer().pathfindingMaxNodes.get() || totalNodesVisited > maxRange * maxRange)
+            if (totalNodesVisited > MinecoloniesAPIProxy.getInstance().getConfig().getServer().pathfindingMaxNodes.get() || totalNodesVisited > maxRange * maxRange)
             {
                 break;
             }
@@ -524,6 +789,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             if (isAtDestination(currentNode))
             {
                 bestNode = currentNode;
+                reachedDestination = true;
                 result.setPathReachesDestination(true);
                 break;
             }
@@ -532,7 +798,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             final double nodeResultScore =
               getNodeResultScore(currentNode);
             if (nodeResultScore < bestNodeResultScore && !currentNode.isCornerNode()
-                  && isWalkableSurface(world.getBlockState(currentNode.pos.down()), currentNode.pos.down()) == SurfaceType.WALKABLE)
+                  && getSurfaceType(currentNode.pos.down()) == SurfaceType.WALKABLE)
             {
                 bestNode = currentNode;
                 bestNodeResultScore = nodeResultScore;
@@ -558,7 +824,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             addNodeToDebug(currentNode);
         }
 
-        if (MineColonies.getConfig().getServer().pathfindingDebugVerbosity.get() == DEBUG_VERBOSITY_FULL)
+        if (MinecoloniesAPIProxy.getInstance().getConfig().getServer().pathfindingDebugVerbosity.get() == DEBUG_VERBOSITY_FULL)
         {
             Log.getLogger().info(String.format("Examining node [%d,%d,%d] ; g=%f ; f=%f",
               currentNode.pos.getX(), currentNode.pos.getY(), currentNode.pos.getZ(), currentNode.getCost(), currentNode.getScore()));
@@ -726,7 +992,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             }
 
             @NotNull final PathPointExtended p = new PathPointExtended(pos);
-            if (railsLength >= MineColonies.getConfig().getServer().minimumRailsToPath.get())
+            if (railsLength >= MinecoloniesAPIProxy.getInstance().getConfig().getServer().minimumRailsToPath.get())
             {
                 p.setOnRails(node.isOnRails());
                 if (p.isOnRails() && (!node.parent.isOnRails() || node.parent.parent == null))
@@ -788,7 +1054,7 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     private void doDebugPrinting(@NotNull final PathPoint[] points)
     {
-        if (MineColonies.getConfig().getServer().pathfindingDebugVerbosity.get() > DEBUG_VERBOSITY_NONE)
+        if (MinecoloniesAPIProxy.getInstance().getConfig().getServer().pathfindingDebugVerbosity.get() > DEBUG_VERBOSITY_NONE)
         {
             Log.getLogger().info("Path found:");
 
@@ -830,6 +1096,17 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     protected abstract double getNodeResultScore(Node n);
 
+    /**
+     * Get the fixed destination of the job, long paths to it are planned over the section graph of the colony first.
+     *
+     * @return the destination or null if the job has no fixed destination.
+     */
+    @Nullable
+    protected BlockPos getHierarchicalTarget()
+    {
+        return null;
+    }
+
     /**
      * "Walk" from the parent in the direction specified by the delta, determining the new x,y,z position for such a move and adding or updating a node, as appropriate.
      *
@@ -875,7 +1152,12 @@ public abstract class AbstractPathJob implements Callable<Path>
             }
         }
 
-        int nodeKey = computeNodeKey(pos);
+        if (corridor != null && Arrays.binarySearch(corridor, SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4)) < 0)
+        {
+            return false;
+        }
+
+        final long nodeKey = computeNodeKey(pos);
         Node node = nodesVisited.get(nodeKey);
         if (nodeClosed(node))
         {
@@ -905,14 +1187,13 @@ public abstract class AbstractPathJob implements Callable<Path>
             node = createNode(parent, pos, nodeKey, isSwimming, heuristic, cost, score);
             node.setOnRails(onRails);
             node.setCornerNode(corner);
+            nodesOpen.offer(node);
         }
         else if (updateCurrentNode(parent, node, heuristic, cost, score))
         {
             return false;
         }
 
-        nodesOpen.offer(node);
-
         //  Jump Point Search-ish optimization:
         // If this node was a (heuristic-based) improvement on our parent,
         // lets go another step in the same direction...
@@ -931,7 +1212,7 @@ public abstract class AbstractPathJob implements Callable<Path>
 
     @NotNull
     private Node createNode(
-      final Node parent, @NotNull final BlockPos pos, final int nodeKey,
+      final Node parent, @NotNull final BlockPos pos, final long nodeKey,
       final boolean isSwimming, final double heuristic, final double cost, final double score)
     {
         final Node node;
@@ -964,7 +1245,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             return true;
         }
 
-        if (!nodesOpen.remove(node))
+        if (!nodesOpen.contains(node))
         {
             return true;
         }
@@ -974,6 +1255,7 @@ public abstract class AbstractPathJob implements Callable<Path>
         node.setCost(cost);
         node.setHeuristic(heuristic);
         node.setScore(score);
+        nodesOpen.decreaseKey(node);
         return false;
     }
 
@@ -1000,6 +1282,12 @@ public abstract class AbstractPathJob implements Callable<Path>
             return handleTargetNotPassable(parent, pos, target);
         }
 
+        //  Standing on a plain solid block with nothing in the target space
+        if (getPassability(pos.down()) == Passability.SOLID && getPassability(pos) == Passability.OPEN)
+        {
+            return pos.getY();
+        }
+
         //  Do we have something to stand on in the target space?
         final BlockState below = world.getBlockState(pos.down());
         final SurfaceType walkability = isWalkableSurface(below, pos);
@@ -1038,13 +1326,18 @@ public abstract class AbstractPathJob implements Callable<Path>
         final boolean canDrop = parent != null && !parent.isLadder();
         //  Nothing to stand on
         if (!canDrop || isSwimming || ((parent.pos.getX() != pos.getX() || parent.pos.getZ() != pos.getZ()) && isPassable(parent.pos.down(), false)
-                                         && isWalkableSurface(world.getBlockState(parent.pos.down()), parent.pos.down()) == SurfaceType.DROPABLE))
+                                         && getSurfaceType(parent.pos.down()) == SurfaceType.DROPABLE))
         {
             return -1;
         }
 
         for (int i = 2; i <= 10; i++)
         {
+            if (getPassability(pos.down(i)) == Passability.OPEN)
+            {
+                continue;
+            }
+
             final BlockState below = world.getBlockState(pos.down(i));
             if (isWalkableSurface(below, pos) == SurfaceType.WALKABLE && i <= 3 || below.getMaterial().isLiquid())
             {
@@ -1201,6 +1494,12 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     protected boolean isPassable(@NotNull final BlockState block, final BlockPos pos)
     {
+        final Passability passability = getPassability(pos);
+        if (passability != Passability.UNKNOWN)
+        {
+            return passability == Passability.OPEN;
+        }
+
         if (block.getMaterial() != Material.AIR)
         {
             if (block.getMaterial().blocksMovement())
@@ -1234,7 +1533,18 @@ public abstract class AbstractPathJob implements Callable<Path>
 
     protected boolean isPassable(final BlockPos pos, final boolean head)
     {
+        final Passability passability = getPassability(pos);
+        if (passability == Passability.OPEN)
+        {
+            return true;
+        }
+
         final BlockState state = world.getBlockState(pos);
+        if (passability == Passability.SOLID)
+        {
+            return isPassable(state, pos);
+        }
+
         final VoxelShape shape = state.getCollisionShape(world, pos);
         if (shape.isEmpty() || shape.getEnd(Direction.Axis.Y) <= 0.1)
         {
@@ -1245,6 +1555,38 @@ public abstract class AbstractPathJob implements Callable<Path>
         return isPassable(state, pos);
     }
 
+    /**
+     * Get the precomputed passability of a position from the colony snapshot.
+     *
+     * @param pos the position.
+     * @return the passability, UNKNOWN if there is no snapshot or the block needs the full checks.
+     */
+    protected Passability getPassability(@NotNull final BlockPos pos)
+    {
+        return passabilitySnapshot == null ? Passability.UNKNOWN : passabilitySnapshot.get(pos);
+    }
+
+    /**
+     * Is the block at the given position solid and can be stood upon, uses the colony snapshot where possible.
+     *
+     * @param pos the position.
+     * @return the surface type at that location.
+     */
+    @NotNull
+    protected SurfaceType getSurfaceType(@NotNull final BlockPos pos)
+    {
+        final Passability passability = getPassability(pos);
+        if (passability == Passability.SOLID)
+        {
+            return SurfaceType.WALKABLE;
+        }
+        else if (passability == Passability.OPEN)
+        {
+            return SurfaceType.DROPABLE;
+        }
+        return isWalkableSurface(world.getBlockState(pos), pos);
+    }
+
     /**
      * Is the block solid and can be stood upon.
      *
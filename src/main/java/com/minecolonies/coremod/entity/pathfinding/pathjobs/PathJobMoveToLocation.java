@@ -1,7 +1,7 @@
 package com.minecolonies.coremod.entity.pathfinding.pathjobs;
 
+import com.minecolonies.api.MinecoloniesAPIProxy;
 import com.minecolonies.api.util.Log;
-import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.entity.pathfinding.Node;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.pathfinding.Path;
@@ -51,7 +51,7 @@ public class PathJobMoveToLocation extends AbstractPathJob
     @Override
     protected Path search()
     {
-        if (MineColonies.getConfig().getServer().pathfindingDebugVerbosity.get() > DEBUG_VERBOSITY_NONE)
+        if (MinecoloniesAPIProxy.getInstance().getConfig().getServer().pathfindingDebugVerbosity.get() > DEBUG_VERBOSITY_NONE)
         {
             Log.getLogger().info(String.format("Pathfinding from [%d,%d,%d] to [%d,%d,%d]",
               start.getX(), start.getY(), start.getZ(), destination.getX(), destination.getY(), destination.getZ()));
@@ -66,6 +66,22 @@ public class PathJobMoveToLocation extends AbstractPathJob
         return super.search();
     }
 
+    /**
+     * Get the destination of the job.
+     *
+     * @return the destination.
+     */
+    public BlockPos getDestination()
+    {
+        return destination;
+    }
+
+    @Override
+    protected BlockPos getHierarchicalTarget()
+    {
+        return destination;
+    }
+
     @Override
     protected BlockPos getPathTargetPos(final Node finalNode)
     {
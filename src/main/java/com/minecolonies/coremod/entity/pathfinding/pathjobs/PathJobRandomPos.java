@@ -5,6 +5,7 @@ import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.entity.pathfinding.Node;
+import com.minecolonies.coremod.entity.pathfinding.PathJobPriority;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.pathfinding.Path;
 import net.minecraft.util.Direction;
@@ -105,6 +106,12 @@ public class PathJobRandomPos extends AbstractPathJob
         return super.search();
     }
 
+    @Override
+    public PathJobPriority getPriority()
+    {
+        return PathJobPriority.IDLE;
+    }
+
     @Override
     protected double computeHeuristic(@NotNull final BlockPos pos)
     {
@@ -114,7 +121,7 @@ public class PathJobRandomPos extends AbstractPathJob
     @Override
     protected boolean isAtDestination(@NotNull final Node n)
     {
-        if (start.distanceSq(n.pos) > minDistFromStart * minDistFromStart && isWalkableSurface(world.getBlockState(n.pos.down()), n.pos.down()) == SurfaceType.WALKABLE
+        if (start.distanceSq(n.pos) > minDistFromStart * minDistFromStart && getSurfaceType(n.pos.down()) == SurfaceType.WALKABLE
               && destination.distanceSq(n.pos) < this.maxDistToDest * this.maxDistToDest)
         {
             return true;
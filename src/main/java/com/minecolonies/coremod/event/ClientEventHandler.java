@@ -8,7 +8,6 @@ import com.ldtteam.structurize.Network;
 import com.ldtteam.structurize.management.StructureName;
 import com.ldtteam.structurize.management.Structures;
 import com.ldtteam.structurize.network.messages.SchematicRequestMessage;
-import com.ldtteam.structurize.placement.structure.IStructureHandler;
 import com.ldtteam.structurize.util.PlacementSettings;
 import com.ldtteam.structurize.util.RenderUtils;
 import com.minecolonies.api.MinecoloniesAPIProxy;
@@ -27,6 +26,7 @@ import com.minecolonies.coremod.colony.buildings.views.EmptyView;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.PostBox;
 import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
 import com.minecolonies.coremod.items.ItemBannerRallyGuards;
+import com.minecolonies.coremod.util.BlueprintCache;
 import com.mojang.blaze3d.vertex.IVertexBuilder;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.*;
@@ -34,7 +34,6 @@ import net.minecraft.client.world.ClientWorld;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
-import net.minecraft.util.Mirror;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
@@ -207,10 +206,10 @@ public class ClientEventHandler
                                         buildingView.getSchematicName() + buildingView.getBuildingMaxLevel());
 
                         final String structureName = sn.toString();
-                        final String md5 = Structures.getMD5(structureName);
 
-                        final IStructureHandler wrapper = new LoadOnlyStructureHandler(world, buildingView.getID(), structureName, new PlacementSettings(), true);
-                        if (!wrapper.hasBluePrint() || !wrapper.isCorrectMD5(md5))
+                        final BlueprintCache.TransformedBlueprint blueprint =
+                          BlueprintCache.get(world, structureName, buildingView.getRotation(), buildingView.isMirrored());
+                        if (blueprint == null || !blueprint.isCorrectMD5())
                         {
                             Log.getLogger().debug("Blueprint error, requesting" + structureName + " from server.");
                             if (ServerLifecycleHooks.getCurrentServer() == null)
@@ -220,23 +219,14 @@ public class ClientEventHandler
                             }
                         }
 
-                        final Blueprint blueprint = wrapper.getBluePrint();
-
                         if (blueprint != null)
                         {
-                            final Mirror mirror = buildingView.isMirrored() ? Mirror.FRONT_BACK : Mirror.NONE;
-                            blueprint.rotateWithMirror(BlockPosUtil.getRotationFromRotations(buildingView.getRotation()),
-                                    mirror,
-                                    world);
-
-                            final BlockPos primaryOffset = blueprint.getPrimaryBlockOffset();
-                            final BlockPos pos = currentPosition.subtract(primaryOffset);
-                            final BlockPos size = new BlockPos(blueprint.getSizeX(), blueprint.getSizeY(), blueprint.getSizeZ());
-                            final BlockPos renderSize = pos.add(size).subtract(new BlockPos(1, 1, 1));
+                            final BlockPos pos = currentPosition.subtract(blueprint.getPrimaryBlockOffset());
+                            final BlockPos renderSize = pos.add(blueprint.getSize()).subtract(new BlockPos(1, 1, 1));
 
                             if (buildingView.getBuildingLevel() < buildingView.getBuildingMaxLevel())
                             {
-                                newCache.put(currentPosition, new Triple<>(blueprint, pos, renderSize));
+                                newCache.put(currentPosition, new Triple<>(blueprint.getBlueprint(), pos, renderSize));
                             }
                             else
                             {
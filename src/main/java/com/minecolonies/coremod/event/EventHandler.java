@@ -30,8 +30,7 @@ import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesWorldColon
 import com.minecolonies.coremod.items.ItemBannerRallyGuards;
 import com.minecolonies.coremod.loot.SupplyLoot;
 import com.minecolonies.coremod.network.messages.client.OpenSuggestionWindowMessage;
-import com.minecolonies.coremod.network.messages.client.UpdateChunkCapabilityMessage;
-import com.minecolonies.coremod.network.messages.client.UpdateChunkRangeCapabilityMessage;
+import com.minecolonies.coremod.util.ChunkCapSyncHelper;
 import com.minecolonies.coremod.util.ChunkClientDataHelper;
 import com.minecolonies.coremod.util.ChunkDataHelper;
 import net.minecraft.block.*;
@@ -46,6 +45,7 @@ import net.minecraft.entity.monster.IMob;
 import net.minecraft.entity.passive.horse.LlamaEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.inventory.container.ChestContainer;
 import net.minecraft.item.BlockItem;
 import net.minecraft.item.ItemStack;
 import net.minecraft.state.properties.BedPart;
@@ -54,12 +54,14 @@ import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorld;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import net.minecraftforge.client.event.RenderGameOverlayEvent;
+import net.minecraftforge.common.util.BlockSnapshot;
 import net.minecraftforge.event.AttachCapabilitiesEvent;
 import net.minecraftforge.event.LootTableLoadEvent;
 import net.minecraftforge.event.RegisterCommandsEvent;
@@ -67,10 +69,12 @@ import net.minecraftforge.event.entity.EntityEvent;
 import net.minecraftforge.event.entity.EntityJoinWorldEvent;
 import net.minecraftforge.event.entity.EntityTravelToDimensionEvent;
 import net.minecraftforge.event.entity.living.LivingSpawnEvent;
+import net.minecraftforge.event.entity.player.PlayerContainerEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.world.BlockEvent;
 import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.PistonEvent;
 import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.eventbus.api.Event;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
@@ -95,6 +99,16 @@ import static net.minecraftforge.eventbus.api.EventPriority.LOWEST;
  */
 public class EventHandler
 {
+    /**
+     * Max amount of blocks a piston moves.
+     */
+    private static final int PISTON_PUSH_LIMIT = 12;
+
+    /**
+     * Max distance of a chest a player can have open.
+     */
+    private static final int CHEST_REACH = 8;
+
     /**
      * Adds our custom loot tables to vanilla tables.
      *
@@ -206,6 +220,13 @@ public class EventHandler
         if (event.getWorld() instanceof ServerWorld)
         {
             ChunkDataHelper.loadChunk((Chunk) event.getChunk(), (ServerWorld) event.getWorld());
+
+            // The client only holds claim data of chunks which were loaded when they entered its window.
+            final IColonyTagCapability cap = event.getChunk() instanceof Chunk ? ((Chunk) event.getChunk()).getCapability(CLOSE_COLONY_CAP, null).resolve().orElse(null) : null;
+            if (cap != null && !cap.getAllCloseColonies().isEmpty())
+            {
+                ChunkCapSyncHelper.queueUpdate((Chunk) event.getChunk());
+            }
         }
         else if (event.getWorld() instanceof ClientWorld)
         {
@@ -311,18 +332,13 @@ public class EventHandler
             final Chunk newChunk = world.getChunk(event.getNewChunkX(), event.getNewChunkZ());
             ChunkDataHelper.loadChunk(newChunk, entity.world);
 
-            Network.getNetwork()
-              .sendToPlayer(new UpdateChunkRangeCapabilityMessage(world,
-                event.getNewChunkX(),
-                event.getNewChunkZ(),
-                8, true), (ServerPlayerEntity) event.getEntity());
+            ChunkCapSyncHelper.onPlayerEnterChunk((ServerPlayerEntity) entity, event.getNewChunkX(), event.getNewChunkZ());
 
             final IColonyTagCapability newCloseColonies = newChunk.getCapability(CLOSE_COLONY_CAP, null).resolve().orElse(null);
             if (newCloseColonies == null)
             {
                 return;
             }
-            Network.getNetwork().sendToPlayer(new UpdateChunkCapabilityMessage(newCloseColonies, newChunk.getPos().x, newChunk.getPos().z), (ServerPlayerEntity) entity);
             @NotNull final ServerPlayerEntity player = (ServerPlayerEntity) entity;
             final Chunk oldChunk = world.getChunk(event.getOldChunkX(), event.getOldChunkZ());
             final IColonyTagCapability oldCloseColonies = oldChunk.getCapability(CLOSE_COLONY_CAP, null).resolve().orElse(null);
@@ -473,6 +489,7 @@ public class EventHandler
         if (event.getEntity() instanceof ServerPlayerEntity)
         {
             final ServerPlayerEntity player = (ServerPlayerEntity) event.getEntity();
+            ChunkCapSyncHelper.onPlayerLeave(player);
             for (final IColony colony : IColonyManager.getInstance().getAllColonies())
             {
                 colony.getPackageManager().removeCloseSubscriber(player);
@@ -547,6 +564,112 @@ public class EventHandler
         }
     }
 
+    /**
+     * Event called when a block changed and notifies its neighbours, used to invalidate the pathfinding passability snapshot.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onBlockNeighborNotify(@NotNull final BlockEvent.NeighborNotifyEvent event)
+    {
+        invalidatePassability(event.getWorld(), event.getPos());
+    }
+
+    /**
+     * Event called after an entity placed one or more blocks, placements don't always notify the neighbours.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onBlockPlaced(@NotNull final BlockEvent.EntityPlaceEvent event)
+    {
+        if (event instanceof BlockEvent.EntityMultiPlaceEvent)
+        {
+            for (final BlockSnapshot snapshot : ((BlockEvent.EntityMultiPlaceEvent) event).getReplacedBlockSnapshots())
+            {
+                invalidatePassability(event.getWorld(), snapshot.getPos());
+            }
+        }
+        invalidatePassability(event.getWorld(), event.getPos());
+    }
+
+    /**
+     * Event called after a crop or other plant grew, growth only updates the clients.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onCropGrown(@NotNull final BlockEvent.CropGrowEvent.Post event)
+    {
+        invalidatePassability(event.getWorld(), event.getPos());
+    }
+
+    /**
+     * Event called after a piston extended or retracted, invalidates the line of blocks it can move.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onPistonMoved(@NotNull final PistonEvent.Post event)
+    {
+        for (int i = 0; i <= PISTON_PUSH_LIMIT + 1; i++)
+        {
+            invalidatePassability(event.getWorld(), event.getPos().offset(event.getDirection(), i));
+        }
+    }
+
+    /**
+     * Event called when a player closes a container, marks the building containers in reach as changed if it was a chest.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onContainerClosed(@NotNull final PlayerContainerEvent.Close event)
+    {
+        final PlayerEntity player = event.getPlayer();
+        if (!(event.getContainer() instanceof ChestContainer) || player.world.isRemote)
+        {
+            return;
+        }
+
+        final IColony colony = IColonyManager.getInstance().getColonyByPosFromWorld(player.world, player.getPosition());
+        if (colony == null)
+        {
+            return;
+        }
+
+        for (final IBuilding building : colony.getBuildingManager().getBuildings().values())
+        {
+            for (final BlockPos pos : building.getContainers())
+            {
+                if (pos.withinDistance(player.getPosition(), CHEST_REACH))
+                {
+                    building.onContainerContentChanged(pos);
+                }
+            }
+        }
+    }
+
+    /**
+     * Invalidate the passability snapshot of the colony at a changed position.
+     *
+     * @param world the world of the change.
+     * @param pos   the changed position.
+     */
+    private static void invalidatePassability(final IWorld world, final BlockPos pos)
+    {
+        if (!(world instanceof ServerWorld))
+        {
+            return;
+        }
+
+        final IColony colony = IColonyManager.getInstance().getColonyByPosFromWorld((World) world, pos);
+        if (colony != null && colony.getPassabilitySnapshot() != null)
+        {
+            colony.getPassabilitySnapshot().invalidate(pos);
+        }
+    }
+
     /**
      * Event when a player right clicks a block, or right clicks with an item. Event gets cancelled when player has no permission. Event gets cancelled when the player has no
      * permission to place a hut, and tried it.
@@ -800,6 +923,7 @@ public class EventHandler
         if (event.getWorld().isRemote())
         {
             IColonyManager.getInstance().resetColonyViews();
+            ChunkClientDataHelper.clear();
             ItemBlockHut.checkResearch(null);
             Log.getLogger().info("Removed all colony views");
         }
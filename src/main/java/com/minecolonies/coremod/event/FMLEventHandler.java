@@ -7,6 +7,9 @@ import com.minecolonies.coremod.datalistener.ResearchListener;
 import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
 import com.minecolonies.coremod.network.messages.client.ColonyStylesMessage;
 import com.minecolonies.coremod.network.messages.client.ServerUUIDMessage;
+import com.minecolonies.coremod.util.BillOfMaterials;
+import com.minecolonies.coremod.util.BlueprintCache;
+import com.minecolonies.coremod.util.ChunkCapSyncHelper;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraftforge.event.AddReloadListenerEvent;
 import net.minecraftforge.event.TickEvent;
@@ -14,6 +17,7 @@ import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.event.server.FMLServerAboutToStartEvent;
 import net.minecraftforge.fml.event.server.FMLServerStoppingEvent;
+import net.minecraftforge.fml.server.ServerLifecycleHooks;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -25,6 +29,10 @@ public class FMLEventHandler
     public static void onServerTick(final TickEvent.ServerTickEvent event)
     {
         IColonyManager.getInstance().onServerTick(event);
+        if (event.phase == TickEvent.Phase.END)
+        {
+            ChunkCapSyncHelper.sendPendingUpdates(ServerLifecycleHooks.getCurrentServer());
+        }
     }
 
     @SubscribeEvent
@@ -69,5 +77,8 @@ public class FMLEventHandler
     public static void onServerStopped(final FMLServerStoppingEvent event)
     {
         Pathfinding.shutdown();
+        ChunkCapSyncHelper.clear();
+        BlueprintCache.clear();
+        BillOfMaterials.clear();
     }
 }
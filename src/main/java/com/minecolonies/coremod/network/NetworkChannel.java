@@ -49,6 +49,7 @@ import io.netty.buffer.Unpooled;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.util.RegistryKey;
+import net.minecraft.network.NetworkManager;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.registry.Registry;
@@ -61,7 +62,10 @@ import net.minecraftforge.fml.network.PacketDistributor;
 import net.minecraftforge.fml.network.PacketDistributor.TargetPoint;
 import net.minecraftforge.fml.network.simple.SimpleChannel;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -134,7 +138,6 @@ public class NetworkChannel
         registerMessage(++idx, ColonyStylesMessage.class, ColonyStylesMessage::new);
         registerMessage(++idx, ColonyViewWorkOrderMessage.class, ColonyViewWorkOrderMessage::new);
         registerMessage(++idx, ColonyViewRemoveWorkOrderMessage.class, ColonyViewRemoveWorkOrderMessage::new);
-        registerMessage(++idx, UpdateChunkCapabilityMessage.class, UpdateChunkCapabilityMessage::new);
         registerMessage(++idx, GuardMobAttackListMessage.class, GuardMobAttackListMessage::new);
         registerMessage(++idx, BeekeeperSetHarvestHoneycombsMessage.class, BeekeeperSetHarvestHoneycombsMessage::new);
 
@@ -173,6 +176,7 @@ public class NetworkChannel
         registerMessage(++idx, CreateColonyMessage.class, CreateColonyMessage::new);
         registerMessage(++idx, ColonyDeleteOwnMessage.class, ColonyDeleteOwnMessage::new);
         registerMessage(++idx, ColonyViewRemoveMessage.class, ColonyViewRemoveMessage::new);
+        registerMessage(++idx, ColonyViewResyncMessage.class, ColonyViewResyncMessage::new);
         registerMessage(++idx, BeekeeperScepterMessage.class, BeekeeperScepterMessage::new);
 
         registerMessage(++idx, ToggleHousingMessage.class, ToggleHousingMessage::new);
@@ -300,6 +304,27 @@ public class NetworkChannel
         handleSplitting(msg, s -> rawChannel.send(PacketDistributor.PLAYER.with(() -> player), s));
     }
 
+    /**
+     * Sends to a group of players, the message is encoded only once for all of them.
+     *
+     * @param msg     message to send
+     * @param players target players
+     */
+    public void sendToPlayers(final IMessage msg, final Collection<ServerPlayerEntity> players)
+    {
+        if (players.isEmpty())
+        {
+            return;
+        }
+
+        final List<NetworkManager> connections = new ArrayList<>(players.size());
+        for (final ServerPlayerEntity player : players)
+        {
+            connections.add(player.connection.getNetworkManager());
+        }
+        handleSplitting(msg, s -> rawChannel.send(PacketDistributor.NMLIST.with(() -> connections), s));
+    }
+
     /**
      * Sends the message to the origin of a different message based on the networking context given.
      *
@@ -416,7 +441,7 @@ public class NetworkChannel
         final ByteBuf buffer = Unpooled.buffer();
         final PacketBuffer innerPacketBuffer = new PacketBuffer(buffer);
         msg.toBytes(innerPacketBuffer);
-        final byte[] data = buffer.array();
+        final byte[] data = Arrays.copyOf(buffer.array(), buffer.writerIndex());
         buffer.release();
 
         //Some tracking variables.
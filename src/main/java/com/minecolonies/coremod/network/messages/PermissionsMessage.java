@@ -110,7 +110,7 @@ public class PermissionsMessage
         {
             buf.writeInt(colonyID);
             buf.writeString(dimension.getLocation().toString());
-            buf.writeBytes(data);
+            buf.writeBytes(data, data.readerIndex(), data.readableBytes());
         }
     }
 
@@ -1,6 +1,5 @@
 package com.minecolonies.coremod.network.messages.client;
 
-import com.minecolonies.api.colony.IColonyTagCapability;
 import com.minecolonies.api.network.IMessage;
 import com.minecolonies.api.util.WorldUtil;
 import com.minecolonies.coremod.util.ChunkCapData;
@@ -9,8 +8,6 @@ import net.minecraft.client.Minecraft;
 import net.minecraft.client.world.ClientWorld;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.math.ChunkPos;
-import net.minecraft.world.World;
-import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.fml.LogicalSide;
 import net.minecraftforge.fml.network.NetworkEvent;
 import org.jetbrains.annotations.NotNull;
@@ -19,8 +16,6 @@ import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 
-import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
-
 /**
  * Update the ChunkCapability with a colony.
  */
@@ -31,6 +26,11 @@ public class UpdateChunkRangeCapabilityMessage implements IMessage
      */
     private final List<ChunkCapData> caps = new ArrayList<>();
 
+    /**
+     * If the client has to drop the claim data it holds, because the player changed dimension or just joined.
+     */
+    private boolean reset;
+
     /**
      * Empty constructor used when registering the
      */
@@ -40,38 +40,21 @@ public class UpdateChunkRangeCapabilityMessage implements IMessage
     }
 
     /**
-     * Create a message to update the chunk cap on the client side.
+     * Create a message to update the chunk caps on the client side.
      *
-     * @param world       the world.
-     * @param xC          the x pos.
-     * @param zC          the z pos.
-     * @param range       the range.
-     * @param checkLoaded are we checking for loaded?
+     * @param caps  the claim data of the chunks.
+     * @param reset true if the client has to drop the claim data it holds first.
      */
-    public UpdateChunkRangeCapabilityMessage(@NotNull final World world, final int xC, final int zC, final int range, boolean checkLoaded)
+    public UpdateChunkRangeCapabilityMessage(@NotNull final List<ChunkCapData> caps, final boolean reset)
     {
-        for (int x = -range; x <= range; x++)
-        {
-            for (int z = -range; z <= range; z++)
-            {
-                final int chunkX = xC + x;
-                final int chunkZ = zC + z;
-                if (!checkLoaded || WorldUtil.isEntityChunkLoaded(world, chunkX, chunkZ))
-                {
-                    final Chunk chunk = world.getChunk(chunkX, chunkZ);
-                    final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null).orElseGet(null);
-                    if (cap != null)
-                    {
-                        caps.add(new ChunkCapData(chunkX, chunkZ, cap.getOwningColony(), cap.getAllCloseColonies()));
-                    }
-                }
-            }
-        }
+        this.caps.addAll(caps);
+        this.reset = reset;
     }
 
     @Override
     public void fromBytes(@NotNull final PacketBuffer buf)
     {
+        reset = buf.readBoolean();
         final int size = buf.readInt();
         for (int i = 0; i < size; i++)
         {
@@ -82,6 +65,7 @@ public class UpdateChunkRangeCapabilityMessage implements IMessage
     @Override
     public void toBytes(@NotNull final PacketBuffer buf)
     {
+        buf.writeBoolean(reset);
         buf.writeInt(caps.size());
         for (final ChunkCapData c : caps)
         {
@@ -100,16 +84,23 @@ public class UpdateChunkRangeCapabilityMessage implements IMessage
     public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
     {
         final ClientWorld world = Minecraft.getInstance().world;
+        if (reset)
+        {
+            ChunkClientDataHelper.clear();
+        }
+
         for (final ChunkCapData data : caps)
         {
-            if (!WorldUtil.isChunkLoaded(world, new ChunkPos(data.x, data.z)))
+            ChunkClientDataHelper.addCapData(data);
+            if (WorldUtil.isChunkLoaded(world, new ChunkPos(data.x, data.z)))
             {
-                ChunkClientDataHelper.addCapData(data);
-                continue;
+                ChunkClientDataHelper.applyCap(data, world.getChunk(data.x, data.z));
             }
+        }
 
-            final Chunk chunk = world.getChunk(data.x, data.z);
-            ChunkClientDataHelper.applyCap(data, chunk);
+        if (Minecraft.getInstance().player != null)
+        {
+            ChunkClientDataHelper.evictOutside(Minecraft.getInstance().player.chunkCoordX, Minecraft.getInstance().player.chunkCoordZ);
         }
     }
 }
\ No newline at end of file
@@ -53,7 +53,7 @@ public class ColonyViewMessage implements IMessage
      * Add or Update a ColonyView on the client.
      *
      * @param colony            Colony of the view to update.
-     * @param buf               the bytebuffer.
+     * @param buf               the bytebuffer, shared with other messages and not modified.
      * @param isNewSubscription Boolean whether or not this is a new subscription.
      */
     public ColonyViewMessage(@NotNull final Colony colony, final PacketBuffer buf, final boolean isNewSubscription)
@@ -61,7 +61,7 @@ public class ColonyViewMessage implements IMessage
         this.colonyId = colony.getID();
         this.isNewSubscription = isNewSubscription;
         this.dim = colony.getDimension();
-        this.colonyBuffer = new PacketBuffer(buf.copy());
+        this.colonyBuffer = new PacketBuffer(buf.duplicate());
     }
 
     @Override
@@ -80,7 +80,7 @@ public class ColonyViewMessage implements IMessage
         buf.writeInt(colonyId);
         buf.writeBoolean(isNewSubscription);
         buf.writeString(dim.getLocation().toString());
-        buf.writeBytes(colonyBuffer);
+        buf.writeBytes(colonyBuffer, colonyBuffer.readerIndex(), colonyBuffer.readableBytes());
     }
 
     @Nullable
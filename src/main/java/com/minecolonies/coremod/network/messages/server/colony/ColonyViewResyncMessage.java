@@ -0,0 +1,64 @@
+package com.minecolonies.coremod.network.messages.server.colony;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyView;
+import com.minecolonies.api.colony.permissions.Action;
+import com.minecolonies.coremod.network.messages.server.AbstractColonyServerMessage;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.network.NetworkEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Sent by the client when it missed a colony view update, requests a full colony view sync.
+ */
+public class ColonyViewResyncMessage extends AbstractColonyServerMessage
+{
+    /**
+     * Empty public constructor.
+     */
+    public ColonyViewResyncMessage()
+    {
+        super();
+    }
+
+    /**
+     * Creates a resync request for the given colony.
+     *
+     * @param colony view of the colony to resync.
+     */
+    public ColonyViewResyncMessage(@NotNull final IColonyView colony)
+    {
+        super(colony);
+    }
+
+    @Nullable
+    @Override
+    public Action permissionNeeded()
+    {
+        return null;
+    }
+
+    @Override
+    protected void toBytesOverride(@NotNull final PacketBuffer buf)
+    {
+        // Nothing besides the colony.
+    }
+
+    @Override
+    protected void fromBytesOverride(@NotNull final PacketBuffer buf)
+    {
+        // Nothing besides the colony.
+    }
+
+    @Override
+    protected void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer, final IColony colony)
+    {
+        final ServerPlayerEntity player = ctxIn.getSender();
+        if (player != null)
+        {
+            colony.getPackageManager().requestColonyViewResync(player);
+        }
+    }
+}
@@ -136,6 +136,8 @@ public class LocalResearchTree implements ILocalResearchTree
                       .setProgress(IGlobalResearchTree.getInstance().getBranchData(research.getBranch()).getBaseTime(research.getDepth()));
                 }
                 SoundUtils.playSuccessSound(player, player.getPosition());
+                colony.getResearchManager().markDirty();
+                colony.markDirty();
                 return;
             }
             final InvWrapper playerInv = new InvWrapper(player.inventory);
@@ -196,6 +198,7 @@ public class LocalResearchTree implements ILocalResearchTree
                 SoundUtils.playErrorSound(player, player.getPosition());
             }
         }
+        colony.getResearchManager().markDirty();
         colony.markDirty();
     }
 
@@ -260,6 +263,7 @@ public class LocalResearchTree implements ILocalResearchTree
             removeResearch(research.getBranch(), research.getId());
             resetEffects(colony);
         }
+        colony.getResearchManager().markDirty();
         colony.markDirty();
     }
 
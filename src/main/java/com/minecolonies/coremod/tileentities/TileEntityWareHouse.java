@@ -1,6 +1,8 @@
 package com.minecolonies.coremod.tileentities;
 
 import com.ldtteam.structurize.util.LanguageHandler;
+import com.minecolonies.api.crafting.ItemKey;
+import com.minecolonies.api.inventory.ContainerItemIndex;
 import com.minecolonies.api.inventory.InventoryCitizen;
 import com.minecolonies.api.tileentities.AbstractTileEntityRack;
 import com.minecolonies.api.tileentities.AbstractTileEntityWareHouse;
@@ -9,7 +11,6 @@ import com.minecolonies.api.tileentities.TileEntityRack;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.Tuple;
-import com.minecolonies.api.util.WorldUtil;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.ChestTileEntity;
 import net.minecraft.tileentity.TileEntity;
@@ -18,6 +19,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -44,40 +46,23 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     @Override
     public boolean hasMatchingItemStackInWarehouse(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate, int count)
     {
-        final List<Tuple<ItemStack, BlockPos>> targetStacks = getMatchingItemStacksInWarehouse(itemStackSelectionPredicate);
-        return targetStacks.stream().mapToInt(tuple -> ItemStackUtils.getSize(tuple.getA())).sum() >= count;
+        if (getBuilding() == null)
+        {
+            return false;
+        }
+
+        return getBuilding().getItemIndex().getCount(itemStackSelectionPredicate, count) >= count;
     }
 
     @Override
     public boolean hasMatchingItemStackInWarehouse(@NotNull final ItemStack itemStack, final int count, final boolean ignoreNBT)
     {
-        int totalCountFound = 0;
-        for (@NotNull final BlockPos pos : getBuilding().getContainers())
+        if (getBuilding() == null)
         {
-            if (WorldUtil.isBlockLoaded(world, pos))
-            {
-                final TileEntity entity = getWorld().getTileEntity(pos);
-                if (entity instanceof TileEntityRack && !((AbstractTileEntityRack) entity).isEmpty())
-                {
-                    totalCountFound += ((AbstractTileEntityRack) entity).getCount(itemStack, true, ignoreNBT);
-                    if (totalCountFound >= count)
-                    {
-                        return true;
-                    }
-                }
-
-                if (entity instanceof ChestTileEntity)
-                {
-                    totalCountFound += InventoryUtils.getItemCountInItemHandler(entity.getCapability(ITEM_HANDLER_CAPABILITY, null).orElseGet(null),
-                      item -> item.isItemEqualIgnoreDurability(itemStack) && item.getCount() >= itemStack.getCount());
-                    if (totalCountFound >= count)
-                    {
-                        return true;
-                    }
-                }
-            }
+            return false;
         }
-        return false;
+
+        return getBuilding().getItemIndex().getCount(ItemKey.of(itemStack, true, ignoreNBT)) >= count;
     }
 
     @Override
@@ -88,10 +73,10 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
         
         if (getBuilding() != null)
         {
-            for (@NotNull final BlockPos pos : getBuilding().getContainers())
+            for (@NotNull final BlockPos pos : getBuilding().getItemIndex().getPositions(itemStackSelectionPredicate))
             {
                 final TileEntity entity = getWorld().getTileEntity(pos);
-                if (entity instanceof TileEntityRack && !((AbstractTileEntityRack) entity).isEmpty() && ((AbstractTileEntityRack) entity).getItemCount(itemStackSelectionPredicate) > 0)
+                if (entity instanceof TileEntityRack)
                 {
                     final TileEntityRack rack = (TileEntityRack) entity;
                     for (final ItemStack stack : (InventoryUtils.filterItemHandler(rack.getInventory(), itemStackSelectionPredicate)))
@@ -100,7 +85,7 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
                     }
                 }
 
-                if (entity instanceof ChestTileEntity && InventoryUtils.hasItemInItemHandler(entity.getCapability(ITEM_HANDLER_CAPABILITY, null).orElseGet(null), itemStackSelectionPredicate))
+                if (entity instanceof ChestTileEntity)
                 {
                     for (final ItemStack stack : InventoryUtils.filterItemHandler(entity.getCapability(ITEM_HANDLER_CAPABILITY, null).orElseGet(null), itemStackSelectionPredicate))
                     {
@@ -143,6 +128,10 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
 
             final int index = i;
             chest.getCapability(ITEM_HANDLER_CAPABILITY, null).ifPresent(handler -> InventoryUtils.transferItemStackIntoNextBestSlotInItemHandler(inventoryCitizen, index, handler));
+            if (chest instanceof ChestTileEntity)
+            {
+                getBuilding().onContainerContentChanged(chest.getPos());
+            }
         }
     }
 
@@ -155,7 +144,9 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     @Nullable
     private TileEntity searchRightChestForStack(@NotNull final ItemStack stack)
     {
-        for (@NotNull final BlockPos pos : getBuilding().getContainers())
+        final ContainerItemIndex itemIndex = getBuilding().getItemIndex();
+        final Collection<BlockPos> holding = itemIndex instanceof WarehouseItemIndex ? ((WarehouseItemIndex) itemIndex).getContainersHolding(stack) : getBuilding().getContainers();
+        for (@NotNull final BlockPos pos : holding)
         {
             final TileEntity entity = getWorld().getTileEntity(pos);
             if (isInRack(stack, entity, false) || isInChest(stack, entity, false))
@@ -0,0 +1,30 @@
+package com.minecolonies.coremod.tileentities;
+
+import com.minecolonies.api.crafting.ItemKey;
+import com.minecolonies.api.inventory.ContainerItemIndex;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+
+/**
+ * Index of the items stored in the containers of a warehouse.
+ * <p>
+ * Adds the lookups of the warehouse on top of the building index, so that dumping an item only has to look at the containers which already hold it instead of every
+ * container of the warehouse.
+ */
+public class WarehouseItemIndex extends ContainerItemIndex
+{
+    /**
+     * Get the containers holding exactly the item type of a stack, same item, damage and nbt.
+     *
+     * @param stack the stack.
+     * @return the positions of the containers, must not be modified.
+     */
+    @NotNull
+    public Set<BlockPos> getContainersHolding(@NotNull final ItemStack stack)
+    {
+        return getAmounts(ItemKey.of(stack)).keySet();
+    }
+}
@@ -26,9 +26,8 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -69,26 +68,77 @@ public final class BackUpHelper
      * @return true if succesful.
      */
     public static boolean backupColonyData()
+    {
+        return Boolean.TRUE.equals(backupColonyDataAsync().join());
+    }
+
+    /**
+     * Backup the colony, the colony data is snapshot on the calling thread and written and zipped by the background writer.
+     *
+     * @return the future, completed with true if succesful.
+     */
+    public static CompletableFuture<Boolean> backupColonyDataAsync()
     {
         BackUpHelper.saveColonies();
-        try (FileOutputStream fos = new FileOutputStream(getBackupSaveLocation(new Date())))
+
+        @NotNull final File saveDir =
+          new File(ServerLifecycleHooks.getCurrentServer().func_240776_a_(FolderName.DOT).toFile(), FILENAME_MINECOLONIES_PATH);
+        @NotNull final File backupFile = getBackupSaveLocation(new Date());
+        @NotNull final String managerFileName = getSaveLocation().getName();
+
+        // Which colonies still exist has to be decided on the server thread
+        final int topColonyId = IColonyManager.getInstance().getTopColonyId();
+        final Map<RegistryKey<World>, Set<Integer>> existingColonies = new HashMap<>();
+        for (final RegistryKey<World> dimensionType : ServerLifecycleHooks.getCurrentServer().worlds.keySet())
+        {
+            final Set<Integer> ids = new HashSet<>();
+            for (int i = 1; i <= topColonyId + 1; i++)
+            {
+                if (IColonyManager.getInstance().getColonyByDimension(i, dimensionType) != null)
+                {
+                    ids.add(i);
+                }
+            }
+            existingColonies.put(dimensionType, ids);
+        }
+
+        return BackgroundNBTWriter.submit(() -> zipColonyData(saveDir, backupFile, managerFileName, topColonyId, existingColonies));
+    }
+
+    /**
+     * Zip the written colony data, called by the background writer after the data was written.
+     *
+     * @param saveDir          the minecolonies save folder.
+     * @param backupFile       the zip to write.
+     * @param managerFileName  the name of the colony manager file.
+     * @param topColonyId      the highest colony id.
+     * @param existingColonies the ids of the colonies which still exist per dimension.
+     * @return true if succesful.
+     */
+    private static boolean zipColonyData(
+      @NotNull final File saveDir,
+      @NotNull final File backupFile,
+      @NotNull final String managerFileName,
+      final int topColonyId,
+      @NotNull final Map<RegistryKey<World>, Set<Integer>> existingColonies)
+    {
+        try (FileOutputStream fos = new FileOutputStream(backupFile))
         {
-            @NotNull final File saveDir =
-              new File(ServerLifecycleHooks.getCurrentServer().func_240776_a_(FolderName.DOT).toFile(), FILENAME_MINECOLONIES_PATH);
             final ZipOutputStream zos = new ZipOutputStream(fos);
 
-            for (final RegistryKey<World> dimensionType : ServerLifecycleHooks.getCurrentServer().worlds.keySet())
+            for (final Map.Entry<RegistryKey<World>, Set<Integer>> entry : existingColonies.entrySet())
             {
-                for (int i = 1; i <= IColonyManager.getInstance().getTopColonyId() + 1; i++)
+                final RegistryKey<World> dimensionType = entry.getKey();
+                for (int i = 1; i <= topColonyId + 1; i++)
                 {
                     @NotNull final File file = new File(saveDir, getFolderForDimension(dimensionType.getLocation()) + String.format(FILENAME_COLONY, i));
                     @NotNull final File fileDeleted = new File(saveDir, getFolderForDimension(dimensionType.getLocation()) + String.format(FILENAME_COLONY_DELETED, i));
                     if (file.exists())
                     {
                         // mark existing files
-                        if (IColonyManager.getInstance().getColonyByDimension(i, dimensionType) == null)
+                        if (!entry.getValue().contains(i))
                         {
-                            markColonyDeleted(i, dimensionType);
+                            markColonyDeleted(saveDir, i, dimensionType);
                             addToZipFile(getFolderForDimension(dimensionType.getLocation()) + String.format(FILENAME_COLONY_DELETED, i), zos, saveDir);
                         }
                         else
@@ -102,7 +152,7 @@ public final class BackUpHelper
                     }
                 }
             }
-            addToZipFile(getSaveLocation().getName(), zos, saveDir);
+            addToZipFile(managerFileName, zos, saveDir);
             zos.close();
         }
         catch (final Exception e)
@@ -144,6 +194,7 @@ public final class BackUpHelper
      */
     public static void loadMissingColonies()
     {
+        BackgroundNBTWriter.flush();
         @NotNull final File saveDir = new File(ServerLifecycleHooks.getCurrentServer().func_240776_a_(FolderName.DOT).toFile(), FILENAME_MINECOLONIES_PATH);
 
         for (final RegistryKey<World> dimensionType : ServerLifecycleHooks.getCurrentServer().worlds.keySet())
@@ -262,6 +313,7 @@ public final class BackUpHelper
      */
     public static CompoundNBT loadNBTFromPath(@Nullable final File file)
     {
+        BackgroundNBTWriter.flush();
         try
         {
             if (file != null && file.exists())
@@ -277,7 +329,8 @@ public final class BackUpHelper
     }
 
     /**
-     * Save all the Colonies.
+     * Save all the Colonies. The data is taken on the calling thread, encoding and writing the files is left to the background writer. Colonies which were not active since
+     * their last write reuse their colony tag instead of being written again.
      */
     public static void saveColonies()
     {
@@ -285,13 +338,17 @@ public final class BackUpHelper
         IColonyManager.getInstance().write(compound);
 
         @NotNull final File file = getSaveLocation();
-        saveNBTToPath(file, compound);
+        BackgroundNBTWriter.execute(() -> saveNBTToPath(file, compound));
         @NotNull final File saveDir = new File(ServerLifecycleHooks.getCurrentServer().func_240776_a_(FolderName.DOT).toFile(), FILENAME_MINECOLONIES_PATH);
         for (final IColony colony : IColonyManager.getInstance().getAllColonies())
         {
-            final CompoundNBT colonyCompound = new CompoundNBT();
-            colony.write(colonyCompound);
-            saveNBTToPath(new File(saveDir, getFolderForDimension(colony.getDimension().getLocation()) + String.format(FILENAME_COLONY, colony.getID())), colonyCompound);
+            final CompoundNBT colonyCompound = colony.getColonyTag();
+            if (colonyCompound == null)
+            {
+                continue;
+            }
+            final File colonyFile = new File(saveDir, getFolderForDimension(colony.getDimension().getLocation()) + String.format(FILENAME_COLONY, colony.getID()));
+            BackgroundNBTWriter.execute(() -> saveNBTToPath(colonyFile, colonyCompound));
         }
     }
 
@@ -303,8 +360,19 @@ public final class BackUpHelper
      */
     public static void markColonyDeleted(final int colonyID, final RegistryKey<World> dimensionID)
     {
-        @NotNull final File saveDir =
-          new File(ServerLifecycleHooks.getCurrentServer().func_240776_a_(FolderName.DOT).toFile(), FILENAME_MINECOLONIES_PATH);
+        BackgroundNBTWriter.flush();
+        markColonyDeleted(new File(ServerLifecycleHooks.getCurrentServer().func_240776_a_(FolderName.DOT).toFile(), FILENAME_MINECOLONIES_PATH), colonyID, dimensionID);
+    }
+
+    /**
+     * Marks a colony's backup file as deleted.
+     *
+     * @param saveDir     the minecolonies save folder.
+     * @param colonyID    id of the colony to delete
+     * @param dimensionID dimension of the colony to delete
+     */
+    private static void markColonyDeleted(@NotNull final File saveDir, final int colonyID, final RegistryKey<World> dimensionID)
+    {
         final File toDelete = new File(saveDir, getFolderForDimension(dimensionID.getLocation()) + String.format(FILENAME_COLONY, colonyID));
         if (toDelete.exists())
         {
@@ -319,6 +387,7 @@ public final class BackUpHelper
      */
     public static void loadAllBackups()
     {
+        BackgroundNBTWriter.flush();
         @NotNull final File saveDir = new File(ServerLifecycleHooks.getCurrentServer().func_240776_a_(FolderName.DOT).toFile(), FILENAME_MINECOLONIES_PATH);
 
         ServerLifecycleHooks.getCurrentServer().worlds.keySet().forEach(dimensionType -> {
@@ -418,6 +487,7 @@ public final class BackUpHelper
      */
     public static String exportColony(final IColony colony)
     {
+        BackgroundNBTWriter.flush();
         final MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
         final File topworldDir = server.func_240776_a_(FolderName.DOT).toFile();
         final File minecraftDir = new File(topworldDir.getAbsolutePath().replace(topworldDir.getPath(), ""));
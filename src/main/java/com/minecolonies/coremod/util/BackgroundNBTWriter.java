@@ -0,0 +1,87 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.util.Log;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Runs the encoding and writing of save files on a single background thread, in the order they were submitted.
+ * <p>
+ * Tasks must only work on snapshots which are not modified anymore by the server thread. Everything reading save files should {@link #flush()} first.
+ */
+public final class BackgroundNBTWriter
+{
+    /**
+     * Seconds an idle writer thread is kept alive.
+     */
+    private static final int KEEP_ALIVE_SECONDS = 30;
+
+    /**
+     * The writer, not a daemon so that pending writes finish before the server exits.
+     */
+    private static final ExecutorService writer = new ThreadPoolExecutor(0, 1, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+        final Thread thread = new Thread(runnable, "Minecolonies Save Writer");
+        thread.setDaemon(false);
+        return thread;
+    });
+
+    /**
+     * The last submitted task, completes after all earlier ones.
+     */
+    private static CompletableFuture<?> last = CompletableFuture.completedFuture(null);
+
+    /**
+     * Private constructor to hide implicit one.
+     */
+    private BackgroundNBTWriter()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Submit a task to the writer.
+     *
+     * @param task the task.
+     * @param <T>  the type of the result.
+     * @return the future of the result, completed with null if the task failed.
+     */
+    public static synchronized <T> CompletableFuture<T> submit(@NotNull final Supplier<T> task)
+    {
+        final CompletableFuture<T> future = CompletableFuture.supplyAsync(task, writer).exceptionally(e -> {
+            Log.getLogger().error("Exception when writing colony data in the background", e);
+            return null;
+        });
+        last = future;
+        return future;
+    }
+
+    /**
+     * Submit a task without result to the writer.
+     *
+     * @param task the task.
+     */
+    public static void execute(@NotNull final Runnable task)
+    {
+        submit(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Wait until all submitted tasks finished.
+     */
+    public static void flush()
+    {
+        final CompletableFuture<?> pending;
+        synchronized (BackgroundNBTWriter.class)
+        {
+            pending = last;
+        }
+        pending.join();
+    }
+}
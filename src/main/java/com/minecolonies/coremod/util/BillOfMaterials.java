@@ -0,0 +1,368 @@
+package com.minecolonies.coremod.util;
+
+import com.ldtteam.structurize.management.Structures;
+import com.ldtteam.structurize.util.BlockInfo;
+import com.minecolonies.api.blocks.AbstractBlockHut;
+import com.minecolonies.api.util.Log;
+import net.minecraft.block.BlockState;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.storage.FolderName;
+import net.minecraftforge.fml.ModList;
+import net.minecraftforge.fml.server.ServerLifecycleHooks;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.FILENAME_MINECOLONIES_PATH;
+
+/**
+ * The blocks to check when upgrading a building from one schematic level to the next one, for the builder resource requests.
+ * <p>
+ * The bill holds the positions of every block of the new level which differs from the block at the same position of the previous level, in the local coordinates of the
+ * rotated and mirrored blueprint of the new level. It only depends on the two schematics, the rotation and the mirror, so bills are computed once, shared by all colonies
+ * and persisted in the save folder. The items of these blocks depend on the world, the builder resolves them against the world when requesting, every other block is
+ * unchanged by the upgrade.
+ * <p>
+ * Persisted bills are also keyed by a fingerprint of the bill format and the versions of all loaded mods, which covers changes to the blueprint rotation. Bills of other
+ * fingerprints are ignored and deleted once the folder is first used. Bills are written to a temporary file first and then moved in place, so a crash can't leave a
+ * truncated bill.
+ */
+public final class BillOfMaterials
+{
+    /**
+     * The folder of the persisted bills within the minecolonies folder.
+     */
+    private static final String FILENAME_BOM_PATH = "bom";
+
+    /**
+     * The file name pattern of a persisted bill, by the md5 of the new and the previous level, the rotation, the mirror and the fingerprint.
+     */
+    private static final String FILENAME_BOM = "%s-%s-%d-%d-%s.dat";
+
+    /**
+     * The suffix of a bill which is being written.
+     */
+    private static final String FILENAME_TMP_SUFFIX = ".tmp";
+
+    /**
+     * The version of the bill format, part of the fingerprint.
+     */
+    private static final int FORMAT_VERSION = 2;
+
+    /**
+     * Max amount of bills kept in memory.
+     */
+    private static final int MAX_ENTRIES = 128;
+
+    /**
+     * Nbt tag of the positions of a persisted bill.
+     */
+    private static final String TAG_POSITIONS = "positions";
+
+    /**
+     * The fingerprint of the bill format and mod versions, computed on first use.
+     */
+    private static String fingerprint;
+
+    /**
+     * If persisted bills of other fingerprints were deleted already.
+     */
+    private static boolean cleanedUp = false;
+
+    /**
+     * The bills by their file name, in access order.
+     */
+    private static final Map<String, BillOfMaterials> cache = new LinkedHashMap<String, BillOfMaterials>(MAX_ENTRIES, 0.75F, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, BillOfMaterials> eldest)
+        {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * The bills by their file name which are still being written, they are not read from their file until the write finished.
+     */
+    private static final Map<String, BillOfMaterials> unwritten = new HashMap<>();
+
+    /**
+     * The local positions of the changed blocks, as longs.
+     */
+    private final long[] positions;
+
+    /**
+     * Create a bill.
+     *
+     * @param positions the local positions of the changed blocks.
+     */
+    private BillOfMaterials(@NotNull final long[] positions)
+    {
+        this.positions = positions;
+    }
+
+    /**
+     * Get the bill for upgrading a building from one schematic level to another, computing it if it is neither cached nor persisted.
+     *
+     * @param world         the world, only used to load the blueprints.
+     * @param fromStructure the structure name of the current level.
+     * @param toStructure   the structure name of the new level.
+     * @param rotation      the rotation of the building, in times rotated.
+     * @param isMirrored    if the building is mirrored.
+     * @return the bill, null if one of the schematics is not known or does not match its md5.
+     */
+    @Nullable
+    public static BillOfMaterials getUpgrade(
+      @NotNull final World world,
+      @NotNull final String fromStructure,
+      @NotNull final String toStructure,
+      final int rotation,
+      final boolean isMirrored)
+    {
+        final String fromMD5 = Structures.getMD5(fromStructure);
+        final String toMD5 = Structures.getMD5(toStructure);
+        if (world.isRemote || fromMD5 == null || toMD5 == null)
+        {
+            return null;
+        }
+
+        final String fileName = String.format(FILENAME_BOM, toMD5, fromMD5, rotation, isMirrored ? 1 : 0, getFingerprint());
+        synchronized (cache)
+        {
+            BillOfMaterials known = cache.get(fileName);
+            if (known == null)
+            {
+                known = unwritten.get(fileName);
+            }
+            if (known != null)
+            {
+                return known;
+            }
+        }
+
+        final File file = new File(getCleanSaveDir(), fileName);
+        BillOfMaterials bill = load(file);
+        if (bill == null)
+        {
+            final BlueprintCache.TransformedBlueprint from = BlueprintCache.get(world, fromStructure, rotation, isMirrored);
+            final BlueprintCache.TransformedBlueprint to = BlueprintCache.get(world, toStructure, rotation, isMirrored);
+            if (from == null || to == null || !from.isCorrectMD5() || !to.isCorrectMD5())
+            {
+                return null;
+            }
+
+            bill = compute(from, to);
+            final CompoundNBT compound = bill.write();
+            synchronized (cache)
+            {
+                unwritten.put(fileName, bill);
+            }
+            BackgroundNBTWriter.execute(() -> {
+                save(file, compound);
+                synchronized (cache)
+                {
+                    unwritten.remove(fileName);
+                }
+            });
+        }
+
+        synchronized (cache)
+        {
+            cache.put(fileName, bill);
+        }
+        return bill;
+    }
+
+    /**
+     * Drop all bills kept in memory, for example when the server stops. Bills which are still being written are kept until they are.
+     */
+    public static void clear()
+    {
+        synchronized (cache)
+        {
+            cache.clear();
+            cleanedUp = false;
+        }
+    }
+
+    /**
+     * Get the local positions of the blocks which differ from the previous level.
+     *
+     * @return the positions as longs, in the rotated and mirrored blueprint of the new level, must not be modified.
+     */
+    @NotNull
+    public long[] getPositions()
+    {
+        return positions;
+    }
+
+    /**
+     * Compute the bill of the blocks of the new level which differ from the previous level.
+     *
+     * @param from the blueprint of the current level.
+     * @param to   the blueprint of the new level, with the same rotation and mirror.
+     * @return the bill.
+     */
+    @NotNull
+    private static BillOfMaterials compute(@NotNull final BlueprintCache.TransformedBlueprint from, @NotNull final BlueprintCache.TransformedBlueprint to)
+    {
+        final Map<BlockPos, BlockInfo> fromBlocks = from.getBlueprint().getBlockInfoAsMap();
+        final BlockPos offset = from.getPrimaryBlockOffset().subtract(to.getPrimaryBlockOffset());
+        final List<BlockPos> changed = new ArrayList<>();
+
+        for (final Map.Entry<BlockPos, BlockInfo> entry : to.getBlueprint().getBlockInfoAsMap().entrySet())
+        {
+            final BlockInfo info = entry.getValue();
+            final BlockState state = info.getState();
+            if (state == null || (state.getBlock() instanceof AbstractBlockHut && entry.getKey().equals(to.getPrimaryBlockOffset())))
+            {
+                continue;
+            }
+
+            final BlockInfo previous = fromBlocks.get(entry.getKey().add(offset));
+            if (previous == null || !state.equals(previous.getState()) || !Objects.equals(info.getTileEntityData(), previous.getTileEntityData()))
+            {
+                changed.add(entry.getKey());
+            }
+        }
+
+        // Bottom up, like the builder iterates
+        changed.sort(Comparator.comparingInt(BlockPos::getY).thenComparingInt(BlockPos::getZ).thenComparingInt(BlockPos::getX));
+        final long[] positions = new long[changed.size()];
+        for (int i = 0; i < positions.length; i++)
+        {
+            positions[i] = changed.get(i).toLong();
+        }
+        return new BillOfMaterials(positions);
+    }
+
+    /**
+     * Write the bill.
+     *
+     * @return a new compound.
+     */
+    @NotNull
+    private CompoundNBT write()
+    {
+        final CompoundNBT compound = new CompoundNBT();
+        compound.putLongArray(TAG_POSITIONS, positions);
+        return compound;
+    }
+
+    /**
+     * Persist a bill, through a temporary file which is moved in place once it is complete.
+     *
+     * @param file     the file.
+     * @param compound the written bill.
+     */
+    private static void save(@NotNull final File file, @NotNull final CompoundNBT compound)
+    {
+        final File tmpFile = new File(file.getParentFile(), file.getName() + FILENAME_TMP_SUFFIX);
+        try
+        {
+            file.getParentFile().mkdirs();
+            CompressedStreamTools.write(compound, tmpFile);
+            Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (final IOException exception)
+        {
+            Log.getLogger().warn("Could not write bill of materials " + file.getName(), exception);
+            if (tmpFile.exists() && !tmpFile.delete())
+            {
+                Log.getLogger().warn("Could not delete " + tmpFile.getName());
+            }
+        }
+    }
+
+    /**
+     * Load a persisted bill, the caller has to make sure it is not being written.
+     *
+     * @param file the file.
+     * @return the bill, null if there is none or it could not be read.
+     */
+    @Nullable
+    private static BillOfMaterials load(@NotNull final File file)
+    {
+        if (!file.exists())
+        {
+            return null;
+        }
+
+        try
+        {
+            final CompoundNBT compound = CompressedStreamTools.read(file);
+            if (compound == null)
+            {
+                return null;
+            }
+            return new BillOfMaterials(compound.getLongArray(TAG_POSITIONS));
+        }
+        catch (final IOException exception)
+        {
+            Log.getLogger().warn("Could not read bill of materials " + file.getName() + ", computing it again", exception);
+            return null;
+        }
+    }
+
+    /**
+     * Get the fingerprint of the bill format and the versions of all loaded mods.
+     *
+     * @return the fingerprint, as hex string.
+     */
+    @NotNull
+    private static synchronized String getFingerprint()
+    {
+        if (fingerprint == null)
+        {
+            final StringBuilder builder = new StringBuilder().append(FORMAT_VERSION);
+            ModList.get().getMods().forEach(mod -> builder.append(';').append(mod.getModId()).append('@').append(mod.getVersion()));
+            fingerprint = Integer.toHexString(builder.toString().hashCode());
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Get the folder of the persisted bills, deleting the bills of other fingerprints on first use.
+     *
+     * @return the folder.
+     */
+    @NotNull
+    private static File getCleanSaveDir()
+    {
+        final File saveDir =
+          new File(new File(ServerLifecycleHooks.getCurrentServer().func_240776_a_(FolderName.DOT).toFile(), FILENAME_MINECOLONIES_PATH), FILENAME_BOM_PATH);
+
+        synchronized (cache)
+        {
+            if (cleanedUp)
+            {
+                return saveDir;
+            }
+            cleanedUp = true;
+        }
+
+        final String suffix = "-" + getFingerprint() + ".dat";
+        BackgroundNBTWriter.execute(() -> {
+            final File[] files = saveDir.listFiles((dir, name) -> !name.endsWith(suffix));
+            if (files != null)
+            {
+                for (final File stale : files)
+                {
+                    if (!stale.delete())
+                    {
+                        Log.getLogger().warn("Could not delete outdated bill of materials " + stale.getName());
+                    }
+                }
+            }
+        });
+        return saveDir;
+    }
+}
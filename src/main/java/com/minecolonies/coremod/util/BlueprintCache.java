@@ -0,0 +1,286 @@
+package com.minecolonies.coremod.util;
+
+import com.ldtteam.structures.blueprints.v1.Blueprint;
+import com.ldtteam.structurize.management.Structures;
+import com.ldtteam.structurize.util.PlacementSettings;
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.api.util.LoadOnlyStructureHandler;
+import net.minecraft.util.Mirror;
+import net.minecraft.util.Rotation;
+import net.minecraft.util.Tuple;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.SoftReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Cache of loaded, rotated and mirrored blueprints, shared by the builders, the work order checks and the previews.
+ * <p>
+ * Blueprints are keyed by their name, the md5 of the schematic, the rotation and the mirror, so a changed schematic is loaded again. The client and the server side have
+ * their own instances. The cache holds a bounded amount of blueprints, least recently used first out, and only softly references them. Cached blueprints are shared and
+ * must not be rotated or otherwise modified.
+ */
+public final class BlueprintCache
+{
+    /**
+     * Max amount of cached blueprints.
+     */
+    private static final int MAX_ENTRIES = 64;
+
+    /**
+     * The cached blueprints, in access order.
+     */
+    private static final Map<Key, SoftReference<TransformedBlueprint>> cache = new LinkedHashMap<Key, SoftReference<TransformedBlueprint>>(MAX_ENTRIES, 0.75F, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, SoftReference<TransformedBlueprint>> eldest)
+        {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * Private constructor to hide implicit one.
+     */
+    private BlueprintCache()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get a rotated and mirrored blueprint, loading it if it is not cached.
+     *
+     * @param world         the world.
+     * @param structureName the name of the structure.
+     * @param rotation      the rotation, in times rotated.
+     * @param isMirrored    if it is mirrored.
+     * @return the blueprint, null if it could not be loaded.
+     */
+    @Nullable
+    public static TransformedBlueprint get(@NotNull final World world, @NotNull final String structureName, final int rotation, final boolean isMirrored)
+    {
+        final Key key =
+          new Key(structureName, Structures.getMD5(structureName), BlockPosUtil.getRotationFromRotations(rotation), isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, world.isRemote);
+
+        synchronized (cache)
+        {
+            final SoftReference<TransformedBlueprint> reference = cache.get(key);
+            final TransformedBlueprint cached = reference == null ? null : reference.get();
+            if (cached != null)
+            {
+                return cached;
+            }
+        }
+
+        final LoadOnlyStructureHandler handler = new LoadOnlyStructureHandler(world, BlockPos.ZERO, structureName, new PlacementSettings(), true);
+        if (!handler.hasBluePrint())
+        {
+            return null;
+        }
+
+        final Blueprint blueprint = handler.getBluePrint();
+        blueprint.rotateWithMirror(key.rotation, key.mirror, world);
+        final TransformedBlueprint transformed = new TransformedBlueprint(blueprint, handler.isCorrectMD5(key.md5));
+        if (key.md5 != null && !transformed.isCorrectMD5())
+        {
+            // Don't keep outdated schematics around, they are replaced once the right one was received
+            return transformed;
+        }
+
+        synchronized (cache)
+        {
+            cache.put(key, new SoftReference<>(transformed));
+        }
+        return transformed;
+    }
+
+    /**
+     * Drop all cached blueprints.
+     */
+    public static void clear()
+    {
+        synchronized (cache)
+        {
+            cache.clear();
+        }
+    }
+
+    /**
+     * A rotated and mirrored blueprint, with its dimensions.
+     */
+    public static final class TransformedBlueprint
+    {
+        /**
+         * The blueprint, must not be modified.
+         */
+        private final Blueprint blueprint;
+
+        /**
+         * If the blueprint matches the md5 of the schematic.
+         */
+        private final boolean correctMD5;
+
+        /**
+         * The offset of the primary block.
+         */
+        private final BlockPos primaryBlockOffset;
+
+        /**
+         * The size.
+         */
+        private final BlockPos size;
+
+        /**
+         * Create a transformed blueprint.
+         *
+         * @param blueprint  the rotated and mirrored blueprint.
+         * @param correctMD5 if it matches the md5 of the schematic.
+         */
+        private TransformedBlueprint(@NotNull final Blueprint blueprint, final boolean correctMD5)
+        {
+            this.blueprint = blueprint;
+            this.correctMD5 = correctMD5;
+            this.primaryBlockOffset = blueprint.getPrimaryBlockOffset();
+            this.size = new BlockPos(blueprint.getSizeX(), blueprint.getSizeY(), blueprint.getSizeZ());
+        }
+
+        /**
+         * Get the blueprint.
+         *
+         * @return the rotated and mirrored blueprint, must not be modified.
+         */
+        @NotNull
+        public Blueprint getBlueprint()
+        {
+            return blueprint;
+        }
+
+        /**
+         * Check if the blueprint matches the md5 of the schematic.
+         *
+         * @return true if so.
+         */
+        public boolean isCorrectMD5()
+        {
+            return correctMD5;
+        }
+
+        /**
+         * Get the offset of the primary block.
+         *
+         * @return the offset.
+         */
+        @NotNull
+        public BlockPos getPrimaryBlockOffset()
+        {
+            return primaryBlockOffset;
+        }
+
+        /**
+         * Get the size.
+         *
+         * @return the size along every axis.
+         */
+        @NotNull
+        public BlockPos getSize()
+        {
+            return size;
+        }
+
+        /**
+         * Get the corners of the blueprint placed at a position, one block out on the negative x and z sides.
+         *
+         * @param pos the position of the primary block.
+         * @return a tuple with the corners.
+         */
+        @NotNull
+        public Tuple<BlockPos, BlockPos> getCorners(@NotNull final BlockPos pos)
+        {
+            final BlockPos zeroPos = pos.subtract(primaryBlockOffset);
+            return new Tuple<>(new BlockPos(zeroPos.getX() - 1, zeroPos.getY(), zeroPos.getZ() - 1), zeroPos.add(size));
+        }
+    }
+
+    /**
+     * The key of a cached blueprint.
+     */
+    private static final class Key
+    {
+        /**
+         * The name of the structure.
+         */
+        private final String structureName;
+
+        /**
+         * The md5 of the schematic, null if unknown.
+         */
+        @Nullable
+        private final String md5;
+
+        /**
+         * The rotation.
+         */
+        private final Rotation rotation;
+
+        /**
+         * The mirror.
+         */
+        private final Mirror mirror;
+
+        /**
+         * If the blueprint is for the client side.
+         */
+        private final boolean isRemote;
+
+        /**
+         * Create a key.
+         *
+         * @param structureName the name of the structure.
+         * @param md5           the md5 of the schematic.
+         * @param rotation      the rotation.
+         * @param mirror        the mirror.
+         * @param isRemote      if for the client side.
+         */
+        private Key(@NotNull final String structureName, @Nullable final String md5, @NotNull final Rotation rotation, @NotNull final Mirror mirror, final boolean isRemote)
+        {
+            this.structureName = structureName;
+            this.md5 = md5;
+            this.rotation = rotation;
+            this.mirror = mirror;
+            this.isRemote = isRemote;
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof Key))
+            {
+                return false;
+            }
+
+            final Key key = (Key) o;
+            return isRemote == key.isRemote
+                     && rotation == key.rotation
+                     && mirror == key.mirror
+                     && structureName.equals(key.structureName)
+                     && Objects.equals(md5, key.md5);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(structureName, md5, rotation, mirror, isRemote);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.api.util.WorldUtil;
+import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.network.messages.client.UpdateChunkRangeCapabilityMessage;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.server.ServerWorld;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
+
+/**
+ * Streams the colony claim data of the chunks around players to their clients.
+ * <p>
+ * Every client holds the claim data of a square window of chunks around its player. When the player moves, only the chunks which newly entered the window are sent. Claim
+ * changes, and chunks which got loaded after the player moved, are collected and sent once per tick to the players whose window contains them.
+ */
+public final class ChunkCapSyncHelper
+{
+    /**
+     * Range in chunks of the synced window around a player.
+     */
+    public static final int SYNC_RANGE = 8;
+
+    /**
+     * The window each player currently holds.
+     */
+    private static final Map<UUID, SyncWindow> windows = new HashMap<>();
+
+    /**
+     * Chunks with changed claim data per dimension, sent at the end of the tick.
+     */
+    private static final Map<RegistryKey<World>, Set<Long>> pendingUpdates = new HashMap<>();
+
+    /**
+     * Private constructor to hide implicit one.
+     */
+    private ChunkCapSyncHelper()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Send the claim data of the chunks which entered the window of a player that moved to a new chunk.
+     *
+     * @param player the player.
+     * @param chunkX the x coordinate of the new chunk.
+     * @param chunkZ the z coordinate of the new chunk.
+     */
+    public static void onPlayerEnterChunk(@NotNull final ServerPlayerEntity player, final int chunkX, final int chunkZ)
+    {
+        final World world = player.world;
+        final SyncWindow window = new SyncWindow(world.getDimensionKey(), chunkX, chunkZ);
+        final SyncWindow previous = windows.put(player.getUniqueID(), window);
+        final boolean reset = previous == null || !previous.dimension.equals(window.dimension);
+
+        final List<ChunkCapData> caps = new ArrayList<>();
+        for (int x = chunkX - SYNC_RANGE; x <= chunkX + SYNC_RANGE; x++)
+        {
+            for (int z = chunkZ - SYNC_RANGE; z <= chunkZ + SYNC_RANGE; z++)
+            {
+                if ((reset || !previous.contains(x, z)) && WorldUtil.isEntityChunkLoaded(world, x, z))
+                {
+                    final ChunkCapData data = getCapData(world.getChunk(x, z));
+                    if (data != null)
+                    {
+                        caps.add(data);
+                    }
+                }
+            }
+        }
+
+        if (reset || !caps.isEmpty())
+        {
+            Network.getNetwork().sendToPlayer(new UpdateChunkRangeCapabilityMessage(caps, reset), player);
+        }
+    }
+
+    /**
+     * Forget the window of a player which left.
+     *
+     * @param player the player.
+     */
+    public static void onPlayerLeave(@NotNull final ServerPlayerEntity player)
+    {
+        windows.remove(player.getUniqueID());
+    }
+
+    /**
+     * Queue the claim data of a chunk to be sent to the players around it at the end of the tick.
+     *
+     * @param chunk the chunk.
+     */
+    public static void queueUpdate(@NotNull final Chunk chunk)
+    {
+        pendingUpdates.computeIfAbsent(chunk.getWorld().getDimensionKey(), dimension -> new HashSet<>()).add(chunk.getPos().asLong());
+    }
+
+    /**
+     * Send the queued claim data, every player receives the chunks within its window in one message.
+     *
+     * @param server the server.
+     */
+    public static void sendPendingUpdates(@NotNull final MinecraftServer server)
+    {
+        if (pendingUpdates.isEmpty())
+        {
+            return;
+        }
+
+        for (final Map.Entry<RegistryKey<World>, Set<Long>> entry : pendingUpdates.entrySet())
+        {
+            final ServerWorld world = server.getWorld(entry.getKey());
+            if (world == null || world.getPlayers().isEmpty())
+            {
+                continue;
+            }
+
+            final List<ChunkCapData> caps = new ArrayList<>();
+            for (final long pos : entry.getValue())
+            {
+                final int x = ChunkPos.getX(pos);
+                final int z = ChunkPos.getZ(pos);
+                if (WorldUtil.isChunkLoaded(world, x, z))
+                {
+                    final ChunkCapData data = getCapData(world.getChunk(x, z));
+                    if (data != null)
+                    {
+                        caps.add(data);
+                    }
+                }
+            }
+
+            for (final ServerPlayerEntity player : world.getPlayers())
+            {
+                SyncWindow window = windows.get(player.getUniqueID());
+                if (window == null || !window.dimension.equals(entry.getKey()))
+                {
+                    window = new SyncWindow(entry.getKey(), player.chunkCoordX, player.chunkCoordZ);
+                }
+
+                final List<ChunkCapData> playerCaps = new ArrayList<>();
+                for (final ChunkCapData data : caps)
+                {
+                    if (window.contains(data.x, data.z))
+                    {
+                        playerCaps.add(data);
+                    }
+                }
+
+                if (!playerCaps.isEmpty())
+                {
+                    Network.getNetwork().sendToPlayer(new UpdateChunkRangeCapabilityMessage(playerCaps, false), player);
+                }
+            }
+        }
+        pendingUpdates.clear();
+    }
+
+    /**
+     * Forget all windows and queued updates, when the server stops.
+     */
+    public static void clear()
+    {
+        windows.clear();
+        pendingUpdates.clear();
+    }
+
+    /**
+     * Read the claim data of a chunk.
+     *
+     * @param chunk the chunk.
+     * @return the data or null if the chunk has no colony capability.
+     */
+    @Nullable
+    private static ChunkCapData getCapData(@NotNull final Chunk chunk)
+    {
+        final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null).resolve().orElse(null);
+        if (cap == null)
+        {
+            return null;
+        }
+        return new ChunkCapData(chunk.getPos().x, chunk.getPos().z, cap.getOwningColony(), new ArrayList<>(cap.getAllCloseColonies()));
+    }
+
+    /**
+     * The square window of chunks a client holds the claim data of.
+     */
+    private static final class SyncWindow
+    {
+        private final RegistryKey<World> dimension;
+        private final int                centerX;
+        private final int                centerZ;
+
+        private SyncWindow(final RegistryKey<World> dimension, final int centerX, final int centerZ)
+        {
+            this.dimension = dimension;
+            this.centerX = centerX;
+            this.centerZ = centerZ;
+        }
+
+        /**
+         * Check if a chunk is within the window.
+         *
+         * @param x the chunk x coordinate.
+         * @param z the chunk z coordinate.
+         * @return true if so.
+         */
+        private boolean contains(final int x, final int z)
+        {
+            return Math.abs(x - centerX) <= SYNC_RANGE && Math.abs(z - centerZ) <= SYNC_RANGE;
+        }
+    }
+}
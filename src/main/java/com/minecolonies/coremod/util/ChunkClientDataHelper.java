@@ -1,23 +1,28 @@
 package com.minecolonies.coremod.util;
 
 import com.minecolonies.api.colony.IColonyTagCapability;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.chunk.Chunk;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 
 import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
 
 /**
- * Helper class for late applying caps on client side, due to loading order
+ * Helper class holding the claim data of the chunks around the player on client side, applied to chunks which load later or load again.
  */
 public class ChunkClientDataHelper
 {
     /**
-     * The later to apply chunks
+     * Extra range around the synced window before data gets dropped, as the player position lags behind the server.
      */
-    private static final List<ChunkCapData> chunkCapsToAdd = new ArrayList<>();
+    private static final int EVICTION_MARGIN = 2;
+
+    /**
+     * The claim data by chunk position.
+     */
+    private static final Map<Long, ChunkCapData> chunkCaps = new HashMap<>();
 
     /**
      * Adds a colony chunk data entry
@@ -26,7 +31,7 @@ public class ChunkClientDataHelper
      */
     public static void addCapData(final ChunkCapData chunkCap)
     {
-        chunkCapsToAdd.add(chunkCap);
+        chunkCaps.put(ChunkPos.asLong(chunkCap.x, chunkCap.z), chunkCap);
     }
 
     /**
@@ -36,22 +41,31 @@ public class ChunkClientDataHelper
      */
     public static void applyLate(final Chunk chunk)
     {
-        if (chunkCapsToAdd.isEmpty())
+        final ChunkCapData chunkCapData = chunkCaps.get(chunk.getPos().asLong());
+        if (chunkCapData != null)
         {
-            return;
+            applyCap(chunkCapData, chunk);
         }
+    }
 
-        final Iterator<ChunkCapData> iterator = chunkCapsToAdd.iterator();
+    /**
+     * Drop all held data.
+     */
+    public static void clear()
+    {
+        chunkCaps.clear();
+    }
 
-        while (iterator.hasNext())
-        {
-            final ChunkCapData chunkCapData = iterator.next();
-            if (chunk.getPos().x == chunkCapData.x && chunk.getPos().z == chunkCapData.z)
-            {
-                applyCap(chunkCapData, chunk);
-                iterator.remove();
-            }
-        }
+    /**
+     * Drop the data of the chunks which left the synced window around the player.
+     *
+     * @param chunkX the chunk x coordinate of the player.
+     * @param chunkZ the chunk z coordinate of the player.
+     */
+    public static void evictOutside(final int chunkX, final int chunkZ)
+    {
+        final int range = ChunkCapSyncHelper.SYNC_RANGE + EVICTION_MARGIN;
+        chunkCaps.values().removeIf(data -> Math.abs(data.x - chunkX) > range || Math.abs(data.z - chunkZ) > range);
     }
 
     /**
@@ -10,9 +10,7 @@ import com.minecolonies.api.util.ChunkLoadStorage;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.WorldUtil;
 import com.minecolonies.coremod.MineColonies;
-import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.colony.IColonyManagerCapability;
-import com.minecolonies.coremod.network.messages.client.UpdateChunkCapabilityMessage;
 import net.minecraft.util.RegistryKey;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
@@ -94,7 +92,7 @@ public final class ChunkDataHelper
                         }
                         if (dirty)
                         {
-                            Network.getNetwork().sendToEveryone(new UpdateChunkCapabilityMessage(closeCap, chunk.getPos().x, chunk.getPos().z));
+                            ChunkCapSyncHelper.queueUpdate(chunk);
                         }
                     }
                 }
@@ -127,6 +125,10 @@ public final class ChunkDataHelper
             if (colony != null)
             {
                 colony.removeLoadedChunk(ChunkPos.asLong(chunk.getPos().x, chunk.getPos().z));
+                if (colony.getPassabilitySnapshot() != null)
+                {
+                    colony.getPassabilitySnapshot().invalidateChunk(chunk.getPos().x, chunk.getPos().z);
+                }
             }
         }
     }
@@ -144,7 +146,7 @@ public final class ChunkDataHelper
 
         if (cap != null)
         {
-            Network.getNetwork().sendToEveryone(new UpdateChunkCapabilityMessage(cap, chunk.getPos().x, chunk.getPos().z));
+            ChunkCapSyncHelper.queueUpdate(chunk);
         }
     }
 
@@ -445,7 +447,7 @@ public final class ChunkDataHelper
             cap.removeColony(id, chunk);
         }
 
-        Network.getNetwork().sendToEveryone(new UpdateChunkCapabilityMessage(cap, chunk.getPos().x, chunk.getPos().z));
+        ChunkCapSyncHelper.queueUpdate(chunk);
         return true;
     }
 
@@ -498,7 +500,7 @@ public final class ChunkDataHelper
             cap.removeBuildingClaim(id, buildingPos, chunk);
         }
 
-        Network.getNetwork().sendToEveryone(new UpdateChunkCapabilityMessage(cap, chunk.getPos().x, chunk.getPos().z));
+        ChunkCapSyncHelper.queueUpdate(chunk);
         return true;
     }
 }
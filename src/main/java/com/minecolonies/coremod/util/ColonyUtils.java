@@ -1,50 +0,0 @@
-package com.minecolonies.coremod.util;
-
-import com.ldtteam.structures.blueprints.v1.Blueprint;
-import com.minecolonies.api.util.BlockPosUtil;
-import net.minecraft.util.Mirror;
-import net.minecraft.util.Tuple;
-import net.minecraft.util.math.BlockPos;
-import net.minecraft.world.World;
-
-/**
- * Contains colony specific utility.
- */
-public final class ColonyUtils
-{
-    /**
-     * Private constructor to hide implicit one.
-     */
-    private ColonyUtils()
-    {
-        /*
-         * Intentionally left empty.
-         */
-    }
-
-    /**
-     * Calculated the corner of a building.
-     *
-     * @param pos        the central position.
-     * @param world      the world.
-     * @param blueprint  the structureWrapper.
-     * @param rotation   the rotation.
-     * @param isMirrored if its mirrored.
-     * @return a tuple with the required corners.
-     */
-    public static Tuple<BlockPos, BlockPos> calculateCorners(
-      final BlockPos pos,
-      final World world,
-      final Blueprint blueprint,
-      final int rotation,
-      final boolean isMirrored)
-    {
-        blueprint.rotateWithMirror(BlockPosUtil.getRotationFromRotations(rotation), isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, world);
-        final BlockPos zeroPos = pos.subtract(blueprint.getPrimaryBlockOffset());
-
-        final BlockPos pos1 = new BlockPos(zeroPos.getX() - 1, zeroPos.getY(), zeroPos.getZ() - 1);
-        final BlockPos pos2 = new BlockPos(zeroPos.getX() + blueprint.getSizeX(), zeroPos.getY() + blueprint.getSizeY(), zeroPos.getZ() + blueprint.getSizeZ());
-
-        return new Tuple<>(pos1, pos2);
-    }
-}